@@ -1,6 +1,7 @@
 package seedu.thanepark;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,6 +11,7 @@ import com.google.common.eventbus.Subscribe;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.thanepark.commons.core.CommandsLogCenter;
 import seedu.thanepark.commons.core.Config;
 import seedu.thanepark.commons.core.EventsCenter;
 import seedu.thanepark.commons.core.LogsCenter;
@@ -27,12 +29,13 @@ import seedu.thanepark.model.ReadOnlyThanePark;
 import seedu.thanepark.model.ThanePark;
 import seedu.thanepark.model.UserPrefs;
 import seedu.thanepark.model.util.SampleDataUtil;
+import seedu.thanepark.storage.BinaryThaneParkStorage;
+import seedu.thanepark.storage.JournaledThaneParkStorage;
 import seedu.thanepark.storage.JsonUserPrefsStorage;
 import seedu.thanepark.storage.Storage;
 import seedu.thanepark.storage.StorageManager;
 import seedu.thanepark.storage.ThaneParkStorage;
 import seedu.thanepark.storage.UserPrefsStorage;
-import seedu.thanepark.storage.XmlThaneParkStorage;
 import seedu.thanepark.ui.Ui;
 import seedu.thanepark.ui.UiManager;
 
@@ -64,8 +67,9 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        ThaneParkStorage thaneParkStorage = new XmlThaneParkStorage(userPrefs.getThaneParkFilePath());
-        storage = new StorageManager(thaneParkStorage, userPrefsStorage);
+        ThaneParkStorage thaneParkStorage = initThaneParkStorage(userPrefs);
+        storage = new StorageManager(thaneParkStorage, userPrefsStorage, userPrefs.getSaveQuietPeriodMillis(),
+                userPrefs.getSaveMaxDelayMillis());
 
         initLogging(config);
 
@@ -78,6 +82,34 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns the {@code ThaneParkStorage} for the data file format in {@code userPrefs}.
+     * The binary format is kept in its own file, given by {@link BinaryThaneParkStorage#getBinaryFilePath(Path)}, so
+     * that it never overwrites the xml file. When there is no binary file yet, the xml file of the same name is
+     * converted if there is one.
+     */
+    protected ThaneParkStorage initThaneParkStorage(UserPrefs userPrefs) {
+        Path thaneParkFilePath = userPrefs.getThaneParkFilePath();
+        if (userPrefs.getThaneParkFileFormat() != UserPrefs.DataFileFormat.BINARY) {
+            return new JournaledThaneParkStorage(thaneParkFilePath);
+        }
+
+        Path binaryFilePath = BinaryThaneParkStorage.getBinaryFilePath(thaneParkFilePath);
+        String fileName = binaryFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex < 0 ? fileName : fileName.substring(0, extensionIndex);
+        Path xmlFilePath = binaryFilePath.resolveSibling(baseName + ".xml");
+        if (!Files.exists(binaryFilePath) && Files.exists(xmlFilePath)) {
+            try {
+                BinaryThaneParkStorage.convertFromXml(xmlFilePath, binaryFilePath);
+                logger.info("Converted " + xmlFilePath + " to " + binaryFilePath);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Could not convert " + xmlFilePath + " to " + binaryFilePath + ": " + e);
+            }
+        }
+        return new BinaryThaneParkStorage(binaryFilePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s thanepark book and {@code userPrefs}. <br>
      * The data from the sample thanepark book will be used instead if {@code storage}'s thanepark book is not found,
@@ -190,6 +222,9 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping ThanePark ] =============================");
         ui.stop();
+        logic.stop();
+        storage.flushPendingSaves();
+        CommandsLogCenter.close();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -201,6 +236,11 @@ public class MainApp extends Application {
 
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        if (!Platform.isFxApplicationThread()) {
+            // raised by a command running in the background, which stop() waits for
+            Platform.runLater(() -> handleExitAppRequestEvent(event));
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         stop();
     }
@@ -0,0 +1,123 @@
+package seedu.thanepark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.thanepark.commons.core.CommandsLogCenter;
+import seedu.thanepark.commons.core.LogsCenter;
+import seedu.thanepark.commons.core.StorageFileCreatingClass;
+import seedu.thanepark.commons.exceptions.DataConversionException;
+import seedu.thanepark.commons.util.FileUtil;
+import seedu.thanepark.commons.util.StringUtil;
+import seedu.thanepark.logic.LogicManager;
+import seedu.thanepark.logic.ScriptResult;
+import seedu.thanepark.model.ModelManager;
+import seedu.thanepark.model.ReadOnlyThanePark;
+import seedu.thanepark.model.util.SampleDataUtil;
+import seedu.thanepark.storage.JsonUserPrefsStorage;
+import seedu.thanepark.storage.StorageManager;
+import seedu.thanepark.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands against the ThanePark data file without starting the GUI.
+ * Usage: {@code ScriptRunner SCRIPT_FILE [--config CONFIG_FILE] [--commit-every COUNT]}
+ */
+public class ScriptRunner extends MainApp {
+
+    public static final String MESSAGE_USAGE =
+            "Usage: ScriptRunner SCRIPT_FILE [--config CONFIG_FILE] [--commit-every COUNT]";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private static final String OPTION_CONFIG = "--config";
+    private static final String OPTION_COMMIT_EVERY = "--commit-every";
+
+    /**
+     * Loads the data file, runs the script at {@code scriptPath} and saves the result once.
+     * @throws IOException If the data file or script cannot be read.
+     * @throws DataConversionException If the data file is not in the correct format.
+     */
+    public ScriptResult run(Path scriptPath, Path configPath, int commitInterval)
+            throws IOException, DataConversionException {
+        config = initConfig(configPath);
+        StorageFileCreatingClass.disableTestMode();
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        userPrefs = initPrefs(userPrefsStorage);
+        storage = new StorageManager(initThaneParkStorage(userPrefs), userPrefsStorage,
+                userPrefs.getSaveQuietPeriodMillis(), userPrefs.getSaveMaxDelayMillis());
+
+        // unlike the GUI, a data file that cannot be read is not replaced by an empty one
+        Optional<ReadOnlyThanePark> thaneParkOptional = storage.readThanePark();
+        model = new ModelManager(thaneParkOptional.orElseGet(SampleDataUtil::getSampleThanePark), userPrefs);
+        logic = new LogicManager(model);
+
+        try {
+            return logic.executeScript(scriptPath, commitInterval);
+        } finally {
+            storage.flushPendingSaves();
+            CommandsLogCenter.close();
+        }
+    }
+
+    /**
+     * Returns the value following the option at {@code args[i]}, printing the usage and exiting if there is none.
+     */
+    private static String getOptionValue(String[] args, int i) {
+        if (i + 1 >= args.length) {
+            exitWithUsage();
+        }
+        return args[i + 1];
+    }
+
+    private static void exitWithUsage() {
+        System.err.println(MESSAGE_USAGE);
+        System.exit(2);
+    }
+
+    /**
+     * Runs the script given in {@code args} and prints how it went. Exits with 1 if any command in the script failed,
+     * or 2 if the script could not be run.
+     */
+    public static void main(String[] args) {
+        Path scriptPath = null;
+        Path configPath = null;
+        int commitInterval = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (OPTION_CONFIG.equals(args[i])) {
+                String configPathValue = getOptionValue(args, i++);
+                if (!FileUtil.isValidPath(configPathValue)) {
+                    exitWithUsage();
+                }
+                configPath = Paths.get(configPathValue);
+            } else if (OPTION_COMMIT_EVERY.equals(args[i])) {
+                try {
+                    commitInterval = Integer.parseInt(getOptionValue(args, i++));
+                } catch (NumberFormatException e) {
+                    exitWithUsage();
+                }
+            } else if (scriptPath == null && FileUtil.isValidPath(args[i])) {
+                scriptPath = Paths.get(args[i]);
+            } else {
+                exitWithUsage();
+            }
+        }
+        if (scriptPath == null || commitInterval < 0) {
+            exitWithUsage();
+        }
+
+        try {
+            ScriptResult result = new ScriptRunner().run(scriptPath, configPath, commitInterval);
+            System.out.println(result.getReport());
+            System.exit(result.getFailures().isEmpty() ? 0 : 1);
+        } catch (DataConversionException | IOException e) {
+            logger.severe("Script not run: " + StringUtil.getDetails(e));
+            System.err.println("Script not run: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+}
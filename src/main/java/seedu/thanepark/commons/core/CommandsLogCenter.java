@@ -1,119 +1,734 @@
 package seedu.thanepark.commons.core;
 
-import java.io.File;
-import java.io.FileWriter;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.PropertyException;
-import javax.xml.bind.Unmarshaller;
 
+import seedu.thanepark.commons.exceptions.IllegalValueException;
 import seedu.thanepark.model.logging.CommandEntry;
+import seedu.thanepark.model.logging.ExecutedCommand;
 import seedu.thanepark.storage.XmlAdaptedCommandEntry;
 import seedu.thanepark.storage.XmlListOfCommandEntry;
 
 /**
- * Logs down command history into a xml file. Stops writing when file size exceeds 5MB, soft limit.
- * Will not retrieve entries if file exceeds 2 * 5MB.
+ * Logs down command history into a folder of append-only segment files.
+ * Logged entries are buffered and written together by a background flusher, or once enough of them have been
+ * buffered. A new segment is started once the current one is too big or too old, and the oldest segments are deleted
+ * once there are too many of them, so logging never stops.
+ * Each segment has a sparse index of the time and position of every few records, so that the entries in a time
+ * window, or the last few entries, are found without reading the rest of the log. The index also lets the log be read
+ * from the most recent entry backwards, a few kilobytes at a time.
  */
 public class CommandsLogCenter extends StorageFileCreatingClass {
     public static final String STANDARDIZED_ENCODING = "UTF-8";
-    public static final String STANDARDIZED_XML_HEADER = String.format("<?xml version=\"1.0\" encoding=\"%1$s\"?>",
-            STANDARDIZED_ENCODING);
-    public static final String LIST_HEADER = "<xmlListOfCommandEntry>\n";
-    public static final String LOG_FILE = "commandHistory.xml";
+    public static final String LOG_FOLDER = "commandHistory";
+    public static final String LEGACY_LOG_FILE = "commandHistory.xml";
     public static final String MESSAGE_LOG_INACCESSIBLE = "%1$s cannot be accessed";
 
-    private static final String LIST_ENDING = "\n</xmlListOfCommandEntry>\n";
-    private static final String MESSAGE_FILE_SIZE_EXCEEDED = "Maximum file size exceeded, %1$s";
-    private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final Logger logger = LogsCenter.getLogger(CommandsLogCenter.class);
 
-    private static File file;
+    private static final String LEGACY_LIST_ENDING = "\n</xmlListOfCommandEntry>\n";
+
+    private static final String SEGMENT_FILE_EXTENSION = ".log";
+    private static final String INDEX_FILE_EXTENSION = ".idx";
+    private static final String SEGMENT_FILE_FORMAT = "%010d" + SEGMENT_FILE_EXTENSION;
+    private static final String SEGMENT_FILE_PATTERN = "\\d{10}\\.log";
+    private static final int SEGMENT_MAGIC = 0x54504c47; // "TPLG"
+    private static final int SEGMENT_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+    private static final int MIN_PAYLOAD_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES + Long.BYTES;
+    private static final int INDEX_INTERVAL_BYTES = 4 * 1024;
+
+    private static final long DEFAULT_SEGMENT_MAX_BYTES = (long) Math.pow(2, 20); // 1MB
+    private static final Duration DEFAULT_SEGMENT_MAX_AGE = Duration.ofDays(1);
+    private static final int DEFAULT_MAX_SEGMENTS = 16;
+    private static final long GROUP_COMMIT_DELAY_MILLIS = 200;
+    private static final int GROUP_COMMIT_MAX_BYTES = 64 * 1024;
+
+    private static final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "CommandsLogCenter-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static long segmentMaxBytes = DEFAULT_SEGMENT_MAX_BYTES;
+    private static Duration segmentMaxAge = DEFAULT_SEGMENT_MAX_AGE;
+    private static int maxSegments = DEFAULT_MAX_SEGMENTS;
+
+    private static Path folder;
     private static boolean isLogAccessible = true;
+    private static FileChannel activeSegment;
+    private static Path activeSegmentPath;
+    private static long activeSequence;
+    private static Instant activeSegmentCreated;
+    private static long activeSegmentSize;
+    private static long activeRecordCount;
+    private static long lastIndexedOffset;
+    private static final ByteArrayOutputStream pendingBytes = new ByteArrayOutputStream();
+    private static final DataOutputStream pending = new DataOutputStream(pendingBytes);
+    private static final List<Instant> pendingTimes = new ArrayList<>();
+    private static final List<Integer> pendingOffsets = new ArrayList<>();
+    private static ScheduledFuture<?> scheduledFlush;
 
     /**
-     * Initializes, create the command log file with header if it does not exist.
+     * Initializes, opening the newest segment of the command log for appending, or creating the first segment if
+     * there is none. Entries in a legacy xml command log are moved into the new log.
      */
-    public static void init() {
+    public static synchronized void init() {
         try {
-            file = new File(getFilePathString(LOG_FILE));
-            if (!file.exists()) {
-                isLogAccessible = isLogAccessible && createFile(getFilePathString(LOG_FILE));
-                FileWriter fileWriter = new FileWriter(file, true);
-                fileWriter.append(STANDARDIZED_XML_HEADER + "\n");
-                fileWriter.append(LIST_HEADER);
-                fileWriter.close();
+            Path newFolder = getFilePath(LOG_FOLDER);
+            if (activeSegment != null && activeSegment.isOpen() && newFolder.equals(folder)) {
+                return;
+            }
+            closeActiveSegment();
+            folder = newFolder;
+            Files.createDirectories(folder);
+
+            List<Path> segments = getSegmentFilePaths();
+            if (segments.isEmpty()) {
+                openNewSegment(1);
+                migrateLegacyLog();
+            } else {
+                openLastSegment(segments.get(segments.size() - 1));
             }
+            isLogAccessible = true;
         } catch (IOException ie) {
-            ie.printStackTrace();
+            logger.warning("Failed to open command log: " + ie.getMessage());
+            closeActiveSegment();
+            isLogAccessible = false;
+        }
+    }
+
+    /**
+     * Sets when a new segment is started and how many segments are kept.
+     * Takes effect from the next write to the log.
+     */
+    static synchronized void setRotationPolicy(long segmentMaxBytes, Duration segmentMaxAge, int maxSegments) {
+        CommandsLogCenter.segmentMaxBytes = segmentMaxBytes;
+        CommandsLogCenter.segmentMaxAge = segmentMaxAge;
+        CommandsLogCenter.maxSegments = maxSegments;
+    }
+
+    /**
+     * Restores the default rotation policy.
+     */
+    static void resetRotationPolicy() {
+        setRotationPolicy(DEFAULT_SEGMENT_MAX_BYTES, DEFAULT_SEGMENT_MAX_AGE, DEFAULT_MAX_SEGMENTS);
+    }
+
+    /**
+     * Adds the given commandEntry to the log. It is written to file together with the entries logged around the same
+     * time, at most {@value #GROUP_COMMIT_DELAY_MILLIS}ms later. Throws IOException if the log cannot be accessed.
+     */
+    public static synchronized void log(CommandEntry commandEntry) throws IOException {
+        checkLogAccessible();
+        appendToPending(commandEntry);
+        if (pendingBytes.size() >= GROUP_COMMIT_MAX_BYTES) {
+            flush();
+        } else if (scheduledFlush == null) {
+            scheduledFlush = flusher.schedule(CommandsLogCenter::flushInBackground, GROUP_COMMIT_DELAY_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes all logged entries that have not been written yet to file, starting a new segment first if the current
+     * one is full or too old.
+     */
+    public static synchronized void flush() throws IOException {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (pendingBytes.size() == 0 || activeSegment == null) {
+            return;
+        }
+
+        try {
+            if (activeSegmentSize > SEGMENT_HEADER_BYTES
+                    && (activeSegmentSize + pendingBytes.size() > segmentMaxBytes
+                    || !Instant.now().isBefore(activeSegmentCreated.plus(segmentMaxAge)))) {
+                rotate();
+            }
+
+            List<IndexPoint> newIndexPoints = new ArrayList<>();
+            long indexedOffset = lastIndexedOffset;
+            for (int i = 0; i < pendingTimes.size(); i++) {
+                long offset = activeSegmentSize + pendingOffsets.get(i);
+                if (indexedOffset < 0 || offset - indexedOffset >= INDEX_INTERVAL_BYTES) {
+                    newIndexPoints.add(new IndexPoint(pendingTimes.get(i), offset, activeRecordCount + i));
+                    indexedOffset = offset;
+                }
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(pendingBytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                activeSegment.write(buffer);
+            }
+            activeSegment.force(false);
+            activeSegmentSize += buffer.limit();
+            activeRecordCount += pendingTimes.size();
+            lastIndexedOffset = indexedOffset;
+            writeIndexPoints(getIndexFilePath(activeSegmentPath), newIndexPoints, StandardOpenOption.APPEND);
         } finally {
-            isLogAccessible = file.exists() && file.canWrite();
+            pendingBytes.reset();
+            pendingTimes.clear();
+            pendingOffsets.clear();
         }
     }
 
     /**
-     * Writes the given xmlCommandEntryString to file. Throws IOException if file does not exist or cannot be written.
+     * Flushes the log from the background flusher, where failures can only be reported.
      */
-    public static void log(CommandEntry commandEntry) throws IOException, JAXBException {
-        if (!isLogAccessible) {
-            throw new IOException(String.format(MESSAGE_LOG_INACCESSIBLE, getFilePathString(LOG_FILE)));
+    private static synchronized void flushInBackground() {
+        scheduledFlush = null;
+        try {
+            flush();
+        } catch (IOException ie) {
+            logger.warning("Failed to write command log: " + ie.getMessage());
+        }
+    }
+
+    /**
+     * Returns all entries in the command log from the earliest to the most recent.
+     */
+    public static synchronized List<CommandEntry> retrieve() throws IOException {
+        checkLogAccessible();
+        flush();
+        List<CommandEntry> commandEntries = new ArrayList<>();
+        for (Path segment : getSegmentFilePaths()) {
+            scanSegment(segment, SEGMENT_HEADER_BYTES, (offset, payload) -> commandEntries.add(decodePayload(payload)));
+        }
+        return commandEntries;
+    }
+
+    /**
+     * Returns the entries in the command log logged from {@code from} (inclusive) to {@code to} (exclusive), from the
+     * most recent to the earliest. The entries are read as they are iterated over, going back through each segment
+     * one index point at a time, so that only the few kilobytes of records after one index point are held at once.
+     * Entries logged after this is called are not included, and iterating stops early if the segments left to read
+     * are deleted as the log rotates. Iterating throws {@code UncheckedIOException} if a segment cannot be read.
+     */
+    public static synchronized Iterable<CommandEntry> retrieveNewestFirst(Instant from, Instant to)
+            throws IOException {
+        checkLogAccessible();
+        flush();
+        List<Path> segments = getSegmentFilePaths();
+        List<Block> blocks = new ArrayList<>();
+        Instant nextBlockStart = null;
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Path segment = segments.get(i);
+            List<IndexPoint> index = readIndex(segment);
+            long blockEnd = segment.equals(activeSegmentPath) ? activeSegmentSize : Long.MAX_VALUE;
+            for (int j = index.size() - 1; j >= 0; j--) {
+                IndexPoint indexPoint = index.get(j);
+                // entries are logged in order, so a block only holds entries up to the start of the next block
+                if (nextBlockStart != null && nextBlockStart.isBefore(from)) {
+                    return () -> new NewestFirstIterator(blocks, from, to);
+                }
+                if (indexPoint.time.isBefore(to)) {
+                    blocks.add(new Block(segment, indexPoint.offset, blockEnd));
+                }
+                nextBlockStart = indexPoint.time;
+                blockEnd = indexPoint.offset;
+            }
+        }
+        return () -> new NewestFirstIterator(blocks, from, to);
+    }
+
+    /**
+     * Writes the remaining entries to file and closes the command log. The log is opened again by {@link #init()}.
+     */
+    public static synchronized void close() {
+        try {
+            flush();
+        } catch (IOException ie) {
+            logger.warning("Failed to write command log: " + ie.getMessage());
+        }
+        closeActiveSegment();
+    }
+
+    /**
+     * Deletes all segments of the command log, including entries that have not been written yet.
+     */
+    public static synchronized boolean delete() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        pendingBytes.reset();
+        pendingTimes.clear();
+        pendingOffsets.clear();
+        closeActiveSegment();
+        try {
+            for (Path segment : getSegmentFilePaths()) {
+                Files.delete(segment);
+                Files.deleteIfExists(getIndexFilePath(segment));
+            }
+            return true;
+        } catch (IOException ie) {
+            logger.warning("Failed to delete command log: " + ie.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Returns the segment files of the command log, from the earliest to the most recent.
+     */
+    public static synchronized List<Path> getSegmentFilePaths() throws IOException {
+        Path logFolder = folder == null ? getFilePath(LOG_FOLDER) : folder;
+        if (!Files.isDirectory(logFolder)) {
+            return new ArrayList<>();
         }
-        if (file.length() > MAX_FILE_SIZE_IN_BYTES) {
-            throw new IOException(String.format(MESSAGE_FILE_SIZE_EXCEEDED, String.valueOf(MAX_FILE_SIZE_IN_BYTES)));
+        try (Stream<Path> files = Files.list(logFolder)) {
+            return files.filter(file -> file.getFileName().toString().matches(SEGMENT_FILE_PATTERN))
+                    .sorted()
+                    .collect(Collectors.toList());
         }
-        XmlAdaptedCommandEntry xmlCommandEntry = new XmlAdaptedCommandEntry(commandEntry);
-        JAXBContext context = JAXBContext.newInstance(xmlCommandEntry.getClass());
-        StringWriter stringWriter = new StringWriter();
-        Marshaller marshaller = context.createMarshaller();
-        standardizeXmlOutput(marshaller);
-        marshaller.marshal(xmlCommandEntry, stringWriter);
+    }
 
-        FileWriter fileWriter = new FileWriter(file, true);
-        fileWriter.append(stringWriter.toString() + "\n");
-        fileWriter.close();
+    /**
+     * Returns the index file of {@code segment}.
+     */
+    public static Path getIndexFilePath(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return segment.resolveSibling(fileName.replace(SEGMENT_FILE_EXTENSION, INDEX_FILE_EXTENSION));
     }
 
     /**
-     * Returns a XmlListOfCommandEntry parsed from the command history log file. If file size exceeds twice of size
-     * limit, IOException will be thrown.
+     * Throws IOException if the log cannot be accessed.
      */
-    public static XmlListOfCommandEntry retrieve() throws IOException, JAXBException {
+    private static void checkLogAccessible() throws IOException {
         if (!isLogAccessible) {
-            throw new IOException(String.format(MESSAGE_LOG_INACCESSIBLE, getFilePathString(LOG_FILE)));
+            throw new IOException(String.format(MESSAGE_LOG_INACCESSIBLE, getFilePathString(LOG_FOLDER)));
+        }
+    }
+
+    //// segments
+
+    /**
+     * Closes the current segment and starts a new one, deleting the oldest segments if there are too many.
+     */
+    private static void rotate() throws IOException {
+        closeActiveSegment();
+        openNewSegment(activeSequence + 1);
+        List<Path> segments = getSegmentFilePaths();
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.delete(segments.get(i));
+            Files.deleteIfExists(getIndexFilePath(segments.get(i)));
+        }
+    }
+
+    /**
+     * Creates the segment numbered {@code sequence} and makes it the current segment.
+     */
+    private static void openNewSegment(long sequence) throws IOException {
+        Path segment = folder.resolve(String.format(SEGMENT_FILE_FORMAT, sequence));
+        if (!createFile(segment.toString()) || !createFile(getIndexFilePath(segment).toString())) {
+            throw new IOException(String.format(MESSAGE_LOG_INACCESSIBLE, segment));
+        }
+        Instant created = Instant.now();
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+        header.putInt(SEGMENT_MAGIC).putLong(created.toEpochMilli()).flip();
+
+        FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        activeSegment = channel;
+        activeSegmentPath = segment;
+        activeSequence = sequence;
+        activeSegmentCreated = created;
+        activeSegmentSize = SEGMENT_HEADER_BYTES;
+        activeRecordCount = 0;
+        lastIndexedOffset = -1;
+    }
+
+    /**
+     * Makes the existing {@code segment} the current segment, dropping any incomplete record at its end and
+     * rebuilding its index. A new segment is started after it instead if its header cannot be read.
+     */
+    private static void openLastSegment(Path segment) throws IOException {
+        long sequence = Long.parseLong(segment.getFileName().toString().replace(SEGMENT_FILE_EXTENSION, ""));
+        List<IndexPoint> index = new ArrayList<>();
+        long validLength = buildIndex(segment, index);
+        if (validLength < SEGMENT_HEADER_BYTES) {
+            openNewSegment(sequence + 1);
+            return;
+        }
+
+        FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE);
+        channel.truncate(validLength);
+        channel.position(validLength);
+        activeSegment = channel;
+        activeSegmentPath = segment;
+        activeSequence = sequence;
+        activeSegmentCreated = readSegmentCreated(segment);
+        activeSegmentSize = validLength;
+        activeRecordCount = index.isEmpty() ? 0 : countRecords(segment, index);
+        lastIndexedOffset = index.isEmpty() ? -1 : index.get(index.size() - 1).offset;
+    }
+
+    /**
+     * Closes the current segment, if any.
+     */
+    private static void closeActiveSegment() {
+        if (activeSegment == null) {
+            return;
+        }
+        try {
+            activeSegment.close();
+        } catch (IOException ie) {
+            logger.warning("Failed to close command log: " + ie.getMessage());
+        }
+        activeSegment = null;
+    }
+
+    /**
+     * Returns the time {@code segment} was created, as written in its header.
+     */
+    private static Instant readSegmentCreated(Path segment) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(segment))) {
+            in.readInt();
+            return Instant.ofEpochMilli(in.readLong());
+        }
+    }
+
+    /**
+     * Passes each record in {@code segment} from {@code startOffset}, which must be the start of a record, to
+     * {@code visitor} until it returns false, stopping early at the first record that is incomplete or corrupted.
+     *
+     * @return the offset just after the last record passed to {@code visitor}, or 0 if the header of
+     *     {@code segment} is bad.
+     */
+    private static long scanSegment(Path segment, long startOffset, RecordVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            if (header.hasRemaining() || header.getInt(0) != SEGMENT_MAGIC) {
+                logger.warning("Skipping command log segment with a bad header: " + segment);
+                return 0;
+            }
+
+            channel.position(startOffset);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            long offset = startOffset;
+            CRC32 checksum = new CRC32();
+            while (offset + RECORD_HEADER_BYTES <= fileSize) {
+                int payloadLength = in.readInt();
+                int expectedChecksum = in.readInt();
+                if (payloadLength < MIN_PAYLOAD_BYTES || payloadLength > fileSize - offset - RECORD_HEADER_BYTES) {
+                    break;
+                }
+                byte[] payload = new byte[payloadLength];
+                in.readFully(payload);
+                checksum.reset();
+                checksum.update(payload);
+                if ((int) checksum.getValue() != expectedChecksum) {
+                    break;
+                }
+                if (!visitor.visit(offset, payload)) {
+                    return offset;
+                }
+                offset += RECORD_HEADER_BYTES + payloadLength;
+            }
+            if (offset < fileSize) {
+                logger.warning("Ignoring incomplete or corrupted records at the end of " + segment);
+            }
+            return offset;
+        } catch (EOFException e) {
+            logger.warning("Command log segment ended unexpectedly: " + segment);
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the number of records in {@code segment}, counting only those after the last point of its
+     * {@code index}.
+     */
+    private static long countRecords(Path segment, List<IndexPoint> index) throws IOException {
+        IndexPoint last = index.get(index.size() - 1);
+        long[] count = {last.ordinal};
+        scanSegment(segment, last.offset, (offset, payload) -> {
+            count[0]++;
+            return true;
+        });
+        return count[0];
+    }
+
+    //// index
+
+    /**
+     * Returns the index points of {@code segment}, from the earliest, rebuilding its index file if it is missing or
+     * incomplete.
+     */
+    private static List<IndexPoint> readIndex(Path segment) throws IOException {
+        Path indexFile = getIndexFilePath(segment);
+        if (!Files.exists(indexFile) || Files.size(indexFile) % INDEX_ENTRY_BYTES != 0
+                || (Files.size(indexFile) == 0 && Files.size(segment) > SEGMENT_HEADER_BYTES)) {
+            List<IndexPoint> index = new ArrayList<>();
+            buildIndex(segment, index);
+            return index;
+        }
+
+        byte[] bytes = Files.readAllBytes(indexFile);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        List<IndexPoint> index = new ArrayList<>(bytes.length / INDEX_ENTRY_BYTES);
+        while (buffer.hasRemaining()) {
+            Instant time = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            index.add(new IndexPoint(time, buffer.getLong(), buffer.getLong()));
+        }
+        return index;
+    }
+
+    /**
+     * Scans all of {@code segment} to find its index points, adds them to {@code index} and writes them to its index
+     * file.
+     *
+     * @return the offset just after the last good record of {@code segment}, or 0 if its header is bad.
+     */
+    private static long buildIndex(Path segment, List<IndexPoint> index) throws IOException {
+        long[] ordinal = {0};
+        long validLength = scanSegment(segment, SEGMENT_HEADER_BYTES, (offset, payload) -> {
+            if (index.isEmpty() || offset - index.get(index.size() - 1).offset >= INDEX_INTERVAL_BYTES) {
+                index.add(new IndexPoint(decodeTime(payload), offset, ordinal[0]));
+            }
+            ordinal[0]++;
+            return true;
+        });
+        writeIndexPoints(getIndexFilePath(segment), index, StandardOpenOption.TRUNCATE_EXISTING);
+        return validLength;
+    }
+
+    /**
+     * Writes {@code indexPoints} to {@code indexFile}, either appending them or replacing its content as given by
+     * {@code mode}.
+     */
+    private static void writeIndexPoints(Path indexFile, List<IndexPoint> indexPoints, StandardOpenOption mode)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(indexPoints.size() * INDEX_ENTRY_BYTES);
+        for (IndexPoint indexPoint : indexPoints) {
+            buffer.putLong(indexPoint.time.getEpochSecond()).putInt(indexPoint.time.getNano())
+                    .putLong(indexPoint.offset).putLong(indexPoint.ordinal);
+        }
+        Files.write(indexFile, buffer.array(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode);
+    }
+
+    //// records
+
+    /**
+     * Adds {@code commandEntry} to the entries waiting to be written to file.
+     */
+    private static void appendToPending(CommandEntry commandEntry) throws IOException {
+        pendingTimes.add(commandEntry.getTimeOfEntry());
+        pendingOffsets.add(pendingBytes.size());
+        writeRecord(pending, commandEntry);
+    }
+
+    /**
+     * Writes {@code commandEntry} to {@code out} as a record: the length and checksum of its payload, then the
+     * payload holding the time of the entry and the executed command.
+     */
+    private static void writeRecord(DataOutputStream out, CommandEntry commandEntry) throws IOException {
+        Instant timeOfEntry = commandEntry.getTimeOfEntry();
+        byte[] command = commandEntry.getExecutedCommand().toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(MIN_PAYLOAD_BYTES + command.length);
+        payload.putLong(timeOfEntry.getEpochSecond()).putInt(timeOfEntry.getNano()).put(command);
+
+        CRC32 checksum = new CRC32();
+        checksum.update(payload.array());
+        out.writeInt(payload.capacity());
+        out.writeInt((int) checksum.getValue());
+        out.write(payload.array());
+    }
+
+    /**
+     * Returns the time of the entry held by a record payload written by
+     * {@link #writeRecord(DataOutputStream, CommandEntry)}.
+     */
+    private static Instant decodeTime(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        return Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+    }
+
+    /**
+     * Returns the CommandEntry held by a record payload written by
+     * {@link #writeRecord(DataOutputStream, CommandEntry)}.
+     */
+    private static CommandEntry decodePayload(byte[] payload) {
+        String command = new String(payload, MIN_PAYLOAD_BYTES, payload.length - MIN_PAYLOAD_BYTES,
+                StandardCharsets.UTF_8);
+        return new CommandEntry(decodeTime(payload), new ExecutedCommand(command));
+    }
+
+    //// legacy log
+
+    /**
+     * Moves the entries of the legacy xml command log, if there is one, into the current segment and deletes it.
+     * The legacy log is left as it is if it cannot be read.
+     */
+    private static void migrateLegacyLog() throws IOException {
+        Path legacyLog = getFilePath(LEGACY_LOG_FILE);
+        if (!Files.exists(legacyLog)) {
+            return;
         }
-        if (file.length() > 2 * MAX_FILE_SIZE_IN_BYTES) {
-            throw new IOException(String.format(MESSAGE_FILE_SIZE_EXCEEDED,
-                String.valueOf(2 * MAX_FILE_SIZE_IN_BYTES)));
+        try {
+            String fileData = new String(Files.readAllBytes(legacyLog), STANDARDIZED_ENCODING) + LEGACY_LIST_ENDING;
+            XmlListOfCommandEntry xmlListOfCommandEntry = (XmlListOfCommandEntry) JAXBContext
+                    .newInstance(XmlListOfCommandEntry.class).createUnmarshaller()
+                    .unmarshal(new StringReader(fileData));
+            if (xmlListOfCommandEntry.getValue() != null) {
+                for (XmlAdaptedCommandEntry xmlAdaptedCommandEntry : xmlListOfCommandEntry.getValue()) {
+                    appendToPending(xmlAdaptedCommandEntry.toModelType());
+                }
+            }
+            flush();
+            Files.delete(legacyLog);
+            logger.info("Moved legacy command log " + legacyLog + " into " + folder);
+        } catch (JAXBException | IllegalValueException | IllegalArgumentException e) {
+            pendingBytes.reset();
+            pendingTimes.clear();
+            pendingOffsets.clear();
+            logger.warning("Failed to read legacy command log " + legacyLog + ": " + e.getMessage());
         }
-        byte[] encoded = Files.readAllBytes(getFilePath(LOG_FILE));
-        String fileData = new String(encoded, STANDARDIZED_ENCODING) + LIST_ENDING;
-        StringReader stringReader = new StringReader(fileData);
+    }
 
-        JAXBContext jaxbContext = JAXBContext.newInstance(XmlListOfCommandEntry.class);
-        Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-        return (XmlListOfCommandEntry) unmarshaller.unmarshal(stringReader);
+    /**
+     * Receives the records of a segment one at a time.
+     */
+    @FunctionalInterface
+    private interface RecordVisitor {
+        /**
+         * Receives the record at {@code offset} with the given {@code payload}.
+         *
+         * @return false to stop receiving records.
+         */
+        boolean visit(long offset, byte[] payload);
     }
 
     /**
-     * Deletes the log file for command history.
+     * The records of a segment from one index point up to the next, or up to the end of the segment.
      */
-    public static boolean delete() {
-        return file.delete();
+    private static class Block {
+        private final Path segment;
+        private final long startOffset;
+        private final long endOffset;
+
+        Block(Path segment, long startOffset, long endOffset) {
+            this.segment = segment;
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+        }
     }
 
     /**
-     * Sets the marshaller to use a standard XML output.
+     * Iterates over the entries in a time window of {@code blocks}, which are from the most recent, reading one block
+     * at a time and going through its entries from the most recent.
      */
-    private static void standardizeXmlOutput(Marshaller marshaller) throws PropertyException {
-        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-        marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
-        marshaller.setProperty(Marshaller.JAXB_ENCODING, "UTF-8");
-        marshaller.setProperty("com.sun.xml.bind.xmlHeaders", CommandsLogCenter.STANDARDIZED_XML_HEADER);
+    private static class NewestFirstIterator implements Iterator<CommandEntry> {
+        private final Iterator<Block> blocks;
+        private final Instant from;
+        private final Instant to;
+        private final Deque<CommandEntry> blockEntries = new ArrayDeque<>();
+
+        NewestFirstIterator(List<Block> blocks, Instant from, Instant to) {
+            this.blocks = blocks.iterator();
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (blockEntries.isEmpty() && blocks.hasNext()) {
+                readBlock(blocks.next());
+            }
+            return !blockEntries.isEmpty();
+        }
+
+        @Override
+        public CommandEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return blockEntries.pop();
+        }
+
+        /**
+         * Reads the entries of {@code block} in the time window, so that the most recent comes first.
+         */
+        private void readBlock(Block block) {
+            try {
+                scanSegment(block.segment, block.startOffset, (offset, payload) -> {
+                    if (offset >= block.endOffset) {
+                        return false;
+                    }
+                    Instant timeOfEntry = decodeTime(payload);
+                    if (!timeOfEntry.isBefore(from) && timeOfEntry.isBefore(to)) {
+                        blockEntries.push(decodePayload(payload));
+                    }
+                    return true;
+                });
+            } catch (NoSuchFileException nsfe) {
+                logger.info("Command log segment was deleted while being read: " + block.segment);
+                while (blocks.hasNext()) {
+                    blocks.next();
+                }
+            } catch (IOException ie) {
+                throw new UncheckedIOException(ie);
+            }
+        }
+    }
+
+    /**
+     * The time and position of a record in a segment, and the number of records before it in the segment.
+     */
+    private static class IndexPoint {
+        private final Instant time;
+        private final long offset;
+        private final long ordinal;
+
+        IndexPoint(Instant time, long offset, long ordinal) {
+            this.time = time;
+            this.offset = offset;
+            this.ordinal = ordinal;
+        }
     }
 
 }
@@ -0,0 +1,77 @@
+package seedu.thanepark.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * The clock that the days of the park, such as the days since a ride was last maintained, are counted by.
+ * The current day is read from the clock once, and then again at each midnight, and kept as an epoch day, so that
+ * {@link #today()} only reads a field. The clock can be replaced, e.g. by a fixed clock in tests, and the current day
+ * is read from the new clock at once.
+ */
+public class ParkClock {
+    private static final Logger logger = LogsCenter.getLogger(ParkClock.class);
+
+    private static final ScheduledExecutorService midnightTicker = Executors.newSingleThreadScheduledExecutor(
+        runnable -> {
+            Thread thread = new Thread(runnable, "ThanePark midnight ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private static Clock clock;
+    private static volatile long today;
+    private static ScheduledFuture<?> nextTick;
+
+    static {
+        setClock(Clock.systemDefaultZone());
+    }
+
+    private ParkClock() {}
+
+    /**
+     * Returns the current day, as a count of days since the epoch.
+     */
+    public static long today() {
+        return today;
+    }
+
+    public static synchronized Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Counts days by {@code clock} from now on.
+     */
+    public static synchronized void setClock(Clock clock) {
+        requireNonNull(clock);
+        ParkClock.clock = clock;
+        tick();
+    }
+
+    /**
+     * Reads the current day from the clock, and schedules the next reading for the following midnight.
+     */
+    private static synchronized void tick() {
+        LocalDate date = LocalDate.now(clock);
+        if (date.toEpochDay() != today) {
+            logger.fine("Park day is now " + date);
+        }
+        today = date.toEpochDay();
+
+        if (nextTick != null) {
+            nextTick.cancel(false);
+        }
+        Duration untilMidnight = Duration.between(clock.instant(), date.plusDays(1).atStartOfDay(clock.getZone()));
+        nextTick = midnightTicker.schedule(ParkClock::tick, Math.max(untilMidnight.toMillis(), 0),
+                TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.thanepark.commons.events.logic;
+
+import seedu.thanepark.commons.events.BaseEvent;
+
+/**
+ * Indicates that a command was queued for execution in the background, or that a queued command has finished.
+ */
+public class CommandQueueChangedEvent extends BaseEvent {
+
+    /** The number of commands that are running or waiting to run. */
+    public final int pendingCommandCount;
+
+    public CommandQueueChangedEvent(int pendingCommandCount) {
+        this.pendingCommandCount = pendingCommandCount;
+    }
+
+    @Override
+    public String toString() {
+        return pendingCommandCount + " commands pending";
+    }
+
+}
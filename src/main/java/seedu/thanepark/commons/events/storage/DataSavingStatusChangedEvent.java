@@ -0,0 +1,21 @@
+package seedu.thanepark.commons.events.storage;
+
+import seedu.thanepark.commons.events.BaseEvent;
+
+/**
+ * Indicates that saving data in the background has started or finished.
+ */
+public class DataSavingStatusChangedEvent extends BaseEvent {
+
+    public final boolean hasPendingSave;
+
+    public DataSavingStatusChangedEvent(boolean hasPendingSave) {
+        this.hasPendingSave = hasPendingSave;
+    }
+
+    @Override
+    public String toString() {
+        return hasPendingSave ? "saving pending changes" : "all changes saved";
+    }
+
+}
@@ -93,4 +93,38 @@ public class StringUtil {
                     return false;
                 });
     }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number of
+     * characters to insert, delete or replace to turn one into the other. Characters are compared as given.
+     *   <br>examples:<pre>
+     *       getEditDistance("castle", "castle") == 0
+     *       getEditDistance("castle", "castel") == 2
+     *       getEditDistance("castle", "cattle") == 1
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        // only the previous row of the distances between the prefixes of the two strings is kept
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + replaceCost, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
 }
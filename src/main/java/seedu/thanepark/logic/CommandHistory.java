@@ -8,20 +8,16 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.logging.Logger;
 
-import javax.xml.bind.JAXBException;
-
 import seedu.thanepark.commons.core.CommandsLogCenter;
 import seedu.thanepark.commons.core.LogsCenter;
-import seedu.thanepark.commons.exceptions.IllegalValueException;
 import seedu.thanepark.model.logging.CommandEntry;
 import seedu.thanepark.model.logging.ExecutedCommand;
-import seedu.thanepark.storage.XmlAdaptedCommandEntry;
 
 /**
  * Stores the history of commands executed.
  */
 public class CommandHistory {
-    private static final String MESSAGE_LOG_ERROR = "%1$s when saving command history to file. %2$s";
+    private static final String MESSAGE_LOG_ERROR = "%1$s when accessing command history file. %2$s";
     private static Logger logger = LogsCenter.getLogger(CommandHistory.class);
     private LinkedList<String> userInputHistory;
 
@@ -44,49 +40,50 @@ public class CommandHistory {
     /**
      * Appends {@code userInput} to the list of user input entered. Logs down IOException as warnings.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
         userInputHistory.add(userInput);
         try {
             CommandEntry commandEntry = new CommandEntry(Instant.now(), new ExecutedCommand(userInput));
             CommandsLogCenter.log(commandEntry);
-        } catch (JAXBException | IOException e) {
-            e.printStackTrace();
-            logger.warning(MESSAGE_LOG_ERROR.format(e.getClass().getSimpleName(), e.getMessage()));
+        } catch (IOException e) {
+            logger.warning(String.format(MESSAGE_LOG_ERROR, e.getClass().getSimpleName(), e.getMessage()));
         }
     }
 
     /**
-     * Returns a list of CommandEntry. Will log error message if JAXBException | IOException | IllegalValueException
-     * is met, where the commands log will be deleted and reinitialized.
-     * @return
+     * Returns a list of all CommandEntry in the commands log. Will log error message and return an empty list if
+     * IOException is met.
      */
     public List<CommandEntry> getCommandEntryList() {
-        List<CommandEntry> result = new LinkedList<>();
         try {
-            List<XmlAdaptedCommandEntry> xmlAdaptedCommandEntryList = CommandsLogCenter.retrieve().getValue();
-            if (xmlAdaptedCommandEntryList == null || xmlAdaptedCommandEntryList.isEmpty()) {
-                return result;
-            }
-            for (XmlAdaptedCommandEntry xmlAdaptedCommandEntry : xmlAdaptedCommandEntryList) {
-                result.add(xmlAdaptedCommandEntry.toModelType());
-            }
-        } catch (JAXBException | IOException | IllegalValueException e) {
-            e.printStackTrace();
+            return CommandsLogCenter.retrieve();
+        } catch (IOException e) {
             logger.warning(String.format(MESSAGE_LOG_ERROR, e.getClass().getSimpleName(), e.getMessage()));
-            if (!CommandsLogCenter.delete()) {
-                logger.warning("Failed to recreate Commands Log file.");
-            }
-            CommandsLogCenter.init();
+            return new LinkedList<>();
         }
+    }
 
-        return result;
+    /**
+     * Returns the CommandEntry in the commands log entered from {@code from} (inclusive) to {@code to} (exclusive),
+     * from the most recent, read from the log as they are iterated over. Will log error message and return no
+     * entries if IOException is met.
+     */
+    public Iterable<CommandEntry> getCommandEntriesNewestFirst(Instant from, Instant to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        try {
+            return CommandsLogCenter.retrieveNewestFirst(from, to);
+        } catch (IOException e) {
+            logger.warning(String.format(MESSAGE_LOG_ERROR, e.getClass().getSimpleName(), e.getMessage()));
+            return new LinkedList<>();
+        }
     }
 
     /**
      * Returns a defensive copy of {@code userInputHistory}.
      */
-    public List<String> getHistory() {
+    public synchronized List<String> getHistory() {
         return new LinkedList<>(userInputHistory);
     }
 
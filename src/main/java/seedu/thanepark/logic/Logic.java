@@ -1,8 +1,13 @@
 package seedu.thanepark.logic;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.thanepark.logic.commands.CommandResult;
 import seedu.thanepark.logic.commands.exceptions.CommandException;
+import seedu.thanepark.logic.matchers.CompletionIndex;
 import seedu.thanepark.logic.parser.exceptions.ParseException;
 import seedu.thanepark.model.ride.Ride;
 
@@ -19,9 +24,38 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Queues the command to be executed in the background, after all the commands submitted before it.
+     * A {@code CommandQueueChangedEvent} is raised when the command is queued and when it finishes.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, which completes exceptionally with a {@code CommandException}
+     *     or {@code ParseException} if the command fails.
+     */
+    CompletableFuture<CommandResult> submit(String commandText);
+
+    /**
+     * Stops accepting commands and waits for the commands already submitted to finish.
+     */
+    void stop();
+
+    /**
+     * Runs each line of the script at {@code scriptPath} as a command, skipping blank lines and lines starting with
+     * {@value LogicManager#SCRIPT_COMMENT_PREFIX}. Commands that fail do not stop the script, and undo and redo
+     * commands fail.
+     * The changes are committed for undo/redo once every {@code commitInterval} commands and at the end of the
+     * script, and are saved only once the script ends. Script commands are not added to the command history.
+     * @param commitInterval The number of commands between commits, or 0 to commit only at the end.
+     * @return the number of commands run, how long they took and which of them failed.
+     * @throws IOException If the script cannot be read.
+     */
+    ScriptResult executeScript(Path scriptPath, int commitInterval) throws IOException;
+
     /** Returns an unmodifiable view of the filtered list of rides */
     ObservableList<Ride> getFilteredRideList();
 
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
+
+    /** Returns the index of the command words and ride terms that the command being typed can be completed with */
+    CompletionIndex getCompletionIndex();
 }
@@ -1,13 +1,33 @@
 package seedu.thanepark.logic;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.thanepark.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.thanepark.commons.core.ComponentManager;
 import seedu.thanepark.commons.core.LogsCenter;
+import seedu.thanepark.commons.events.logic.CommandQueueChangedEvent;
 import seedu.thanepark.logic.commands.Command;
 import seedu.thanepark.logic.commands.CommandResult;
+import seedu.thanepark.logic.commands.RedoCommand;
+import seedu.thanepark.logic.commands.UndoCommand;
 import seedu.thanepark.logic.commands.exceptions.CommandException;
+import seedu.thanepark.logic.matchers.CompletionIndex;
 import seedu.thanepark.logic.parser.ThaneParkParser;
 import seedu.thanepark.logic.parser.exceptions.ParseException;
 import seedu.thanepark.model.Model;
@@ -17,16 +37,32 @@ import seedu.thanepark.model.ride.Ride;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    public static final String SCRIPT_COMMENT_PREFIX = "#";
+    public static final String MESSAGE_UNDO_REDO_IN_SCRIPT = "Undo and redo cannot be used in a script, as the changes "
+            + "of a script are committed together rather than after each command.";
+
+    private static final String COMMAND_THREAD_NAME = "ThanePark command executor";
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
+    private final CompletionIndex completionIndex;
     private final ThaneParkParser thaneParkParser;
+    private final ExecutorService commandExecutor;
+    private int pendingCommandCount;
 
     public LogicManager(Model model) {
         this.model = model;
         history = new CommandHistory();
-        thaneParkParser = new ThaneParkParser();
+        completionIndex = new CompletionIndex(model.getThanePark().getRideList());
+        thaneParkParser = new ThaneParkParser(completionIndex);
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, COMMAND_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -40,6 +76,107 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
+    @Override
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> futureResult = new CompletableFuture<>();
+        updatePendingCommandCount(1);
+        try {
+            commandExecutor.execute(() -> executeQueuedCommand(commandText, futureResult));
+        } catch (RejectedExecutionException e) {
+            updatePendingCommandCount(-1);
+            futureResult.completeExceptionally(e);
+        }
+        return futureResult;
+    }
+
+    /**
+     * Executes a command taken off the queue and completes {@code futureResult} with its result.
+     * The queue is updated before {@code futureResult} completes, so that whoever waits for the result sees the
+     * command as finished.
+     */
+    private void executeQueuedCommand(String commandText, CompletableFuture<CommandResult> futureResult) {
+        CommandResult result = null;
+        Exception failure = null;
+        try {
+            result = execute(commandText);
+        } catch (CommandException | ParseException | RuntimeException e) {
+            failure = e;
+        }
+
+        updatePendingCommandCount(-1);
+        if (failure == null) {
+            futureResult.complete(result);
+        } else {
+            futureResult.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Adds {@code change} to the number of pending commands and raises the new number. The event is raised while
+     * holding the lock so that its handlers see the numbers in order.
+     */
+    private synchronized void updatePendingCommandCount(int change) {
+        pendingCommandCount += change;
+        raise(new CommandQueueChangedEvent(pendingCommandCount));
+    }
+
+    @Override
+    public void stop() {
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + STOP_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public ScriptResult executeScript(Path scriptPath, int commitInterval) throws IOException {
+        requireNonNull(scriptPath);
+        checkArgument(commitInterval >= 0, "The commit interval cannot be negative.");
+        logger.info("----------------[SCRIPT][" + scriptPath + "]");
+
+        List<ScriptResult.Failure> failures = new ArrayList<>();
+        int commandCount = 0;
+        long startTime = System.nanoTime();
+        model.startBatch();
+        try (BufferedReader reader = Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(SCRIPT_COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    Command command = thaneParkParser.parseCommand(commandText);
+                    if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                        throw new CommandException(MESSAGE_UNDO_REDO_IN_SCRIPT);
+                    }
+                    command.execute(model, history);
+                } catch (CommandException | ParseException e) {
+                    failures.add(new ScriptResult.Failure(lineNumber, commandText, e.getMessage()));
+                }
+                if (commitInterval > 0 && commandCount % commitInterval == 0) {
+                    model.commitBatch();
+                }
+            }
+        } finally {
+            model.endBatch();
+        }
+
+        ScriptResult result = new ScriptResult(commandCount, Duration.ofNanos(System.nanoTime() - startTime),
+                failures);
+        logger.info(String.format("Script %1$s: %2$d commands, %3$d failed", scriptPath, commandCount,
+                failures.size()));
+        return result;
+    }
+
     @Override
     public ObservableList<Ride> getFilteredRideList() {
         return model.getFilteredRideList();
@@ -49,4 +186,9 @@ public class LogicManager extends ComponentManager implements Logic {
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    @Override
+    public CompletionIndex getCompletionIndex() {
+        return completionIndex;
+    }
 }
@@ -0,0 +1,90 @@
+package seedu.thanepark.logic;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of running a command script: how many commands were run, how long they took, and which of them
+ * failed.
+ */
+public class ScriptResult {
+    private static final String MESSAGE_SUMMARY =
+            "%1$d commands run in %2$d ms (%3$.0f commands/s), %4$d succeeded, %5$d failed.";
+    private static final String MESSAGE_FAILURE = "Line %1$d: %2$s\n    %3$s";
+
+    private final int commandCount;
+    private final Duration elapsed;
+    private final List<Failure> failures;
+
+    public ScriptResult(int commandCount, Duration elapsed, List<Failure> failures) {
+        this.commandCount = commandCount;
+        this.elapsed = elapsed;
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns the number of commands run per second.
+     */
+    public double getThroughput() {
+        long elapsedNanos = Math.max(1, elapsed.toNanos());
+        return commandCount * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns a report of the throughput of the run, followed by each failed command and why it failed.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUMMARY, commandCount, elapsed.toMillis(),
+                getThroughput(), commandCount - failures.size(), failures.size()));
+        for (Failure failure : failures) {
+            report.append("\n").append(failure);
+        }
+        return report.toString();
+    }
+
+    /**
+     * A command in the script that could not be parsed or executed.
+     */
+    public static class Failure {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        public Failure(int lineNumber, String commandText, String message) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_FAILURE, lineNumber, commandText, message);
+        }
+    }
+}
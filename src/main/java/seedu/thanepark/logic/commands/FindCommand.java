@@ -9,7 +9,7 @@ import seedu.thanepark.model.ride.RideContainsKeywordsPredicate;
 
 /**
  * Finds and lists all rides in thane park which name or tags contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive, and may allow a number of typing errors in name keywords.
  */
 public class FindCommand extends Command {
 
@@ -17,8 +17,12 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all rides whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " battle star transformer";
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [d/MAX_TYPING_ERRORS]\n"
+            + "Example: " + COMMAND_WORD + " battle star transformer\n"
+            + "Example: " + COMMAND_WORD + " acelerator d/2";
+
+    public static final String MESSAGE_INVALID_EDIT_DISTANCE = "The number of typing errors allowed should be a "
+            + "number from 0 to " + RideContainsKeywordsPredicate.MAX_EDIT_DISTANCE + ".";
 
     private final RideContainsKeywordsPredicate predicate;
 
@@ -1,16 +1,22 @@
 package seedu.thanepark.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.thanepark.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.StreamSupport;
 
 import seedu.thanepark.commons.core.EventsCenter;
 import seedu.thanepark.commons.events.ui.ShowHistoryRequestEvent;
 import seedu.thanepark.commons.util.FilePathToUrl;
 import seedu.thanepark.logic.CommandHistory;
 import seedu.thanepark.model.Model;
+import seedu.thanepark.model.logging.CommandEntry;
 import seedu.thanepark.storage.html.CommandReportGenerator;
 
 /**
@@ -20,7 +26,9 @@ public class HistoryCommand extends Command {
 
     public static final String COMMAND_WORD = "history";
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows history of executed commands.\n"
-            + "Example: " + COMMAND_WORD;
+            + "Parameters: [more [COUNT | FROM_DATE [TO_DATE]]]\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " more 50, "
+            + COMMAND_WORD + " more 2018-10-01 2018-10-31";
     public static final String MORE_INFO_FLAG = "more";
 
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
@@ -34,6 +42,9 @@ public class HistoryCommand extends Command {
 
     private static final String[] ARGUMENTS_BLANK = {""};
     private final boolean isSummarized;
+    private final int lastCount;
+    private final Instant from;
+    private final Instant to;
 
     /**
      * Creates a HistoryCommand.
@@ -56,6 +67,33 @@ public class HistoryCommand extends Command {
         } else {
             isSummarized = false;
         }
+        lastCount = 0;
+        from = null;
+        to = null;
+    }
+
+    /**
+     * Creates a HistoryCommand that reports the last {@code lastCount} commands entered across sessions.
+     */
+    public HistoryCommand(int lastCount) {
+        checkArgument(lastCount > 0, "The number of commands to report must be positive.");
+        isSummarized = false;
+        this.lastCount = lastCount;
+        from = null;
+        to = null;
+    }
+
+    /**
+     * Creates a HistoryCommand that reports the commands entered from {@code from} (inclusive) to {@code to}
+     * (exclusive) across sessions.
+     */
+    public HistoryCommand(Instant from, Instant to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        isSummarized = false;
+        lastCount = 0;
+        this.from = from;
+        this.to = to;
     }
 
     @Override
@@ -64,11 +102,12 @@ public class HistoryCommand extends Command {
         //request for CommandEntry list
         if (!isSummarized) {
             try {
-                CommandReportGenerator.getInstance()
-                    .generateHtml(COMMAND_ENTRY_REPORT_TITLE, history.getCommandEntryList(), REPORT_PAGE_PATH);
-                EventsCenter.getInstance().post(new ShowHistoryRequestEvent(REPORT_PAGE_PATH));
+                Iterable<CommandEntry> commandEntries = getCommandEntries(history);
+                CommandReportGenerator.getInstance().generatePagedHtml(COMMAND_ENTRY_REPORT_TITLE, commandEntries,
+                        REPORT_PAGE_PATH, () -> EventsCenter.getInstance().post(
+                                new ShowHistoryRequestEvent(REPORT_PAGE_PATH)));
                 return new CommandResult(MESSAGE_HISTORY_WINDOW);
-            } catch (IOException e) {
+            } catch (IOException | UncheckedIOException e) {
                 e.printStackTrace();
                 return new CommandResult(MESSAGE_HISTORY_WINDOW_FAILURE);
             }
@@ -87,10 +126,32 @@ public class HistoryCommand extends Command {
 
     }
 
+    /**
+     * Returns the entries of {@code history} requested by this command, from the most recent. The entries are read
+     * from the commands log as the report is written, and only back as far as the requested part of it.
+     */
+    private Iterable<CommandEntry> getCommandEntries(CommandHistory history) {
+        Iterable<CommandEntry> commandEntries = from != null
+                ? history.getCommandEntriesNewestFirst(from, to)
+                : history.getCommandEntriesNewestFirst(Instant.MIN, Instant.MAX);
+        if (lastCount > 0) {
+            return () -> StreamSupport.stream(commandEntries.spliterator(), false).limit(lastCount).iterator();
+        }
+        return commandEntries;
+    }
+
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof HistoryCommand // instanceof handles nulls
-                && isSummarized == ((HistoryCommand) other).isSummarized); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof HistoryCommand)) { // instanceof handles nulls
+            return false;
+        }
+        HistoryCommand otherCommand = (HistoryCommand) other; // state check
+        return isSummarized == otherCommand.isSummarized
+                && lastCount == otherCommand.lastCount
+                && Objects.equals(from, otherCommand.from)
+                && Objects.equals(to, otherCommand.to);
     }
 }
@@ -1,7 +1,6 @@
 package seedu.thanepark.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.thanepark.model.Model.PREDICATE_SHOW_ALL_RIDES;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -66,7 +65,6 @@ public class ShutDownCommand extends Command {
         }
 
         model.updateRide(rideToShutDown, editedRide);
-        model.updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
         model.commitThanePark();
         return new CommandResult(String.format(MESSAGE_SHUTDOWN_RIDE_SUCCESS, editedRide));
     }
@@ -6,7 +6,6 @@ import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_WAITING_TIME;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_ZONE;
-import static seedu.thanepark.model.Model.PREDICATE_SHOW_ALL_RIDES;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -86,7 +85,6 @@ public class UpdateCommand extends Command {
         }
 
         model.updateRide(rideToEdit, editedRide);
-        model.updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
         model.commitThanePark();
         return new CommandResult(String.format(MESSAGE_UPDATE_RIDE_SUCCESS, editedRide));
     }
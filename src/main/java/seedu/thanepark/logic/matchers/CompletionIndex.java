@@ -0,0 +1,104 @@
+package seedu.thanepark.logic.matchers;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.thanepark.logic.commands.AllCommandWords;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.tag.Tag;
+
+/**
+ * Completes command words, and the names, zones and tags of rides, from what has been typed of them.
+ * The command words and the ride terms are kept in separate {@code CompressedTrie}s, so that completing a command word
+ * never looks through the rides. The ride terms are kept up to date as the rides change, by adding and removing only
+ * the terms of the rides that changed, so completion takes the same time however many rides there are.
+ * The index may be read from one thread while the rides are changed from another.
+ */
+public class CompletionIndex {
+
+    public static final int MAX_COMPLETIONS = 10;
+
+    private static final List<String> COMMAND_WORD_ORDER = Arrays.asList(AllCommandWords.COMMAND_WORDS);
+
+    private final CompressedTrie commandWords = new CompressedTrie();
+    private final CompressedTrie rideTerms = new CompressedTrie();
+
+    /**
+     * Creates an index of the command words only.
+     */
+    public CompletionIndex() {
+        for (String commandWord : AllCommandWords.COMMAND_WORDS) {
+            commandWords.add(commandWord);
+        }
+    }
+
+    /**
+     * Creates an index of the command words and of the terms of {@code rides}, which is kept up to date as
+     * {@code rides} changes.
+     */
+    public CompletionIndex(ObservableList<Ride> rides) {
+        this();
+        requireNonNull(rides);
+        synchronized (this) {
+            rides.forEach(this::addRide);
+            rides.addListener(this::updateRides);
+        }
+    }
+
+    /**
+     * Returns the command words that start with {@code prefix}, in the order of {@code AllCommandWords.COMMAND_WORDS}.
+     */
+    public synchronized List<String> getCommandWordsStartingWith(String prefix) {
+        List<String> result = commandWords.getWordsStartingWith(prefix, COMMAND_WORD_ORDER.size());
+        result.sort(Comparator.comparingInt(COMMAND_WORD_ORDER::indexOf));
+        return result;
+    }
+
+    /**
+     * Returns up to {@value #MAX_COMPLETIONS} of the ride names, zones and tags that start with {@code prefix},
+     * ignoring case, in alphabetical order.
+     */
+    public synchronized List<String> getRideTermsStartingWith(String prefix) {
+        return rideTerms.getWordsStartingWith(prefix, MAX_COMPLETIONS);
+    }
+
+    /**
+     * Adds and removes the terms of the rides added to and removed from the ride list in {@code change}.
+     */
+    private synchronized void updateRides(ListChangeListener.Change<? extends Ride> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeRide);
+            change.getAddedSubList().forEach(this::addRide);
+        }
+    }
+
+    /**
+     * Adds the name, zone and tags of {@code ride} to the ride terms.
+     */
+    private void addRide(Ride ride) {
+        rideTerms.add(ride.getName().fullName);
+        rideTerms.add(ride.getZone().value);
+        for (Tag tag : ride.getTags()) {
+            rideTerms.add(tag.tagName);
+        }
+    }
+
+    /**
+     * Removes the name, zone and tags of {@code ride} from the ride terms once.
+     */
+    private void removeRide(Ride ride) {
+        rideTerms.remove(ride.getName().fullName);
+        rideTerms.remove(ride.getZone().value);
+        for (Tag tag : ride.getTags()) {
+            rideTerms.remove(tag.tagName);
+        }
+    }
+}
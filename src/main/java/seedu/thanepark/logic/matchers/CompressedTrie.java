@@ -0,0 +1,201 @@
+package seedu.thanepark.logic.matchers;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compressed trie of words, for finding the words that start with a prefix, ignoring case.
+ * Each edge is labelled with a string rather than a single character, so that a chain of nodes with one child each is
+ * kept as one edge, and the children of a node are kept in order so that words are found in alphabetical order.
+ * Finding the first {@code limit} words that start with a prefix takes time depending on the length of the prefix and
+ * on {@code limit}, but not on the number of words in the trie.
+ * The same word may be added several times, and stays in the trie until it has been removed as many times.
+ */
+public class CompressedTrie {
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Returns the number of distinct words in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds {@code word} to the trie.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        String key = foldCase(word);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            Node child = node.children.get(key.charAt(matched));
+            if (child == null) {
+                child = new Node(key.substring(matched));
+                node.children.put(key.charAt(matched), child);
+                node = child;
+                break;
+            }
+            int common = getCommonPrefixLength(child.label, key, matched);
+            if (common < child.label.length()) {
+                child = split(node, child, common);
+            }
+            node = child;
+            matched += common;
+        }
+        if (node.words.isEmpty()) {
+            size++;
+        }
+        node.words.merge(word, 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code word} from the trie once, if it is in the trie.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        String key = foldCase(word);
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            node = node.children.get(key.charAt(matched));
+            if (node == null || !key.startsWith(node.label, matched)) {
+                return;
+            }
+            path.add(node);
+            matched += node.label.length();
+        }
+        Integer count = node.words.get(word);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            node.words.put(word, count - 1);
+            return;
+        }
+        node.words.remove(word);
+        if (node.words.isEmpty()) {
+            size--;
+            prune(path);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} of the words that start with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    public List<String> getWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        String key = foldCase(prefix);
+        List<String> result = new ArrayList<>();
+        Node node = root;
+        int matched = 0;
+        while (matched < key.length()) {
+            node = node.children.get(key.charAt(matched));
+            if (node == null) {
+                return result;
+            }
+            int common = getCommonPrefixLength(node.label, key, matched);
+            if (common < node.label.length() && matched + common < key.length()) {
+                return result;
+            }
+            matched += common;
+        }
+        collectWords(node, limit, result);
+        return result;
+    }
+
+    /**
+     * Adds the words at and below {@code node} to {@code result} in order, until it holds {@code limit} words.
+     */
+    private static void collectWords(Node node, int limit, List<String> result) {
+        for (String word : node.words.keySet()) {
+            if (result.size() >= limit) {
+                return;
+            }
+            result.add(word);
+        }
+        for (Node child : node.children.values()) {
+            if (result.size() >= limit) {
+                return;
+            }
+            collectWords(child, limit, result);
+        }
+    }
+
+    /**
+     * Splits the edge to {@code child} of {@code parent} after its first {@code length} characters, and returns the
+     * node added at the split.
+     */
+    private static Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * Removes the nodes at the end of {@code path} that no longer hold words, and merges a node left with no words and
+     * a single child into that child, so that the trie stays compressed.
+     */
+    private static void prune(List<Node> path) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            Node parent = path.get(i - 1);
+            if (!node.words.isEmpty()) {
+                return;
+            }
+            if (node.children.isEmpty()) {
+                parent.children.remove(node.label.charAt(0));
+                continue;
+            }
+            if (node.children.size() == 1) {
+                Node child = node.children.values().iterator().next();
+                child.label = node.label + child.label;
+                parent.children.put(child.label.charAt(0), child);
+            }
+            return;
+        }
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and the part of {@code key} from {@code from}.
+     */
+    private static int getCommonPrefixLength(String label, String key, int from) {
+        int length = 0;
+        while (length < label.length() && from + length < key.length()
+                && label.charAt(length) == key.charAt(from + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static String foldCase(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the trie, reached from its parent through the edge labelled {@code label}. The words ending at the node
+     * differ only in case, and are kept with the number of times each was added.
+     */
+    private static class Node {
+        private String label;
+        private final Map<Character, Node> children = new TreeMap<>();
+        private final Map<String, Integer> words = new LinkedHashMap<>(1);
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+}
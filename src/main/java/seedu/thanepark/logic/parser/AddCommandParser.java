@@ -24,6 +24,9 @@ import seedu.thanepark.model.tag.Tag;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_NAME, PREFIX_MAINTENANCE,
+            PREFIX_WAITING_TIME, PREFIX_ZONE, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -31,9 +34,7 @@ public class AddCommandParser implements Parser<AddCommand> {
      */
     @Override
     public AddCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME,
-                        PREFIX_MAINTENANCE, PREFIX_WAITING_TIME, PREFIX_ZONE, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_ZONE, PREFIX_MAINTENANCE, PREFIX_WAITING_TIME)
                 || !argMultimap.getPreamble().isEmpty()) {
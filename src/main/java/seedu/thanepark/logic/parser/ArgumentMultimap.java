@@ -15,6 +15,9 @@ import java.util.Optional;
  */
 public class ArgumentMultimap {
 
+    /** The key of the preamble, which is the text before the first prefix. */
+    static final Prefix PREAMBLE = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
     private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
 
@@ -26,17 +29,15 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1)).add(argValue);
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<String> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1));
     }
 
     /**
@@ -55,6 +56,6 @@ public class ArgumentMultimap {
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE).orElse("");
     }
 }
@@ -13,4 +13,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_ZONE_FULL = new Prefix("zone");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_TAG_FULL = new Prefix("tag");
+    public static final Prefix PREFIX_EDIT_DISTANCE = new Prefix("d/");
 }
@@ -31,6 +31,9 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     public static final String MESSAGE_INVALID_ARGS = "Invalid arguments found! '%1$s'\nPlease use >, <, = and "
             + "numbers only!\n";
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_MAINTENANCE, PREFIX_WAITING_TIME,
+            PREFIX_NAME, PREFIX_ZONE, PREFIX_ZONE_FULL, PREFIX_TAG, PREFIX_TAG_FULL);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FilterCommand
      * and returns an FilterCommand object for execution.
@@ -43,8 +46,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MAINTENANCE, PREFIX_WAITING_TIME,
-                PREFIX_NAME, PREFIX_ZONE, PREFIX_ZONE_FULL, PREFIX_TAG, PREFIX_TAG_FULL);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         checkForInvalidPrefixes(argMultimap);
 
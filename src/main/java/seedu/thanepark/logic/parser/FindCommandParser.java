@@ -1,6 +1,7 @@
 package seedu.thanepark.logic.parser;
 
 import static seedu.thanepark.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_EDIT_DISTANCE;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_TAG_FULL;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_ZONE;
@@ -23,6 +24,9 @@ import seedu.thanepark.model.tag.Tag;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_ZONE, PREFIX_ZONE_FULL, PREFIX_TAG,
+            PREFIX_TAG_FULL, PREFIX_EDIT_DISTANCE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns an FindCommand object for execution.
@@ -36,19 +40,36 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ZONE, PREFIX_ZONE_FULL,
-                PREFIX_TAG, PREFIX_TAG_FULL);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Optional<Zone> address = parseAndGetZone(argMultimap);
 
         Optional<Set<Tag>> tags = parseAndGetTags(argMultimap);
 
+        Optional<Integer> editDistance = parseAndGetEditDistance(argMultimap);
+
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
         nameKeywords = removeOtherArguments(nameKeywords);
 
         return new FindCommand(new RideContainsKeywordsPredicate(Arrays.asList(nameKeywords),
-                address, tags));
+                address, tags, editDistance));
+    }
+
+    /**
+     * Checks if the argument multimap contains the "d/" prefix and returns the number of typing errors allowed in
+     * name keywords if present.
+     */
+    private Optional<Integer> parseAndGetEditDistance(ArgumentMultimap argMultimap) throws ParseException {
+        Optional<String> editDistance = argMultimap.getValue(PREFIX_EDIT_DISTANCE).map(String::trim);
+        if (!editDistance.isPresent()) {
+            return Optional.empty();
+        }
+        if (!editDistance.get().matches("\\d")
+                || Integer.parseInt(editDistance.get()) > RideContainsKeywordsPredicate.MAX_EDIT_DISTANCE) {
+            throw new ParseException(FindCommand.MESSAGE_INVALID_EDIT_DISTANCE);
+        }
+        return Optional.of(Integer.parseInt(editDistance.get()));
     }
 
     /**
@@ -87,11 +108,18 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     private String[] removeOtherArguments(String[] keywords) {
         List<String> trimmedKeyWords = Arrays.asList(keywords);
-        int[] indexes = new int[4];
+        int[] indexes = new int[5];
         indexes[0] = trimmedKeyWords.indexOf(PREFIX_TAG.getPrefix());
         indexes[1] = trimmedKeyWords.indexOf(PREFIX_TAG_FULL.getPrefix());
         indexes[2] = trimmedKeyWords.indexOf(PREFIX_ZONE.getPrefix());
         indexes[3] = trimmedKeyWords.indexOf(PREFIX_ZONE_FULL.getPrefix());
+        // the edit distance is usually written right after its prefix, as in "d/2"
+        indexes[4] = -1;
+        for (int i = 0; i < keywords.length && indexes[4] == -1; i++) {
+            if (keywords[i].startsWith(PREFIX_EDIT_DISTANCE.getPrefix())) {
+                indexes[4] = i;
+            }
+        }
         int smallestPositiveIndex = -1;
         for (int i : indexes) {
             if (i >= 0 && (smallestPositiveIndex == -1 || smallestPositiveIndex > i)) {
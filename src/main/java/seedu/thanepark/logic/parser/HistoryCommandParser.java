@@ -2,11 +2,16 @@ package seedu.thanepark.logic.parser;
 
 import static seedu.thanepark.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
 import seedu.thanepark.logic.commands.HistoryCommand;
 import seedu.thanepark.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new HelpCommand object.
+ * Parses input arguments and creates a new HistoryCommand object.
  */
 public class HistoryCommandParser implements Parser<HistoryCommand> {
 
@@ -17,21 +22,64 @@ public class HistoryCommandParser implements Parser<HistoryCommand> {
      */
     @Override
     public HistoryCommand parse(String args) throws ParseException {
-        String[] options = args.trim().split(" ");
+        String[] options = args.trim().split("\\s+");
 
         if (!matchesExpectedFormat(options)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
         }
+        if (options.length == 1) {
+            return new HistoryCommand(options);
+        }
 
-        return new HistoryCommand(options);
+        if (options[1].matches("\\d+")) {
+            return parseLastCount(options[1]);
+        }
+        Instant from = parseStartOfDay(options[1], 0);
+        Instant to = options.length == 3 ? parseStartOfDay(options[2], 1) : Instant.MAX;
+        if (!from.isBefore(to)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        }
+        return new HistoryCommand(from, to);
     }
 
     /**
-     * Returns true if matches "history" or "history more"
+     * Returns true if matches "history", "history more", "history more COUNT" or
+     * "history more FROM_DATE [TO_DATE]"
      */
     private static boolean matchesExpectedFormat(String[] options) {
-        return options.length == 1 && options[0].isEmpty()
-                || options.length == 1 && options[0].equals(HistoryCommand.MORE_INFO_FLAG);
+        if (options.length == 1) {
+            return options[0].isEmpty() || options[0].equals(HistoryCommand.MORE_INFO_FLAG);
+        }
+        return options[0].equals(HistoryCommand.MORE_INFO_FLAG)
+                && (options.length == 2 || options.length == 3 && !options[1].matches("\\d+"));
+    }
+
+    /**
+     * Returns a HistoryCommand for the last {@code count} commands.
+     * @throws ParseException if {@code count} is not a positive integer
+     */
+    private static HistoryCommand parseLastCount(String count) throws ParseException {
+        try {
+            int lastCount = Integer.parseInt(count);
+            if (lastCount > 0) {
+                return new HistoryCommand(lastCount);
+            }
+        } catch (NumberFormatException nfe) {
+            // falls through to the parse exception below
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Returns the start of the day {@code daysAfter} days after the yyyy-MM-dd {@code date}, in the local time zone.
+     * @throws ParseException if {@code date} is not a valid date
+     */
+    private static Instant parseStartOfDay(String date, int daysAfter) throws ParseException {
+        try {
+            return LocalDate.parse(date).plusDays(daysAfter).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        }
     }
 
 }
@@ -0,0 +1,87 @@
+package seedu.thanepark.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * The prefixes of a command, compiled into a trie of their characters, for finding which of them starts at a position
+ * of an arguments string by reading each character at most once.
+ * Compiling the prefixes once, when the parser of a command is created, saves compiling them for every command
+ * parsed. Matching allocates nothing.
+ */
+public final class PrefixAutomaton {
+
+    private final State start = new State();
+
+    /**
+     * Compiles {@code prefixes} into an automaton. Empty prefixes are ignored, as they would start at every position.
+     */
+    public PrefixAutomaton(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            String text = prefix.getPrefix();
+            if (text.isEmpty()) {
+                continue;
+            }
+            State state = start;
+            for (int i = 0; i < text.length(); i++) {
+                state = state.getOrAddNext(text.charAt(i));
+            }
+            state.accepted = prefix;
+        }
+    }
+
+    /**
+     * Returns the longest of the prefixes that starts at index {@code from} of {@code text}, or null if none of them
+     * does.
+     */
+    Prefix matchAt(String text, int from) {
+        Prefix longestMatch = null;
+        State state = start;
+        for (int i = from; i < text.length() && state != null; i++) {
+            state = state.getNext(text.charAt(i));
+            if (state != null && state.accepted != null) {
+                longestMatch = state.accepted;
+            }
+        }
+        return longestMatch;
+    }
+
+    /**
+     * A state of the automaton, reached after reading the characters of the first part of some prefix.
+     * The transitions are kept in parallel arrays rather than a map, as a state of a prefix has few of them.
+     */
+    private static final class State {
+        private char[] labels = new char[0];
+        private State[] nexts = new State[0];
+        private Prefix accepted;
+
+        /**
+         * Returns the state reached from this state by reading {@code c}, or null if there is none.
+         */
+        State getNext(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return nexts[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the state reached from this state by reading {@code c}, adding it if there is none.
+         */
+        State getOrAddNext(char c) {
+            State next = getNext(c);
+            if (next == null) {
+                next = new State();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                nexts = Arrays.copyOf(nexts, nexts.length + 1);
+                labels[labels.length - 1] = c;
+                nexts[nexts.length - 1] = next;
+            }
+            return next;
+        }
+    }
+}
@@ -2,10 +2,15 @@ package seedu.thanepark.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.thanepark.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_ZONE;
+
+import java.util.ArrayList;
+import java.util.List;
 
-import seedu.thanepark.logic.commands.AllCommandWords;
 import seedu.thanepark.logic.commands.SuggestCommand;
-import seedu.thanepark.logic.matchers.PatternMatcher;
+import seedu.thanepark.logic.matchers.CompletionIndex;
 import seedu.thanepark.logic.parser.exceptions.ParseException;
 
 /**
@@ -13,32 +18,72 @@ import seedu.thanepark.logic.parser.exceptions.ParseException;
  */
 public class SuggestCommandParser implements Parser<SuggestCommand> {
 
-    private PatternMatcher patternMatcher;
+    public static final String MESSAGE_NO_COMPLETIONS = "No ride name, zone or tag starts with the last argument";
+
+    private static final PrefixAutomaton COMPLETED_PREFIXES = new PrefixAutomaton(PREFIX_NAME, PREFIX_ZONE,
+            PREFIX_TAG);
+
+    private final CompletionIndex completionIndex;
 
-    public SuggestCommandParser (PatternMatcher patternMatcher) {
-        this.patternMatcher = patternMatcher;
+    public SuggestCommandParser(CompletionIndex completionIndex) {
+        requireNonNull(completionIndex);
+        this.completionIndex = completionIndex;
     }
 
     /**
      * Parses the given {@code String} of pattern in the context of the SuggestCommand
      * and returns a SuggestCommand object for execution.
+     * A pattern of a single word is completed as a command word. A longer pattern is completed by the ride names,
+     * zones and tags that start with the longest run of its last words that any of them starts with.
      * @throws ParseException if no matching commands to pattern is found or pattern is non-alphabetical.
      */
     @Override
     public SuggestCommand parse(String pattern) throws ParseException {
         requireNonNull(pattern);
-        requireNonNull(patternMatcher);
         final String[] suggestions;
 
-        if (!pattern.matches("[a-zA-Z]+")) {
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
-
-        suggestions = patternMatcher.matchPattern(AllCommandWords.COMMAND_WORDS, pattern);
-        if (suggestions.length <= 0) {
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        if (pattern.indexOf(' ') < 0) {
+            if (!pattern.matches("[a-zA-Z]+")) {
+                throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            }
+            suggestions = completionIndex.getCommandWordsStartingWith(pattern).toArray(new String[0]);
+            if (suggestions.length <= 0) {
+                throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            }
+        } else {
+            suggestions = completeLastArgument(pattern);
         }
 
         return new SuggestCommand(suggestions);
     }
+
+    /**
+     * Returns {@code text} with its last argument completed by each ride name, zone or tag that starts with it.
+     * The last argument is taken to start after the earliest space from which some term completes the rest of the
+     * text, so that names and zones of several words are completed as a whole. A name, zone or tag prefix at the start
+     * of the argument, as in {@code n/Acc}, is kept in front of the completions rather than completed.
+     * @throws ParseException if no term starts with any run of the last words of {@code text}.
+     */
+    private String[] completeLastArgument(String text) throws ParseException {
+        for (int space = text.indexOf(' '); space >= 0; space = text.indexOf(' ', space + 1)) {
+            int argumentStart = space + 1;
+            Prefix prefix = COMPLETED_PREFIXES.matchAt(text, argumentStart);
+            if (prefix != null) {
+                argumentStart += prefix.getPrefix().length();
+            }
+            String argument = text.substring(argumentStart);
+            if (argument.trim().isEmpty() || argument.startsWith(" ")) {
+                continue;
+            }
+            List<String> terms = completionIndex.getRideTermsStartingWith(argument);
+            if (!terms.isEmpty()) {
+                List<String> completions = new ArrayList<>();
+                for (String term : terms) {
+                    completions.add(text.substring(0, argumentStart) + term);
+                }
+                return completions.toArray(new String[0]);
+            }
+        }
+        throw new ParseException(MESSAGE_NO_COMPLETIONS);
+    }
 }
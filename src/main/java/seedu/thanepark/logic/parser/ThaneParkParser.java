@@ -23,7 +23,7 @@ import seedu.thanepark.logic.commands.UpdateCommand;
 import seedu.thanepark.logic.commands.ViewAllCommand;
 import seedu.thanepark.logic.commands.ViewCommand;
 import seedu.thanepark.logic.commands.ViewStatusCommand;
-import seedu.thanepark.logic.matchers.PrefixMatcher;
+import seedu.thanepark.logic.matchers.CompletionIndex;
 import seedu.thanepark.logic.parser.exceptions.ParseException;
 
 
@@ -37,6 +37,19 @@ public class ThaneParkParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final SuggestCommandParser suggestCommandParser;
+
+    public ThaneParkParser() {
+        this(new CompletionIndex());
+    }
+
+    /**
+     * Creates a parser that suggests command words from {@code completionIndex} for unknown command words.
+     */
+    public ThaneParkParser(CompletionIndex completionIndex) {
+        suggestCommandParser = new SuggestCommandParser(completionIndex);
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -106,7 +119,7 @@ public class ThaneParkParser {
             return new ViewStatusCommandParser().parse(arguments);
 
         default:
-            return new SuggestCommandParser(new PrefixMatcher()).parse(commandWord);
+            return suggestCommandParser.parse(commandWord);
         }
     }
 
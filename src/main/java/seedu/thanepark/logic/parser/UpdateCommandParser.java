@@ -24,6 +24,9 @@ import seedu.thanepark.model.tag.Tag;
  */
 public class UpdateCommandParser implements Parser<UpdateCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_NAME, PREFIX_MAINTENANCE,
+            PREFIX_WAITING_TIME, PREFIX_ZONE, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -31,9 +34,7 @@ public class UpdateCommandParser implements Parser<UpdateCommand> {
      */
     public UpdateCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME,
-                        PREFIX_MAINTENANCE, PREFIX_WAITING_TIME, PREFIX_ZONE, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index index;
 
@@ -1,5 +1,6 @@
 package seedu.thanepark.model;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -15,9 +16,24 @@ public interface Model {
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyThanePark newData);
 
-    /** Returns the ThanePark */
+    /**
+     * Returns the ThanePark. It changes as the model changes, so threads other than the one making changes should use
+     * {@link #readThanePark(Function)} instead.
+     */
     ReadOnlyThanePark getThanePark();
 
+    /**
+     * Returns the result of {@code query} on the ThanePark. Queries can run at the same time as one another, but never
+     * while the model is being changed, so {@code query} sees the ThanePark as it was between two changes.
+     * {@code query} must not change the model.
+     */
+    <T> T readThanePark(Function<? super ReadOnlyThanePark, ? extends T> query);
+
+    /**
+     * Returns an immutable snapshot of the ThanePark as it was after the latest change, without locking.
+     */
+    ThaneParkSnapshot getThaneParkSnapshot();
+
     /**
      * Returns true if a ride with the same identity as {@code ride} exists in the thanepark book.
      */
@@ -47,6 +63,8 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered ride list to filter by the given {@code predicate}.
+     * The filter stays in place as rides change. Filtering again by a recently used predicate, or one equal to it, is
+     * immediate.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredRideList(Predicate<Ride> predicate);
@@ -75,4 +93,21 @@ public interface Model {
      * Saves the current thanepark book state for undo/redo.
      */
     void commitThanePark();
+
+    /**
+     * Starts a batch of changes. Until the batch ends, {@code commitThanePark} saves no state and no change events
+     * are raised.
+     */
+    void startBatch();
+
+    /**
+     * Saves the current thanepark book state for undo/redo if it was committed since the batch started or since the
+     * last call to this method.
+     */
+    void commitBatch();
+
+    /**
+     * Ends the batch of changes, committing it and raising a single change event if anything changed.
+     */
+    void endBatch();
 }
@@ -3,12 +3,15 @@ package seedu.thanepark.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.thanepark.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.thanepark.commons.core.ComponentManager;
 import seedu.thanepark.commons.core.LogsCenter;
 import seedu.thanepark.commons.events.model.ThaneParkChangedEvent;
@@ -16,12 +19,20 @@ import seedu.thanepark.model.ride.Ride;
 
 /**
  * Represents the in-memory model of the thanepark book data.
+ * Changes to the model are serialized by the write lock, while queries share the read lock and can run at the same
+ * time as each other. Events raised by a change are raised while the write lock is still held, so that handlers see
+ * the thanepark book as that change left it.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedThanePark versionedThanePark;
-    private final FilteredList<Ride> filteredRides;
+    private final RideViews rideViews;
+    private final ObservableList<Ride> unmodifiableFilteredRides;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean isInBatch;
+    private boolean hasBatchChanged;
+    private boolean hasBatchCommitPending;
 
     /**
      * Initializes a ModelManager with the given thanePark and userPrefs.
@@ -32,8 +43,10 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with thanepark book: " + thanePark + " and user prefs " + userPrefs);
 
-        versionedThanePark = new VersionedThanePark(thanePark);
-        filteredRides = new FilteredList<>(versionedThanePark.getRideList());
+        versionedThanePark = new VersionedThanePark(thanePark, userPrefs.getUndoHistoryMaxStates(),
+                userPrefs.getUndoHistoryMemoryBudget(), userPrefs.getUndoHistorySpillDirectory());
+        rideViews = new RideViews(versionedThanePark, PREDICATE_SHOW_ALL_RIDES, userPrefs.getFilterCacheSize());
+        unmodifiableFilteredRides = FXCollections.unmodifiableObservableList(rideViews.getDisplayedList());
     }
 
     public ModelManager() {
@@ -42,8 +55,10 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyThanePark newData) {
-        versionedThanePark.resetData(newData);
-        indicatethaneParkChanged();
+        write(() -> {
+            versionedThanePark.resetData(newData);
+            indicatethaneParkChanged();
+        });
     }
 
     @Override
@@ -51,82 +66,184 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedThanePark;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public <T> T readThanePark(Function<? super ReadOnlyThanePark, ? extends T> query) {
+        requireNonNull(query);
+        return read(() -> query.apply(versionedThanePark));
+    }
+
+    @Override
+    public ThaneParkSnapshot getThaneParkSnapshot() {
+        return versionedThanePark.getSnapshot();
+    }
+
+    /**
+     * Returns the result of {@code query}, run while holding the read lock.
+     */
+    private <T> T read(Supplier<T> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Makes {@code change} while holding the write lock.
+     */
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Raises an event to indicate the model has changed, or notes the change until the end of the batch */
     private void indicatethaneParkChanged() {
+        if (isInBatch) {
+            hasBatchChanged = true;
+            return;
+        }
         raise(new ThaneParkChangedEvent(versionedThanePark));
     }
 
     @Override
     public boolean hasRide(Ride ride) {
         requireNonNull(ride);
-        return versionedThanePark.hasRide(ride);
+        return read(() -> versionedThanePark.hasRide(ride));
     }
 
     @Override
     public void deleteRide(Ride target) {
-        versionedThanePark.removeRide(target);
-        indicatethaneParkChanged();
+        write(() -> {
+            versionedThanePark.removeRide(target);
+            indicatethaneParkChanged();
+        });
     }
 
     @Override
     public void addRide(Ride ride) {
-        versionedThanePark.addRide(ride);
-        updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
-        indicatethaneParkChanged();
+        write(() -> {
+            versionedThanePark.addRide(ride);
+            indicatethaneParkChanged();
+        });
     }
 
     @Override
     public void updateRide(Ride target, Ride editedRide) {
         requireAllNonNull(target, editedRide);
 
-        versionedThanePark.updateRide(target, editedRide);
-        indicatethaneParkChanged();
+        write(() -> {
+            versionedThanePark.updateRide(target, editedRide);
+            indicatethaneParkChanged();
+        });
     }
 
     //=========== Filtered Ride List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Ride} backed by the internal list of
-     * {@code versionedThanePark}
+     * {@code versionedThanePark}. The list changes as the model changes, so only the thread making changes should read
+     * it directly.
      */
     @Override
     public ObservableList<Ride> getFilteredRideList() {
-        return FXCollections.unmodifiableObservableList(filteredRides);
+        return unmodifiableFilteredRides;
     }
 
     @Override
     public void updateFilteredRideList(Predicate<Ride> predicate) {
         requireNonNull(predicate);
-        filteredRides.setPredicate(predicate);
+        // the filtered list is shared, so changing its filter is a change to the model
+        write(() -> {
+            rideViews.show(predicate);
+            logger.fine("Filter cache: " + rideViews.getHitCount() + " hits, " + rideViews.getMissCount()
+                    + " misses");
+        });
+    }
+
+    /**
+     * Returns the number of times that the filtered ride list was filtered by reusing the kept results of an equal
+     * predicate.
+     */
+    public long getFilterCacheHitCount() {
+        return read(rideViews::getHitCount);
+    }
+
+    /**
+     * Returns the number of times that the filtered ride list was filtered by testing all the rides.
+     */
+    public long getFilterCacheMissCount() {
+        return read(rideViews::getMissCount);
     }
 
     //=========== Undo/Redo =================================================================================
 
     @Override
     public boolean canUndoThanePark() {
-        return versionedThanePark.canUndo();
+        return read(versionedThanePark::canUndo);
     }
 
     @Override
     public boolean canRedoThanePark() {
-        return versionedThanePark.canRedo();
+        return read(versionedThanePark::canRedo);
     }
 
     @Override
     public void undoThanePark() {
-        versionedThanePark.undo();
-        indicatethaneParkChanged();
+        write(() -> {
+            versionedThanePark.undo();
+            indicatethaneParkChanged();
+        });
     }
 
     @Override
     public void redoThanePark() {
-        versionedThanePark.redo();
-        indicatethaneParkChanged();
+        write(() -> {
+            versionedThanePark.redo();
+            indicatethaneParkChanged();
+        });
     }
 
     @Override
     public void commitThanePark() {
-        versionedThanePark.commit();
+        write(() -> {
+            if (isInBatch) {
+                hasBatchCommitPending = true;
+                return;
+            }
+            versionedThanePark.commit();
+        });
+    }
+
+    @Override
+    public void startBatch() {
+        write(() -> isInBatch = true);
+    }
+
+    @Override
+    public void commitBatch() {
+        write(() -> {
+            if (hasBatchCommitPending) {
+                versionedThanePark.commit();
+                hasBatchCommitPending = false;
+            }
+        });
+    }
+
+    @Override
+    public void endBatch() {
+        write(() -> {
+            commitBatch();
+            isInBatch = false;
+            if (hasBatchChanged) {
+                hasBatchChanged = false;
+                indicatethaneParkChanged();
+            }
+        });
     }
 
     @Override
@@ -143,8 +260,8 @@ public class ModelManager extends ComponentManager implements Model {
 
         // state check
         ModelManager other = (ModelManager) obj;
-        return versionedThanePark.equals(other.versionedThanePark)
-                && filteredRides.equals(other.filteredRides);
+        return read(() -> versionedThanePark.equals(other.versionedThanePark)
+                && rideViews.getDisplayedList().equals(other.rideViews.getDisplayedList()));
     }
 
 }
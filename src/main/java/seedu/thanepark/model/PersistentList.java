@@ -0,0 +1,398 @@
+package seedu.thanepark.model;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An immutable list that is changed by making a changed copy of it, which shares all but O(log n) of its nodes with
+ * the original. The elements are kept in a balanced tree ordered by position, so indexed access, insertion,
+ * replacement and removal each take O(log n), and iteration takes O(n). Comparing a list with one it was made from
+ * only looks into the nodes they do not share.
+ */
+final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in O(n).
+     */
+    static <E> PersistentList<E> of(List<? extends E> elements) {
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        checkElementIndex(index);
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns a copy of this list with {@code element} inserted at {@code index}.
+     */
+    PersistentList<E> plus(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code element}.
+     */
+    PersistentList<E> with(int index, E element) {
+        checkElementIndex(index);
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    PersistentList<E> minus(int index) {
+        checkElementIndex(index);
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    /**
+     * Returns the changes that turn {@code earlier} into this list, or null if the elements in both lists are not in
+     * the same order in each. Elements are matched by {@code key}, which must be unique within each list, and an
+     * element whose key is in both lists counts as updated unless it is equal in both.
+     * Subtrees shared by both lists are skipped without being looked into, so if this list was made from
+     * {@code earlier} by k changes, this takes O(k log n).
+     */
+    Changes<E> changesSince(PersistentList<E> earlier, Function<? super E, ?> key) {
+        List<Placed<E>> earlierNodes = new ArrayList<>();
+        List<Placed<E>> laterNodes = new ArrayList<>();
+        List<int[]> sharedOffsets = new ArrayList<>();
+        collectUnsharedNodes(earlier.root, root, earlierNodes, laterNodes, sharedOffsets);
+
+        Map<Object, Placed<E>> earlierNodesByKey = new HashMap<>();
+        for (Placed<E> placed : earlierNodes) {
+            earlierNodesByKey.put(key.apply(placed.node.value), placed);
+        }
+        SortedMap<Integer, E> added = new TreeMap<>();
+        List<E> updated = new ArrayList<>();
+        List<int[]> keptIndices = new ArrayList<>(sharedOffsets);
+        for (Placed<E> placed : laterNodes) {
+            Placed<E> earlierPlaced = earlierNodesByKey.remove(key.apply(placed.node.value));
+            if (earlierPlaced == null) {
+                added.put(placed.index(), placed.node.value);
+                continue;
+            }
+            keptIndices.add(new int[] {earlierPlaced.index(), placed.index()});
+            if (earlierPlaced.node.value != placed.node.value && !earlierPlaced.node.value.equals(placed.node.value)) {
+                updated.add(placed.node.value);
+            }
+        }
+        List<Placed<E>> removedNodes = new ArrayList<>(earlierNodesByKey.values());
+        removedNodes.sort(Comparator.comparingInt(Placed::index));
+
+        int[] removedIndices = removedNodes.stream().mapToInt(Placed::index).toArray();
+        int[] addedIndices = added.keySet().stream().mapToInt(Integer::intValue).toArray();
+        for (int[] indices : keptIndices) {
+            if (indices[0] - countBelow(removedIndices, indices[0])
+                    != indices[1] - countBelow(addedIndices, indices[1])) {
+                return null;
+            }
+        }
+        List<E> removed = new ArrayList<>();
+        removedNodes.forEach(placed -> removed.add(placed.node.value));
+        return new Changes<>(removed, added, updated);
+    }
+
+    /**
+     * Collects the nodes of the trees at {@code earlierRoot} and {@code laterRoot} that are not shared by both, with
+     * their positions, into {@code earlierNodes} and {@code laterNodes}, and the offsets in each tree of the largest
+     * subtrees shared by both into {@code sharedOffsets}.
+     * A node keeps its height wherever it is shared, so the nodes are looked into from the tallest down, and a node
+     * met in both trees at the same height is a shared subtree that is not looked into.
+     */
+    private static <E> void collectUnsharedNodes(Node<E> earlierRoot, Node<E> laterRoot,
+            List<Placed<E>> earlierNodes, List<Placed<E>> laterNodes, List<int[]> sharedOffsets) {
+        TreeMap<Integer, List<Placed<E>>> earlierByHeight = new TreeMap<>();
+        TreeMap<Integer, List<Placed<E>>> laterByHeight = new TreeMap<>();
+        addByHeight(earlierByHeight, earlierRoot, 0);
+        addByHeight(laterByHeight, laterRoot, 0);
+
+        while (!earlierByHeight.isEmpty() || !laterByHeight.isEmpty()) {
+            int height = Math.max(earlierByHeight.isEmpty() ? 0 : earlierByHeight.lastKey(),
+                    laterByHeight.isEmpty() ? 0 : laterByHeight.lastKey());
+            Map<Node<E>, Placed<E>> earlierAtHeight = new IdentityHashMap<>();
+            for (Placed<E> placed : removeAtHeight(earlierByHeight, height)) {
+                earlierAtHeight.put(placed.node, placed);
+            }
+            List<Placed<E>> laterAtHeight = removeAtHeight(laterByHeight, height);
+
+            for (Placed<E> placed : laterAtHeight) {
+                Placed<E> earlierPlaced = earlierAtHeight.remove(placed.node);
+                if (earlierPlaced != null) {
+                    sharedOffsets.add(new int[] {earlierPlaced.offset, placed.offset});
+                } else {
+                    laterNodes.add(placed);
+                    addChildrenByHeight(laterByHeight, placed);
+                }
+            }
+            for (Placed<E> placed : earlierAtHeight.values()) {
+                earlierNodes.add(placed);
+                addChildrenByHeight(earlierByHeight, placed);
+            }
+        }
+    }
+
+    private static <E> List<Placed<E>> removeAtHeight(TreeMap<Integer, List<Placed<E>>> byHeight, int height) {
+        List<Placed<E>> atHeight = byHeight.remove(height);
+        return atHeight == null ? Collections.emptyList() : atHeight;
+    }
+
+    private static <E> void addChildrenByHeight(TreeMap<Integer, List<Placed<E>>> byHeight, Placed<E> placed) {
+        addByHeight(byHeight, placed.node.left, placed.offset);
+        addByHeight(byHeight, placed.node.right, placed.index() + 1);
+    }
+
+    private static <E> void addByHeight(TreeMap<Integer, List<Placed<E>>> byHeight, Node<E> node, int offset) {
+        if (node != null) {
+            byHeight.computeIfAbsent(node.height, unused -> new ArrayList<>()).add(new Placed<>(node, offset));
+        }
+    }
+
+    /**
+     * Returns the number of elements of the ascending {@code sortedIndices} that are less than {@code index}, which
+     * is not one of them.
+     */
+    private static int countBelow(int[] sortedIndices, int index) {
+        return -Arrays.binarySearch(sortedIndices, index) - 1;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    //// tree operations, each returning the root of the changed copy
+
+    /**
+     * Returns a balanced tree of the elements of {@code elements} from {@code from} up to {@code to}.
+     */
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with {@code element} inserted at {@code index}.
+     */
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with the element at {@code index} replaced by {@code element}.
+     */
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.left, node.right);
+        }
+        return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} without the element at {@code index}.
+     */
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<E> middle = left.right;
+            return new Node<>(middle.value, new Node<>(left.value, left.left, middle.left),
+                    new Node<>(value, middle.right, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<E> middle = right.left;
+            return new Node<>(middle.value, new Node<>(value, left, middle.left),
+                    new Node<>(right.value, middle.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which is never changed once created.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            size = size(left) + size(right) + 1;
+            height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * A node of a tree, with the position in the list of the first element of its subtree.
+     */
+    private static final class Placed<E> {
+        private final Node<E> node;
+        private final int offset;
+
+        Placed(Node<E> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+
+        /**
+         * Returns the position in the list of the element held by the node.
+         */
+        int index() {
+            return offset + size(node.left);
+        }
+    }
+
+    /**
+     * The changes that turn one list into another: the elements removed, in their order in the earlier list, the
+     * elements added, by their position in the later list, and the elements updated in place.
+     * Removing the removed elements, then adding the added elements in order of position, then updating the updated
+     * elements, turns the earlier list into the later one.
+     */
+    static final class Changes<E> {
+        final List<E> removed;
+        final SortedMap<Integer, E> added;
+        final List<E> updated;
+
+        Changes(List<E> removed, SortedMap<Integer, E> added, List<E> updated) {
+            this.removed = removed;
+            this.added = added;
+            this.updated = updated;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, keeping the path to the next element on a stack.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            for (; node != null; node = node.left) {
+                path.push(node);
+            }
+        }
+    }
+}
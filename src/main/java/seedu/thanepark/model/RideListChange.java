@@ -0,0 +1,228 @@
+package seedu.thanepark.model;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.RideCodec;
+
+/**
+ * A change to the rides of a {@code ThanePark} that can be applied, inverted, and written to and read from a
+ * compact binary form.
+ */
+abstract class RideListChange {
+
+    /** Rough heap cost of keeping one ride alive in the history, used to budget the memory of the history. */
+    static final long ESTIMATED_BYTES_PER_RIDE = 256;
+
+    private static final RideCodec CODEC = new RideCodec();
+
+    private static final byte TYPE_ADDED = 0;
+    private static final byte TYPE_REMOVED = 1;
+    private static final byte TYPE_UPDATED = 2;
+    private static final byte TYPE_REPLACED = 3;
+
+    /**
+     * Applies this change to {@code thanePark}.
+     */
+    abstract void apply(ThanePark thanePark);
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    abstract RideListChange inverse();
+
+    /**
+     * Returns the estimated number of bytes of heap kept alive by this change.
+     */
+    abstract long estimateBytes();
+
+    /**
+     * Writes this change to {@code out}, in the form read by {@link #read(DataInput)}.
+     */
+    abstract void write(DataOutput out) throws IOException;
+
+    /**
+     * Reads a change written by {@link #write(DataOutput)} from {@code in}.
+     */
+    static RideListChange read(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+        case TYPE_ADDED:
+            return new Added(in.readInt(), CODEC.readRide(in));
+        case TYPE_REMOVED:
+            return new Removed(in.readInt(), CODEC.readRide(in));
+        case TYPE_UPDATED:
+            return new Updated(CODEC.readRide(in), CODEC.readRide(in));
+        case TYPE_REPLACED:
+            return new Replaced(readRides(in), readRides(in));
+        default:
+            throw new IOException("Unknown ride list change type " + type);
+        }
+    }
+
+    /**
+     * Writes the size of {@code rides} followed by each ride to {@code out}.
+     */
+    private static void writeRides(DataOutput out, List<Ride> rides) throws IOException {
+        out.writeInt(rides.size());
+        for (Ride ride : rides) {
+            CODEC.writeRide(out, ride);
+        }
+    }
+
+    /**
+     * Reads a list of rides written by {@link #writeRides(DataOutput, List)} from {@code in}.
+     */
+    private static List<Ride> readRides(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<Ride> rides = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            rides.add(CODEC.readRide(in));
+        }
+        return rides;
+    }
+
+    /**
+     * Inserts {@code ride} at {@code index}.
+     */
+    static class Added extends RideListChange {
+        private final int index;
+        private final Ride ride;
+
+        Added(int index, Ride ride) {
+            this.index = index;
+            this.ride = ride;
+        }
+
+        @Override
+        void apply(ThanePark thanePark) {
+            thanePark.addRide(index, ride);
+        }
+
+        @Override
+        RideListChange inverse() {
+            return new Removed(index, ride);
+        }
+
+        @Override
+        long estimateBytes() {
+            return ESTIMATED_BYTES_PER_RIDE;
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(TYPE_ADDED);
+            out.writeInt(index);
+            CODEC.writeRide(out, ride);
+        }
+    }
+
+    /**
+     * Removes {@code ride}, which is at {@code index}.
+     */
+    static class Removed extends RideListChange {
+        private final int index;
+        private final Ride ride;
+
+        Removed(int index, Ride ride) {
+            this.index = index;
+            this.ride = ride;
+        }
+
+        @Override
+        void apply(ThanePark thanePark) {
+            thanePark.removeRide(ride);
+        }
+
+        @Override
+        RideListChange inverse() {
+            return new Added(index, ride);
+        }
+
+        @Override
+        long estimateBytes() {
+            return ESTIMATED_BYTES_PER_RIDE;
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(TYPE_REMOVED);
+            out.writeInt(index);
+            CODEC.writeRide(out, ride);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedRide}.
+     */
+    static class Updated extends RideListChange {
+        private final Ride target;
+        private final Ride editedRide;
+
+        Updated(Ride target, Ride editedRide) {
+            this.target = target;
+            this.editedRide = editedRide;
+        }
+
+        @Override
+        void apply(ThanePark thanePark) {
+            thanePark.updateRide(target, editedRide);
+        }
+
+        @Override
+        RideListChange inverse() {
+            return new Updated(editedRide, target);
+        }
+
+        @Override
+        long estimateBytes() {
+            return 2 * ESTIMATED_BYTES_PER_RIDE;
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(TYPE_UPDATED);
+            CODEC.writeRide(out, target);
+            CODEC.writeRide(out, editedRide);
+        }
+    }
+
+    /**
+     * Replaces all of {@code previousRides} with {@code rides}.
+     */
+    static class Replaced extends RideListChange {
+        private final List<Ride> previousRides;
+        private final List<Ride> rides;
+
+        Replaced(List<Ride> previousRides, List<Ride> rides) {
+            this.previousRides = previousRides;
+            this.rides = rides;
+        }
+
+        @Override
+        void apply(ThanePark thanePark) {
+            thanePark.setRides(rides);
+        }
+
+        @Override
+        RideListChange inverse() {
+            return new Replaced(rides, previousRides);
+        }
+
+        @Override
+        long estimateBytes() {
+            return (previousRides.size() + rides.size()) * ESTIMATED_BYTES_PER_RIDE;
+        }
+
+        @Override
+        void write(DataOutput out) throws IOException {
+            out.writeByte(TYPE_REPLACED);
+            writeRides(out, previousRides);
+            writeRides(out, rides);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.thanepark.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import seedu.thanepark.model.ride.IndexedRidePredicate;
+import seedu.thanepark.model.ride.Ride;
+
+/**
+ * Keeps a view of the rides of a {@code ThanePark} for each of the most recently shown predicates, and shows one of
+ * them at a time in the displayed list.
+ * Every view is kept up to date as the rides change, re-testing only the rides that were added or replaced, so views
+ * survive changes to the rides and showing a recent predicate again needs no filtering at all. Views are looked up by
+ * the equality of their predicates, so predicates must implement {@code hashCode} along with {@code equals}. Once more
+ * than {@code maxViews} predicates have been shown, the least recently shown view is dropped, though the view being
+ * shown is always kept up to date.
+ * The rides of a view are in the order of the rides, unless its predicate ranks them, in which case the view is sorted
+ * by that ranking as it is kept up to date.
+ */
+final class RideViews {
+
+    private final ThanePark thanePark;
+    /** The views by predicate, the least recently shown first. */
+    private final Map<Predicate<Ride>, View> views;
+    private final DisplayedList displayedList;
+    private View shownView;
+    private long hitCount;
+    private long missCount;
+
+    RideViews(ThanePark thanePark, Predicate<Ride> initialPredicate, int maxViews) {
+        requireNonNull(thanePark);
+        requireNonNull(initialPredicate);
+        assert maxViews >= 0;
+
+        this.thanePark = thanePark;
+        views = new LinkedHashMap<Predicate<Ride>, View>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Ride>, View> eldest) {
+                return size() > maxViews;
+            }
+        };
+        shownView = new View(initialPredicate);
+        views.put(initialPredicate, shownView);
+        displayedList = new DisplayedList(shownView.rides);
+    }
+
+    /**
+     * Returns the rides of the view being shown. The list changes as the rides change, and when another view is shown.
+     */
+    ObservableListBase<Ride> getDisplayedList() {
+        return displayedList;
+    }
+
+    /**
+     * Returns the number of views being kept up to date.
+     */
+    int getViewCount() {
+        return views.size();
+    }
+
+    /**
+     * Returns the number of times that a predicate was shown using a view that was already kept.
+     */
+    long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of times that a predicate was shown by filtering all the rides into a new view.
+     */
+    long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Shows the rides that satisfy {@code predicate}, reusing the view of an equal predicate if there is one.
+     * Showing the predicate of the view already shown again is neither a hit nor a miss, as that view is kept up to
+     * date with the rides and is shown as it is.
+     */
+    void show(Predicate<Ride> predicate) {
+        requireNonNull(predicate);
+        if (predicate != shownView.predicate) {
+            View view = views.get(predicate);
+            if (view != null) {
+                hitCount++;
+            } else {
+                missCount++;
+                view = new View(predicate);
+                views.put(predicate, view);
+            }
+            shownView = view;
+        }
+        displayedList.show(shownView.rides);
+    }
+
+    /**
+     * The rides that satisfy a predicate.
+     * A dropped view stops being kept up to date once it is garbage collected, as a {@code FilteredList} or
+     * {@code SortedList} only holds a weak listener on its source.
+     */
+    private class View {
+        private final Predicate<Ride> predicate;
+        private final ObservableList<Ride> rides;
+
+        View(Predicate<Ride> predicate) {
+            this.predicate = predicate;
+            if (predicate instanceof IndexedRidePredicate) {
+                IndexedRidePredicate indexedPredicate = (IndexedRidePredicate) predicate;
+                IndexedFilter indexedFilter = new IndexedFilter(indexedPredicate);
+                FilteredList<Ride> filteredRides = new FilteredList<>(thanePark.getRideList(), indexedFilter);
+                indexedFilter.finishInitialPass();
+                rides = indexedPredicate.getRanking()
+                        .<ObservableList<Ride>>map(ranking -> new SortedList<>(filteredRides, ranking))
+                        .orElse(filteredRides);
+            } else {
+                rides = new FilteredList<>(thanePark.getRideList(), predicate);
+            }
+        }
+    }
+
+    /**
+     * Filters the rides with an {@code IndexedRidePredicate}.
+     * While the view is first evaluated, rides are matched against the answer from the ride index. After that, only
+     * rides that are added or replaced are tested, and those are tested against the predicate directly.
+     */
+    private class IndexedFilter implements Predicate<Ride> {
+        private final IndexedRidePredicate predicate;
+        private final Set<Ride> initialMatches;
+        private boolean isInitialPass = true;
+
+        IndexedFilter(IndexedRidePredicate predicate) {
+            this.predicate = predicate;
+            initialMatches = predicate.select(thanePark.getRideIndex());
+        }
+
+        void finishInitialPass() {
+            isInitialPass = false;
+        }
+
+        @Override
+        public boolean test(Ride ride) {
+            return isInitialPass ? initialMatches.contains(ride) : predicate.test(ride);
+        }
+    }
+
+    /**
+     * Shows the rides of one view at a time, passing on the changes of that view to its own listeners.
+     */
+    private static class DisplayedList extends ObservableListBase<Ride> {
+        private final ListChangeListener<Ride> changeForwarder = this::forwardChange;
+        private ObservableList<Ride> shownRides;
+
+        DisplayedList(ObservableList<Ride> shownRides) {
+            this.shownRides = shownRides;
+            shownRides.addListener(changeForwarder);
+        }
+
+        /**
+         * Shows {@code rides} instead of the rides shown before, as a single change replacing all of them.
+         */
+        void show(ObservableList<Ride> rides) {
+            if (rides == shownRides) {
+                return;
+            }
+            List<Ride> removed = new ArrayList<>(shownRides);
+            shownRides.removeListener(changeForwarder);
+            shownRides = rides;
+            shownRides.addListener(changeForwarder);
+
+            beginChange();
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!shownRides.isEmpty()) {
+                nextAdd(0, shownRides.size());
+            }
+            endChange();
+        }
+
+        /**
+         * Passes on {@code change} of the shown rides to the listeners of this list.
+         */
+        private void forwardChange(ListChangeListener.Change<? extends Ride> change) {
+            beginChange();
+            while (change.next()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                if (change.wasPermutated()) {
+                    int[] permutation = new int[to - from];
+                    for (int i = from; i < to; i++) {
+                        permutation[i - from] = change.getPermutation(i);
+                    }
+                    nextPermutation(from, to, permutation);
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < to; i++) {
+                        nextUpdate(i);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        nextRemove(from, new ArrayList<>(change.getRemoved()));
+                    }
+                    if (change.wasAdded()) {
+                        nextAdd(from, to);
+                    }
+                }
+            }
+            endChange();
+        }
+
+        @Override
+        public Ride get(int index) {
+            return shownRides.get(index);
+        }
+
+        @Override
+        public int size() {
+            return shownRides.size();
+        }
+    }
+}
@@ -3,18 +3,31 @@ package seedu.thanepark.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javafx.collections.ObservableList;
+import seedu.thanepark.model.ride.Name;
 import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.RideIndex;
 import seedu.thanepark.model.ride.UniqueRideList;
 
 /**
  * Wraps all data at the thanepark-book level
  * Duplicates are not allowed (by .isSameRide comparison)
+ *
+ * After every change, an immutable {@code ThaneParkSnapshot} of the rides is published for readers that must not
+ * lock or copy the rides. The snapshot shares its structure with the previous one, so publishing it costs O(log n)
+ * for a change to a single ride.
  */
 public class ThanePark implements ReadOnlyThanePark {
 
     private final UniqueRideList rides;
+    private final AtomicReference<ThaneParkSnapshot> publishedSnapshot =
+            new AtomicReference<>(ThaneParkSnapshot.EMPTY);
+    // The rides of the next snapshot, which are published right away unless snapshots are being held back.
+    private PersistentList<Ride> snapshotRides = PersistentList.empty();
+    private boolean isHoldingSnapshots;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +58,7 @@ public class ThanePark implements ReadOnlyThanePark {
      */
     public void setRides(List<Ride> rides) {
         this.rides.setRides(rides);
+        updateSnapshot(PersistentList.of(rides));
     }
 
     /**
@@ -66,12 +80,38 @@ public class ThanePark implements ReadOnlyThanePark {
         return rides.contains(ride);
     }
 
+    /**
+     * Returns the ride with the given {@code name} in the thanepark book, if there is one.
+     */
+    public Optional<Ride> getRide(Name name) {
+        return rides.get(name);
+    }
+
+    /**
+     * Returns the position of {@code ride} in the thanepark book, or -1 if it is not in the thanepark book.
+     */
+    public int indexOfRide(Ride ride) {
+        requireNonNull(ride);
+        return rides.indexOf(ride);
+    }
+
     /**
      * Adds a ride to the thanepark book.
      * The ride must not already exist in the thanepark book.
      */
     public void addRide(Ride p) {
+        int index = rides.asUnmodifiableObservableList().size();
         rides.add(p);
+        updateSnapshot(snapshotRides.plus(index, p));
+    }
+
+    /**
+     * Inserts a ride into the thanepark book at {@code index}.
+     * The ride must not already exist in the thanepark book.
+     */
+    public void addRide(int index, Ride p) {
+        rides.add(index, p);
+        updateSnapshot(snapshotRides.plus(index, p));
     }
 
     /**
@@ -82,7 +122,9 @@ public class ThanePark implements ReadOnlyThanePark {
     public void updateRide(Ride target, Ride editedRide) {
         requireNonNull(editedRide);
 
+        int index = indexOfRide(target);
         rides.setRide(target, editedRide);
+        updateSnapshot(snapshotRides.with(index, editedRide));
     }
 
     /**
@@ -90,7 +132,47 @@ public class ThanePark implements ReadOnlyThanePark {
      * {@code key} must exist in the thanepark book.
      */
     public void removeRide(Ride key) {
+        int index = indexOfRide(key);
         rides.remove(key);
+        updateSnapshot(snapshotRides.minus(index));
+    }
+
+    //// snapshot operations
+
+    /**
+     * Returns the snapshot of the rides published after the latest change, in O(1).
+     * It can be read from any thread without locking.
+     */
+    public ThaneParkSnapshot getSnapshot() {
+        return publishedSnapshot.get();
+    }
+
+    /**
+     * Holds back snapshots until {@link #releaseSnapshots()}, so that the intermediate states of a change made up of
+     * several smaller changes are not published.
+     */
+    protected void holdSnapshots() {
+        isHoldingSnapshots = true;
+    }
+
+    /**
+     * Stops holding back snapshots and publishes the rides as they are now, if they changed while held back.
+     */
+    protected void releaseSnapshots() {
+        isHoldingSnapshots = false;
+        if (snapshotRides != publishedSnapshot.get().getRides()) {
+            publishedSnapshot.set(publishedSnapshot.get().next(snapshotRides));
+        }
+    }
+
+    /**
+     * Records {@code changedRides} as the rides after a change, publishing them unless snapshots are held.
+     */
+    private void updateSnapshot(PersistentList<Ride> changedRides) {
+        snapshotRides = changedRides;
+        if (!isHoldingSnapshots) {
+            publishedSnapshot.set(publishedSnapshot.get().next(changedRides));
+        }
     }
 
     //// util methods
@@ -106,6 +188,13 @@ public class ThanePark implements ReadOnlyThanePark {
         return rides.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the secondary indexes over the rides in this thanepark book.
+     */
+    public RideIndex getRideIndex() {
+        return rides.getRideIndex();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,123 @@
+package seedu.thanepark.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.thanepark.model.ride.Ride;
+
+/**
+ * An immutable copy of the rides of a {@code ThanePark} as they were after one of its changes.
+ * Snapshots are published by the {@code ThanePark} as it changes, so taking one costs O(1), and it can be read from
+ * any thread without locking while the {@code ThanePark} keeps changing.
+ * The version of the snapshots of a {@code ThanePark} increases with each change, so comparing versions tells whether a
+ * snapshot is stale. A later snapshot of the same {@code ThanePark} shares most of its structure with an earlier one,
+ * so the changes between them can be found without looking at the rides that did not change.
+ */
+public final class ThaneParkSnapshot implements ReadOnlyThanePark {
+
+    static final ThaneParkSnapshot EMPTY = new ThaneParkSnapshot(0, PersistentList.empty());
+
+    private final long version;
+    private final PersistentList<Ride> rides;
+
+    ThaneParkSnapshot(long version, PersistentList<Ride> rides) {
+        this.version = version;
+        this.rides = rides;
+    }
+
+    /**
+     * Returns the snapshot of {@code thanePark}, copying it only if it is neither a snapshot nor a {@code ThanePark}.
+     */
+    public static ThaneParkSnapshot of(ReadOnlyThanePark thanePark) {
+        requireNonNull(thanePark);
+        if (thanePark instanceof ThaneParkSnapshot) {
+            return (ThaneParkSnapshot) thanePark;
+        } else if (thanePark instanceof ThanePark) {
+            return ((ThanePark) thanePark).getSnapshot();
+        }
+        return new ThaneParkSnapshot(0, PersistentList.of(thanePark.getRideList()));
+    }
+
+    /**
+     * Returns the version of this snapshot. A snapshot of the same {@code ThanePark} with a higher version was
+     * taken after a later change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the rides in the snapshot as an immutable list.
+     */
+    public List<Ride> getRides() {
+        return rides;
+    }
+
+    /**
+     * Returns the changes that turn the rides of {@code earlier} into the rides of this snapshot, or an empty
+     * {@code Optional} if the rides in both are not in the same order in each.
+     * This takes time in proportion to the number of rides changed if this snapshot was taken after
+     * {@code earlier} of the same {@code ThanePark}, and to the number of rides otherwise.
+     */
+    public Optional<Changes> getChangesSince(ThaneParkSnapshot earlier) {
+        requireNonNull(earlier);
+        PersistentList.Changes<Ride> changes = rides.changesSince(earlier.rides, Ride::getName);
+        return Optional.ofNullable(changes).map(Changes::new);
+    }
+
+    @Override
+    public ObservableList<Ride> getRideList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(rides));
+    }
+
+    /**
+     * Returns a snapshot one version after this one, holding {@code changedRides}.
+     */
+    ThaneParkSnapshot next(PersistentList<Ride> changedRides) {
+        return new ThaneParkSnapshot(version + 1, changedRides);
+    }
+
+    @Override
+    public String toString() {
+        return rides.size() + " rides (version " + version + ")";
+    }
+
+    /**
+     * The rides removed, added and updated between two snapshots.
+     * Removing the removed rides, then adding the added rides in order of position, then updating the updated rides,
+     * turns the rides of the earlier snapshot into the rides of the later one.
+     */
+    public static final class Changes {
+        private final PersistentList.Changes<Ride> changes;
+
+        private Changes(PersistentList.Changes<Ride> changes) {
+            this.changes = changes;
+        }
+
+        /**
+         * Returns the rides removed, in their order in the earlier snapshot.
+         */
+        public List<Ride> getRemovedRides() {
+            return changes.removed;
+        }
+
+        /**
+         * Returns the rides added, by their position in the later snapshot.
+         */
+        public SortedMap<Integer, Ride> getAddedRides() {
+            return changes.added;
+        }
+
+        /**
+         * Returns the rides updated, as they are in the later snapshot.
+         */
+        public List<Ride> getUpdatedRides() {
+            return changes.updated;
+        }
+    }
+}
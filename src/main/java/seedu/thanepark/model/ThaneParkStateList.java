@@ -0,0 +1,248 @@
+package seedu.thanepark.model;
+
+import static seedu.thanepark.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.thanepark.commons.core.LogsCenter;
+
+/**
+ * The states of a {@code VersionedThanePark}, each kept as the list of changes from the state before it.
+ * At most {@code maxStates} states are kept, the oldest being dropped first. Once the estimated size of the changes
+ * held in memory goes over {@code memoryBudgetInBytes}, the oldest states are spilled to an append-only file and read
+ * back from it when needed, or dropped if there is no spill directory. The spill file is a new temporary file in
+ * {@code spillDirectory}, so that several instances of the app, such as the window and a script, never share one.
+ * The changes of the first state are never read, as nothing comes before it.
+ */
+class ThaneParkStateList {
+    private static final Logger logger = LogsCenter.getLogger(ThaneParkStateList.class);
+
+    private static final String SPILL_FILE_PREFIX = "undohistory-";
+    private static final String SPILL_FILE_SUFFIX = ".bin";
+
+    private final int maxStates;
+    private final long memoryBudgetInBytes;
+    private final Path spillDirectory;
+    // Created when the first state is spilled.
+    private Path spillFilePath;
+    private final List<StateEntry> entries = new ArrayList<>();
+    // entries.subList(0, spilledCount) are in the spill file, in file order; the rest are in memory.
+    private int spilledCount;
+    private long bytesInMemory;
+    private long spillFileLength;
+
+    /**
+     * Creates an empty state list.
+     * A null {@code spillDirectory} drops the oldest states instead of spilling them once over the memory budget.
+     */
+    ThaneParkStateList(int maxStates, long memoryBudgetInBytes, Path spillDirectory) {
+        checkArgument(maxStates > 0, "At least one state must be kept.");
+        checkArgument(memoryBudgetInBytes >= 0, "The memory budget cannot be negative.");
+        this.maxStates = maxStates;
+        this.memoryBudgetInBytes = memoryBudgetInBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the changes of the state at {@code index}, reading them back from the spill file if they were spilled.
+     */
+    List<RideListChange> get(int index) throws IOException {
+        StateEntry entry = entries.get(index);
+        if (entry.changes != null) {
+            return entry.changes;
+        }
+        return readSpilled(entry);
+    }
+
+    /**
+     * Adds a state with the given {@code changes} after the last state, then drops or spills the oldest states until
+     * the list is within its limits. The newest state is always kept in memory.
+     *
+     * @return the number of states dropped from the front of the list.
+     */
+    int add(List<RideListChange> changes) {
+        StateEntry entry = new StateEntry(changes);
+        entries.add(entry);
+        bytesInMemory += entry.bytes;
+
+        int droppedCount = 0;
+        while (entries.size() > maxStates) {
+            dropFirst();
+            droppedCount++;
+        }
+        while (bytesInMemory > memoryBudgetInBytes && spilledCount < entries.size() - 1) {
+            if (!spillNext()) {
+                dropFirst();
+                droppedCount++;
+            }
+        }
+        return droppedCount;
+    }
+
+    /**
+     * Removes every state after the state at {@code index}.
+     */
+    void removeAfter(int index) {
+        List<StateEntry> removed = entries.subList(index + 1, entries.size());
+        for (StateEntry entry : removed) {
+            if (entry.changes != null) {
+                bytesInMemory -= entry.bytes;
+            }
+        }
+        if (spilledCount > index + 1) {
+            spillFileLength = removed.get(0).offset;
+            spilledCount = index + 1;
+        }
+        removed.clear();
+    }
+
+    /**
+     * Removes the first state. The state after it becomes the first state, so its changes are no longer needed.
+     */
+    void dropFirst() {
+        StateEntry first = entries.remove(0);
+        if (first.changes == null) {
+            spilledCount--;
+        } else {
+            bytesInMemory -= first.bytes;
+        }
+        if (!entries.isEmpty() && entries.get(0).changes != null) {
+            bytesInMemory -= entries.get(0).bytes;
+            entries.set(0, new StateEntry(Collections.emptyList()));
+        }
+    }
+
+    /**
+     * Writes the oldest in-memory state to the end of the spill file and releases its changes.
+     *
+     * @return false if the state could not be spilled.
+     */
+    private boolean spillNext() {
+        if (spillDirectory == null) {
+            return false;
+        }
+        StateEntry entry = entries.get(spilledCount);
+        int spilledLength;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(entry.changes.size());
+            for (RideListChange change : entry.changes) {
+                change.write(out);
+            }
+            out.flush();
+            spilledLength = bytes.size();
+
+            if (spilledCount == 0) {
+                // Nothing in the file is needed any more, so start it afresh.
+                createSpillFile();
+            } else {
+                compactSpillFileIfMostlyDead();
+            }
+            try (FileChannel channel = FileChannel.open(spillFilePath, StandardOpenOption.WRITE)) {
+                channel.truncate(spillFileLength);
+                channel.write(ByteBuffer.wrap(bytes.toByteArray()), spillFileLength);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to spill undo history to " + spillFilePath + ": " + e.getMessage());
+            return false;
+        }
+
+        entry.offset = spillFileLength;
+        spillFileLength += spilledLength;
+        bytesInMemory -= entry.bytes;
+        entry.changes = null;
+        spilledCount++;
+        return true;
+    }
+
+    /**
+     * Creates the spill file if it has not been created yet, to be deleted when the app exits, and treats it as empty.
+     */
+    private void createSpillFile() throws IOException {
+        if (spillFilePath == null) {
+            Files.createDirectories(spillDirectory);
+            spillFilePath = Files.createTempFile(spillDirectory, SPILL_FILE_PREFIX, SPILL_FILE_SUFFIX);
+            spillFilePath.toFile().deleteOnExit();
+        }
+        spillFileLength = 0;
+    }
+
+    /**
+     * Moves the spilled states to the start of the spill file once the dropped states before them take up at least as
+     * much of the file as they do.
+     */
+    private void compactSpillFileIfMostlyDead() throws IOException {
+        long deadLength = entries.get(0).offset;
+        long liveLength = spillFileLength - deadLength;
+        if (deadLength < liveLength) {
+            return;
+        }
+
+        Path compactedPath = spillFilePath.resolveSibling(spillFilePath.getFileName() + ".tmp");
+        try (FileChannel source = FileChannel.open(spillFilePath, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(compactedPath, StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long transferred = 0;
+            while (transferred < liveLength) {
+                transferred += source.transferTo(deadLength + transferred, liveLength - transferred, target);
+            }
+        }
+        Files.move(compactedPath, spillFilePath, StandardCopyOption.REPLACE_EXISTING);
+
+        for (int i = 0; i < spilledCount; i++) {
+            entries.get(i).offset -= deadLength;
+        }
+        spillFileLength = liveLength;
+    }
+
+    /**
+     * Reads the changes of the spilled {@code entry} back from the spill file.
+     */
+    private List<RideListChange> readSpilled(StateEntry entry) throws IOException {
+        try (FileChannel channel = FileChannel.open(spillFilePath, StandardOpenOption.READ)) {
+            channel.position(entry.offset);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            int count = in.readInt();
+            List<RideListChange> changes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                changes.add(RideListChange.read(in));
+            }
+            return changes;
+        }
+    }
+
+    /**
+     * A state in the list. Exactly one of {@code changes} and {@code offset} is meaningful: {@code changes} is null
+     * once the state has been spilled to {@code offset} in the spill file.
+     */
+    private static class StateEntry {
+        private List<RideListChange> changes;
+        private final long bytes;
+        private long offset;
+
+        StateEntry(List<RideListChange> changes) {
+            this.changes = changes;
+            this.bytes = changes.stream().mapToLong(RideListChange::estimateBytes).sum();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.thanepark.model;
 
+import static seedu.thanepark.commons.util.AppUtil.checkArgument;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
@@ -11,8 +13,32 @@ import seedu.thanepark.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final int MIN_UNDO_HISTORY_MAX_STATES = 1;
+    public static final long MIN_UNDO_HISTORY_MEMORY_BUDGET = 0;
+    public static final int MIN_FILTER_CACHE_SIZE = 1;
+    public static final String MESSAGE_UNDO_HISTORY_MAX_STATES_CONSTRAINTS =
+            "The undo history should keep at least " + MIN_UNDO_HISTORY_MAX_STATES + " state";
+    public static final String MESSAGE_UNDO_HISTORY_MEMORY_BUDGET_CONSTRAINTS =
+            "The memory budget of the undo history should not be negative";
+    public static final String MESSAGE_FILTER_CACHE_SIZE_CONSTRAINTS =
+            "The filter cache size should be at least " + MIN_FILTER_CACHE_SIZE;
+
+    /**
+     * The formats that the ThanePark data file can be stored in.
+     */
+    public enum DataFileFormat {
+        XML, BINARY
+    }
+
     private GuiSettings guiSettings;
     private Path thaneParkFilePath = Paths.get("data" , "thanepark.xml");
+    private DataFileFormat thaneParkFileFormat = DataFileFormat.XML;
+    private long saveQuietPeriodMillis = 500;
+    private long saveMaxDelayMillis = 5000;
+    private int undoHistoryMaxStates = 1000;
+    private long undoHistoryMemoryBudget = 32L * 1024 * 1024;
+    private Path undoHistorySpillDirectory = Paths.get("data");
+    private int filterCacheSize = 8;
 
     public UserPrefs() {
         setGuiSettings(700, 500, 0, 0);
@@ -38,6 +64,103 @@ public class UserPrefs {
         this.thaneParkFilePath = thaneParkFilePath;
     }
 
+    public DataFileFormat getThaneParkFileFormat() {
+        return thaneParkFileFormat;
+    }
+
+    public void setThaneParkFileFormat(DataFileFormat thaneParkFileFormat) {
+        this.thaneParkFileFormat = thaneParkFileFormat;
+    }
+
+    /**
+     * Returns how long the data must go without changes before it is saved. Zero saves every change as it happens.
+     */
+    public long getSaveQuietPeriodMillis() {
+        return saveQuietPeriodMillis;
+    }
+
+    public void setSaveQuietPeriodMillis(long saveQuietPeriodMillis) {
+        this.saveQuietPeriodMillis = saveQuietPeriodMillis;
+    }
+
+    /**
+     * Returns the longest that a change may wait to be saved while further changes keep coming in.
+     */
+    public long getSaveMaxDelayMillis() {
+        return saveMaxDelayMillis;
+    }
+
+    public void setSaveMaxDelayMillis(long saveMaxDelayMillis) {
+        this.saveMaxDelayMillis = saveMaxDelayMillis;
+    }
+
+    public int getUndoHistoryMaxStates() {
+        return undoHistoryMaxStates;
+    }
+
+    public void setUndoHistoryMaxStates(int undoHistoryMaxStates) {
+        checkArgument(isValidUndoHistoryMaxStates(undoHistoryMaxStates), MESSAGE_UNDO_HISTORY_MAX_STATES_CONSTRAINTS);
+        this.undoHistoryMaxStates = undoHistoryMaxStates;
+    }
+
+    /**
+     * Returns true if {@code undoHistoryMaxStates} keeps at least the current state.
+     */
+    public static boolean isValidUndoHistoryMaxStates(int undoHistoryMaxStates) {
+        return undoHistoryMaxStates >= MIN_UNDO_HISTORY_MAX_STATES;
+    }
+
+    /**
+     * Returns the estimated number of bytes that the undo history may keep in memory before spilling to disk.
+     */
+    public long getUndoHistoryMemoryBudget() {
+        return undoHistoryMemoryBudget;
+    }
+
+    public void setUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        checkArgument(isValidUndoHistoryMemoryBudget(undoHistoryMemoryBudget),
+                MESSAGE_UNDO_HISTORY_MEMORY_BUDGET_CONSTRAINTS);
+        this.undoHistoryMemoryBudget = undoHistoryMemoryBudget;
+    }
+
+    /**
+     * Returns true if {@code undoHistoryMemoryBudget} is not negative.
+     */
+    public static boolean isValidUndoHistoryMemoryBudget(long undoHistoryMemoryBudget) {
+        return undoHistoryMemoryBudget >= MIN_UNDO_HISTORY_MEMORY_BUDGET;
+    }
+
+    /**
+     * Returns the folder in which each running instance of the app creates its own file to spill undo history to.
+     */
+    public Path getUndoHistorySpillDirectory() {
+        return undoHistorySpillDirectory;
+    }
+
+    public void setUndoHistorySpillDirectory(Path undoHistorySpillDirectory) {
+        this.undoHistorySpillDirectory = undoHistorySpillDirectory;
+    }
+
+    /**
+     * Returns the number of recently used filters whose results are kept up to date, so that they can be shown again
+     * without filtering.
+     */
+    public int getFilterCacheSize() {
+        return filterCacheSize;
+    }
+
+    public void setFilterCacheSize(int filterCacheSize) {
+        checkArgument(isValidFilterCacheSize(filterCacheSize), MESSAGE_FILTER_CACHE_SIZE_CONSTRAINTS);
+        this.filterCacheSize = filterCacheSize;
+    }
+
+    /**
+     * Returns true if {@code filterCacheSize} keeps at least one filter, as a smaller cache would turn it off.
+     */
+    public static boolean isValidFilterCacheSize(int filterCacheSize) {
+        return filterCacheSize >= MIN_FILTER_CACHE_SIZE;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,19 +173,33 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(thaneParkFilePath, o.thaneParkFilePath);
+                && Objects.equals(thaneParkFilePath, o.thaneParkFilePath)
+                && thaneParkFileFormat == o.thaneParkFileFormat
+                && saveQuietPeriodMillis == o.saveQuietPeriodMillis
+                && saveMaxDelayMillis == o.saveMaxDelayMillis
+                && undoHistoryMaxStates == o.undoHistoryMaxStates
+                && undoHistoryMemoryBudget == o.undoHistoryMemoryBudget
+                && Objects.equals(undoHistorySpillDirectory, o.undoHistorySpillDirectory)
+                && filterCacheSize == o.filterCacheSize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, thaneParkFilePath);
+        return Objects.hash(guiSettings, thaneParkFilePath, thaneParkFileFormat, saveQuietPeriodMillis,
+                saveMaxDelayMillis, undoHistoryMaxStates, undoHistoryMemoryBudget, undoHistorySpillDirectory,
+                filterCacheSize);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
-        sb.append("\nLocal data file location : " + thaneParkFilePath);
+        sb.append("\nLocal data file location : " + thaneParkFilePath + " (" + thaneParkFileFormat + ")");
+        sb.append("\nSaving : after " + saveQuietPeriodMillis + "ms without changes, at most " + saveMaxDelayMillis
+                + "ms after a change");
+        sb.append("\nUndo history : " + undoHistoryMaxStates + " states, " + undoHistoryMemoryBudget
+                + " bytes in memory, spilling to " + undoHistorySpillDirectory);
+        sb.append("\nFilter cache : " + filterCacheSize + " filters");
         return sb.toString();
     }
 
@@ -1,58 +1,166 @@
 package seedu.thanepark.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.thanepark.commons.core.LogsCenter;
+import seedu.thanepark.model.ride.Ride;
 
 /**
  * {@code ThanePark} that keeps track of its own history.
+ * Each state is kept as the changes made to the rides since the state before it, instead of as a full copy of the
+ * rides. Rides are immutable, so they are shared between the current data and all of its states, a commit only
+ * costs as much as the number of changes since the last commit, and undo/redo only replay those changes.
+ * The history can be bounded by a number of states and by the estimated memory taken by the changes, beyond which
+ * the oldest states are spilled to disk, or dropped if there is no spill file.
  */
 public class VersionedThanePark extends ThanePark {
+    private static final Logger logger = LogsCenter.getLogger(VersionedThanePark.class);
 
-    private final List<ReadOnlyThanePark> thaneParkStateList;
+    // thaneParkStateChangesList.get(i) holds the changes that turn state i - 1 into state i.
+    private final ThaneParkStateList thaneParkStateChangesList;
+    private List<RideListChange> uncommittedChanges;
     private int currentStatePointer;
+    private boolean isRestoringState;
 
     public VersionedThanePark(ReadOnlyThanePark initialState) {
-        super(initialState);
+        this(initialState, Integer.MAX_VALUE, Long.MAX_VALUE, null);
+    }
 
-        thaneParkStateList = new ArrayList<>();
-        thaneParkStateList.add(new ThanePark(initialState));
+    /**
+     * Creates a {@code VersionedThanePark} that keeps at most {@code maxStates} states, and spills the oldest states
+     * to a file of its own in {@code spillDirectory} once the changes kept in memory are estimated to take more than
+     * {@code memoryBudgetInBytes}. A null {@code spillDirectory} drops those states instead.
+     */
+    public VersionedThanePark(ReadOnlyThanePark initialState, int maxStates, long memoryBudgetInBytes,
+                              Path spillDirectory) {
+        thaneParkStateChangesList = new ThaneParkStateList(maxStates, memoryBudgetInBytes, spillDirectory);
+        uncommittedChanges = new ArrayList<>();
+        resetData(initialState);
+
+        thaneParkStateChangesList.add(new ArrayList<>());
+        uncommittedChanges = new ArrayList<>();
         currentStatePointer = 0;
     }
 
+    //// recorded ride operations
+
+    @Override
+    public void setRides(List<Ride> rides) {
+        if (isRestoringState) {
+            super.setRides(rides);
+            return;
+        }
+        List<Ride> previousRides = new ArrayList<>(getRideList());
+        super.setRides(rides);
+        record(new RideListChange.Replaced(previousRides, new ArrayList<>(getRideList())));
+    }
+
+    @Override
+    public void addRide(Ride p) {
+        addRide(getRideList().size(), p);
+    }
+
+    @Override
+    public void addRide(int index, Ride p) {
+        super.addRide(index, p);
+        record(new RideListChange.Added(index, p));
+    }
+
+    @Override
+    public void updateRide(Ride target, Ride editedRide) {
+        super.updateRide(target, editedRide);
+        record(new RideListChange.Updated(target, editedRide));
+    }
+
+    @Override
+    public void removeRide(Ride key) {
+        int index = indexOfRide(key);
+        super.removeRide(key);
+        record(new RideListChange.Removed(index, key));
+    }
+
+    private void record(RideListChange change) {
+        if (!isRestoringState) {
+            uncommittedChanges.add(change);
+        }
+    }
+
+    //// versioning operations
+
     /**
-     * Saves a copy of the current {@code ThanePark} state at the end of the state list.
+     * Saves the changes made since the last commit as a new state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        thaneParkStateList.add(new ThanePark(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        thaneParkStateList.subList(currentStatePointer + 1, thaneParkStateList.size()).clear();
+        thaneParkStateChangesList.removeAfter(currentStatePointer);
+        int droppedCount = thaneParkStateChangesList.add(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+        currentStatePointer = currentStatePointer + 1 - droppedCount;
     }
 
     /**
      * Restores the thanepark book to its previous state.
+     * If the previous state cannot be read back from the spill file, the states before the current state are dropped.
      */
     public void undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        List<RideListChange> changes;
+        try {
+            changes = thaneParkStateChangesList.get(currentStatePointer);
+        } catch (IOException e) {
+            logger.warning("Failed to read undo history, dropping older states: " + e.getMessage());
+            for (; currentStatePointer > 0; currentStatePointer--) {
+                thaneParkStateChangesList.dropFirst();
+            }
+            throw new NoUndoableStateException();
+        }
+        isRestoringState = true;
+        holdSnapshots();
+        try {
+            revertAll(uncommittedChanges, this);
+            revertAll(changes, this);
+        } finally {
+            isRestoringState = false;
+            releaseSnapshots();
+        }
+        uncommittedChanges = new ArrayList<>();
         currentStatePointer--;
-        resetData(thaneParkStateList.get(currentStatePointer));
     }
 
     /**
      * Restores the thanepark book to its previously undone state.
+     * If the undone state cannot be read back from the spill file, the undone states are dropped.
      */
     public void redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        List<RideListChange> changes;
+        try {
+            changes = thaneParkStateChangesList.get(currentStatePointer + 1);
+        } catch (IOException e) {
+            logger.warning("Failed to read redo history, dropping undone states: " + e.getMessage());
+            thaneParkStateChangesList.removeAfter(currentStatePointer);
+            throw new NoRedoableStateException();
+        }
+        isRestoringState = true;
+        holdSnapshots();
+        try {
+            revertAll(uncommittedChanges, this);
+            applyAll(changes, this);
+        } finally {
+            isRestoringState = false;
+            releaseSnapshots();
+        }
+        uncommittedChanges = new ArrayList<>();
         currentStatePointer++;
-        resetData(thaneParkStateList.get(currentStatePointer));
     }
 
     /**
@@ -66,7 +174,50 @@ public class VersionedThanePark extends ThanePark {
      * Returns true if {@code redo()} has thanepark book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < thaneParkStateList.size() - 1;
+        return currentStatePointer < thaneParkStateChangesList.size() - 1;
+    }
+
+    private static void applyAll(List<RideListChange> changes, ThanePark thanePark) {
+        for (RideListChange change : changes) {
+            change.apply(thanePark);
+        }
+    }
+
+    private static void revertAll(List<RideListChange> changes, ThanePark thanePark) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).inverse().apply(thanePark);
+        }
+    }
+
+    /**
+     * Returns a full copy of every state in the state list.
+     * As this copies the rides of every state, it is only meant for comparing histories.
+     */
+    private List<ReadOnlyThanePark> getStates() {
+        try {
+            return readStates();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reconstructs every state by reverting back to the first state and then replaying the changes of each state.
+     */
+    private List<ReadOnlyThanePark> readStates() throws IOException {
+        ThanePark state = new ThanePark(this);
+        revertAll(uncommittedChanges, state);
+        for (int i = currentStatePointer; i > 0; i--) {
+            revertAll(thaneParkStateChangesList.get(i), state);
+        }
+
+        List<ReadOnlyThanePark> states = new ArrayList<>();
+        states.add(new ThanePark(state));
+        for (int i = 1; i < thaneParkStateChangesList.size(); i++) {
+            applyAll(thaneParkStateChangesList.get(i), state);
+            states.add(new ThanePark(state));
+        }
+        return states;
     }
 
     @Override
@@ -85,8 +236,8 @@ public class VersionedThanePark extends ThanePark {
 
         // state check
         return super.equals(otherVersionedthanePark)
-                && thaneParkStateList.equals(otherVersionedthanePark.thaneParkStateList)
-                && currentStatePointer == otherVersionedthanePark.currentStatePointer;
+                && currentStatePointer == otherVersionedthanePark.currentStatePointer
+                && getStates().equals(otherVersionedthanePark.getStates());
     }
 
     /**
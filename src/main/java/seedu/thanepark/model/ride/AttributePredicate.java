@@ -1,40 +1,63 @@
 package seedu.thanepark.model.ride;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
 import java.util.function.Predicate;
 
 /**
- * Tests that an attribute value matches the predicate given
+ * Tests that an attribute value matches the predicate given.
+ * The range of values that the operator accepts is worked out once, when the predicate is created, from the value of
+ * {@code attribute} at that time.
  */
 public class AttributePredicate implements Predicate<NumericAttribute> {
-    private String operator;
-    private NumericAttribute attribute;
+    private final ComparisonOperator operator;
+    private final NumericAttribute attribute;
+    private final long lowerBound;
+    private final long upperBound;
 
     public AttributePredicate(String operator, NumericAttribute attribute) {
+        this(ComparisonOperator.fromSymbol(operator), attribute);
+    }
+
+    public AttributePredicate(ComparisonOperator operator, NumericAttribute attribute) {
+        requireNonNull(operator);
+        requireNonNull(attribute);
         this.operator = operator;
         this.attribute = attribute;
+        int threshold = attribute.getValue();
+        lowerBound = operator.getLowerBound(threshold);
+        upperBound = operator.getUpperBound(threshold);
+    }
+
+    public ComparisonOperator getOperator() {
+        return operator;
     }
 
     public NumericAttribute getAttribute() {
         return attribute;
     }
 
+    /**
+     * Returns the smallest attribute value that satisfies this predicate.
+     * If no value satisfies it, the lower bound is greater than the upper bound.
+     */
+    public long getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Returns the largest attribute value that satisfies this predicate.
+     * If no value satisfies it, the lower bound is greater than the upper bound.
+     */
+    public long getUpperBound() {
+        return upperBound;
+    }
+
     @Override
     public boolean test(NumericAttribute attribute) {
-        switch (operator) {
-        case "<":
-            return attribute.getValue() < this.attribute.getValue();
-        case ">":
-            return attribute.getValue() > this.attribute.getValue();
-        case "<=":
-            return attribute.getValue() <= this.attribute.getValue();
-        case ">=":
-            return attribute.getValue() >= this.attribute.getValue();
-        case "==":
-        case "=":
-            return attribute.getValue() == this.attribute.getValue();
-        default:
-            return false;
-        }
+        int value = attribute.getValue();
+        return value >= lowerBound && value <= upperBound;
     }
 
     @Override
@@ -42,6 +65,11 @@ public class AttributePredicate implements Predicate<NumericAttribute> {
         return other == this // short circuit if same object
                 || (other instanceof AttributePredicate // instanceof handles nulls
                 && this.attribute.equals(((AttributePredicate) other).attribute)
-                && this.operator.equals(((AttributePredicate) other).operator));
+                && this.operator == ((AttributePredicate) other).operator);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, attribute);
     }
 }
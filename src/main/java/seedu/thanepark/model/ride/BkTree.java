@@ -0,0 +1,150 @@
+package seedu.thanepark.model.ride;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.thanepark.commons.util.StringUtil;
+
+/**
+ * A BK-tree of words, for finding the words within an edit distance of a given word without comparing it to every word.
+ * The children of a node are keyed by their edit distance to the word of the node. By the triangle inequality, the
+ * words within {@code k} of a query are only in the subtrees keyed from {@code d - k} to {@code d + k}, where {@code d}
+ * is the distance from the query to the word of the node, so a search with a small {@code k} visits few nodes.
+ * Removed words stay in the tree as markers, since the tree cannot be rearranged around them, and the tree is rebuilt
+ * once there are more removed words than words.
+ */
+class BkTree {
+
+    private Node root;
+    private int wordCount;
+    private int removedCount;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in it.
+     */
+    void add(String word) {
+        requireNonNull(word);
+        if (root == null) {
+            root = new Node(word);
+            wordCount++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                if (node.isRemoved) {
+                    node.isRemoved = false;
+                    removedCount--;
+                    wordCount++;
+                }
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                wordCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the tree, if it is in it.
+     */
+    void remove(String word) {
+        requireNonNull(word);
+        Node node = root;
+        while (node != null) {
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance == 0) {
+                if (!node.isRemoved) {
+                    node.isRemoved = true;
+                    removedCount++;
+                    wordCount--;
+                    rebuildIfMostlyRemoved();
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Removes every word from the tree.
+     */
+    void clear() {
+        root = null;
+        wordCount = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} edits of {@code word}.
+     */
+    List<String> getWordsWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        List<String> result = new ArrayList<>();
+        if (root == null) {
+            return result;
+        }
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = StringUtil.getEditDistance(word, node.word);
+            if (distance <= maxDistance && !node.isRemoved) {
+                result.add(node.word);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= distance + maxDistance;
+                    childDistance++) {
+                Node child = node.children.get(childDistance);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rebuilds the tree from the words that are not removed, if more words have been removed than are left.
+     */
+    private void rebuildIfMostlyRemoved() {
+        if (removedCount <= wordCount) {
+            return;
+        }
+        List<String> words = new ArrayList<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            if (!node.isRemoved) {
+                words.add(node.word);
+            }
+            node.children.values().forEach(toVisit::push);
+        }
+        clear();
+        words.forEach(this::add);
+    }
+
+    /**
+     * A word in the tree, with its children keyed by their edit distance to it.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private boolean isRemoved;
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
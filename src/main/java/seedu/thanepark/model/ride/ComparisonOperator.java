@@ -0,0 +1,75 @@
+package seedu.thanepark.model.ride;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An operator comparing a {@code NumericAttribute} of a ride with a threshold.
+ * Every operator accepts an inclusive range of values, so a value can be tested with two comparisons once the bounds
+ * of the range are known.
+ */
+public enum ComparisonOperator {
+    LESS_THAN("<"),
+    LESS_THAN_OR_EQUAL("<="),
+    GREATER_THAN(">"),
+    GREATER_THAN_OR_EQUAL(">="),
+    EQUAL("=", "=="),
+    /** An unrecognised operator, which no value satisfies. */
+    NONE;
+
+    private final List<String> symbols;
+
+    ComparisonOperator(String... symbols) {
+        this.symbols = Arrays.asList(symbols);
+    }
+
+    /**
+     * Returns the operator written as {@code symbol}, or {@code NONE} if there is no such operator.
+     */
+    public static ComparisonOperator fromSymbol(String symbol) {
+        for (ComparisonOperator operator : values()) {
+            if (operator.symbols.contains(symbol)) {
+                return operator;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the smallest value that satisfies this operator with {@code threshold}.
+     * If no value satisfies it, the lower bound is greater than the upper bound.
+     */
+    public long getLowerBound(int threshold) {
+        switch (this) {
+        case LESS_THAN:
+        case LESS_THAN_OR_EQUAL:
+            return Integer.MIN_VALUE;
+        case GREATER_THAN:
+            return (long) threshold + 1;
+        case GREATER_THAN_OR_EQUAL:
+        case EQUAL:
+            return threshold;
+        default:
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Returns the largest value that satisfies this operator with {@code threshold}.
+     * If no value satisfies it, the lower bound is greater than the upper bound.
+     */
+    public long getUpperBound(int threshold) {
+        switch (this) {
+        case LESS_THAN:
+            return (long) threshold - 1;
+        case LESS_THAN_OR_EQUAL:
+        case EQUAL:
+            return threshold;
+        case GREATER_THAN:
+        case GREATER_THAN_OR_EQUAL:
+            return Integer.MAX_VALUE;
+        default:
+            return Integer.MIN_VALUE;
+        }
+    }
+}
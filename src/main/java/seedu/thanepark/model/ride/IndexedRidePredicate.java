@@ -0,0 +1,28 @@
+package seedu.thanepark.model.ride;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on rides that can also be answered from a {@code RideIndex}, at a cost proportional to the
+ * number of matching rides rather than the number of rides in the thanepark book.
+ */
+public interface IndexedRidePredicate extends Predicate<Ride> {
+
+    /**
+     * Returns the rides in {@code index} that satisfy this predicate.
+     * The returned set compares rides by identity, like the sets of {@code RideIndex}.
+     */
+    Set<Ride> select(RideIndex index);
+
+    /**
+     * Returns the order in which the rides that satisfy this predicate are to be shown, best match first, or an empty
+     * {@code Optional} if they are to be shown in the order of the rides.
+     */
+    default Optional<Comparator<Ride>> getRanking() {
+        return Optional.empty();
+    }
+
+}
@@ -3,8 +3,12 @@ package seedu.thanepark.model.ride;
 import static java.util.Objects.requireNonNull;
 import static seedu.thanepark.commons.util.AppUtil.checkArgument;
 
+import seedu.thanepark.commons.core.ParkClock;
+
 /**
  * Represents a Ride's days since last maintenance in the park management app.
+ * The date of the last maintenance is kept as an epoch day, and the days since are counted from the current day of the
+ * {@code ParkClock}, so they go up by one each day.
  */
 public class Maintenance implements NumericAttribute {
 
@@ -12,7 +16,7 @@ public class Maintenance implements NumericAttribute {
             "Maintenance should only contain positive integers with at least 1 digit long"
                    + " and should be less than 1 billion";
     public static final String MAINTENANCE_VALIDATION_REGEX = "\\d+";
-    private final Date lastMaintenanceDate;
+    private final long lastMaintenanceEpochDay;
 
     /**
      * Constructs a {@code Maintenance}.
@@ -22,8 +26,7 @@ public class Maintenance implements NumericAttribute {
     public Maintenance(String daysSinceMaintenanceString) {
         requireNonNull(daysSinceMaintenanceString);
         checkArgument(isValidMaintenance(daysSinceMaintenanceString), MESSAGE_MAINTENANCE_CONSTRAINTS);
-        int value = Integer.parseInt(daysSinceMaintenanceString);
-        lastMaintenanceDate = new Date(value);
+        lastMaintenanceEpochDay = ParkClock.today() - Integer.parseInt(daysSinceMaintenanceString);
     }
 
     /**
@@ -31,11 +34,30 @@ public class Maintenance implements NumericAttribute {
      * @param daysSinceMaintenance Days since last maintenance.
      */
     public Maintenance(int daysSinceMaintenance) {
-        lastMaintenanceDate = new Date(daysSinceMaintenance);
+        lastMaintenanceEpochDay = ParkClock.today() - daysSinceMaintenance;
+    }
+
+    private Maintenance(long lastMaintenanceEpochDay) {
+        this.lastMaintenanceEpochDay = lastMaintenanceEpochDay;
+    }
+
+    /**
+     * Returns a {@code Maintenance} last done on the day {@code lastMaintenanceEpochDay} days after the epoch.
+     */
+    public static Maintenance lastMaintainedOn(long lastMaintenanceEpochDay) {
+        return new Maintenance(lastMaintenanceEpochDay);
     }
 
     public int getValue() {
-        return lastMaintenanceDate.getDays();
+        return (int) (ParkClock.today() - lastMaintenanceEpochDay);
+    }
+
+    /**
+     * Returns the date of the last maintenance as a count of days since the epoch, which unlike {@code getValue()}
+     * does not change over time.
+     */
+    public long getLastMaintenanceEpochDay() {
+        return lastMaintenanceEpochDay;
     }
 
     /**
@@ -47,19 +69,19 @@ public class Maintenance implements NumericAttribute {
 
     @Override
     public String toString() {
-        return String.valueOf(lastMaintenanceDate.getDays()) + " days";
+        return getValue() + " days";
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof Maintenance // instanceof handles nulls
-            && lastMaintenanceDate.equals(((Maintenance) other).lastMaintenanceDate)); // state check
+            && lastMaintenanceEpochDay == ((Maintenance) other).lastMaintenanceEpochDay); // state check
     }
 
     @Override
     public int hashCode() {
-        return lastMaintenanceDate.getDays();
+        return Long.hashCode(lastMaintenanceEpochDay);
     }
 
 }
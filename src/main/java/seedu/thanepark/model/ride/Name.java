@@ -3,6 +3,11 @@ package seedu.thanepark.model.ride;
 import static java.util.Objects.requireNonNull;
 import static seedu.thanepark.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Represents a Ride's name in the thanepark book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,6 +26,8 @@ public class Name {
             + "[\\p{Punct} ]*";
 
     public final String fullName;
+    /** The words of the name in lower case, split once so that searches need not split the name again. */
+    private final List<String> words;
 
     /**
      * Constructs a {@code Name}.
@@ -31,6 +38,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_NAME_CONSTRAINTS);
         fullName = name;
+        words = Collections.unmodifiableList(Arrays.asList(foldCase(name).split("\\s+")));
     }
 
     /**
@@ -40,6 +48,20 @@ public class Name {
         return test.matches(NAME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of the name in lower case, in the order they appear.
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
+    /**
+     * Returns {@code word} in the case that the words of names are kept in, so that words differing only in case
+     * compare equal.
+     */
+    static String foldCase(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
 
     @Override
     public String toString() {
@@ -0,0 +1,136 @@
+package seedu.thanepark.model.ride;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index from the substrings of up to {@value #GRAM_LENGTH} characters of the words of some keys to those keys, for
+ * finding the keys with a word containing a given part of a word.
+ * A part of up to {@value #GRAM_LENGTH} characters is looked up directly. A longer part narrows the keys down to those
+ * having every one of its substrings of {@value #GRAM_LENGTH} characters, and only those keys are checked for the whole
+ * part, so the cost follows the number of candidate keys rather than the number of keys.
+ * Words are compared as given, so callers fold their case before adding and looking up words.
+ */
+class NgramIndex<K> {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<K>> keysByGram = new HashMap<>();
+    private final Map<K, List<String>> wordsByKey = new HashMap<>();
+
+    /**
+     * Indexes {@code key} under the substrings of {@code words}. {@code key} must not already be indexed.
+     */
+    void add(K key, List<String> words) {
+        requireNonNull(key);
+        assert !wordsByKey.containsKey(key);
+        wordsByKey.put(key, words);
+        for (String gram : getGrams(words)) {
+            keysByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes {@code key} from the index, if it is indexed.
+     */
+    void remove(K key) {
+        List<String> words = wordsByKey.remove(key);
+        if (words == null) {
+            return;
+        }
+        for (String gram : getGrams(words)) {
+            Set<K> keys = keysByGram.get(gram);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByGram.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes every key from the index.
+     */
+    void clear() {
+        keysByGram.clear();
+        wordsByKey.clear();
+    }
+
+    /**
+     * Returns the keys with a word containing {@code part}. The returned set may be a view of the index, so it must not
+     * be changed, and must be copied if it is to be used after the index changes.
+     */
+    Set<K> getKeysWithWordContaining(String part) {
+        requireNonNull(part);
+        if (part.isEmpty()) {
+            return Collections.unmodifiableSet(wordsByKey.keySet());
+        }
+        if (part.length() <= GRAM_LENGTH) {
+            return Collections.unmodifiableSet(keysByGram.getOrDefault(part, Collections.emptySet()));
+        }
+
+        List<Set<K>> postings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= part.length(); i++) {
+            Set<K> keys = keysByGram.get(part.substring(i, i + GRAM_LENGTH));
+            if (keys == null) {
+                return Collections.emptySet();
+            }
+            postings.add(keys);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<K> result = new HashSet<>();
+        for (K candidate : postings.get(0)) {
+            if (isInAll(candidate, postings) && hasWordContaining(wordsByKey.get(candidate), part)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if {@code key} is in every set of {@code postings} after the first.
+     */
+    private static <K> boolean isInAll(K key, List<Set<K>> postings) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if any of {@code words} contains {@code part}.
+     */
+    private static boolean hasWordContaining(List<String> words, String part) {
+        for (String word : words) {
+            if (word.contains(part)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct substrings of {@code words} of between 1 and {@value #GRAM_LENGTH} characters.
+     */
+    private static Set<String> getGrams(List<String> words) {
+        Set<String> grams = new HashSet<>();
+        for (String word : words) {
+            for (int length = 1; length <= GRAM_LENGTH; length++) {
+                for (int i = 0; i + length <= word.length(); i++) {
+                    grams.add(word.substring(i, i + length));
+                }
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.thanepark.model.ride;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.thanepark.commons.core.ParkClock;
+import seedu.thanepark.model.tag.Tag;
+
+/**
+ * Writes rides to and reads them from a compact binary form, for the undo history and the data files.
+ * Maintenance is written as the date of the last maintenance so that a ride read back on a later day has aged
+ * correctly. Numbers are written at a fixed width and zones and tags as text, unless a subclass writes them some other
+ * way, such as numbers as variable-length integers and zones and tags by their position in a dictionary.
+ */
+public class RideCodec {
+
+    /**
+     * Writes {@code ride} to {@code out}, in the form read by {@link #readRide(DataInput)}.
+     */
+    public void writeRide(DataOutput out, Ride ride) throws IOException {
+        out.writeUTF(ride.getName().fullName);
+        writeMaintenanceDay(out, ride.getDaysSinceMaintenance().getLastMaintenanceEpochDay());
+        writeWaitTime(out, ride.getWaitingTime().getValue());
+        writeZone(out, ride.getZone());
+        out.writeByte(ride.getStatus().ordinal());
+        writeTagCount(out, ride.getTags().size());
+        for (Tag tag : ride.getTags()) {
+            writeTag(out, tag);
+        }
+    }
+
+    /**
+     * Reads a ride written by {@link #writeRide(DataOutput, Ride)} from {@code in}.
+     * @throws IOException if the ride cannot be read, or is not a valid ride.
+     */
+    public Ride readRide(DataInput in) throws IOException {
+        try {
+            Name name = new Name(in.readUTF());
+            long lastMaintenanceEpochDay = readMaintenanceDay(in);
+            if (!Maintenance.isValidMaintenance(String.valueOf(ParkClock.today() - lastMaintenanceEpochDay))) {
+                throw new IllegalArgumentException(Maintenance.MESSAGE_MAINTENANCE_CONSTRAINTS);
+            }
+            int waitTime = readWaitTime(in);
+            if (!WaitTime.isValidWaitTime(String.valueOf(waitTime))) {
+                throw new IllegalArgumentException(WaitTime.MESSAGE_WAIT_TIME_CONSTRAINTS);
+            }
+            Zone zone = readZone(in);
+            Status status = Status.values()[in.readByte()];
+            int tagCount = readTagCount(in);
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(readTag(in));
+            }
+            return new Ride(name, Maintenance.lastMaintainedOn(lastMaintenanceEpochDay), new WaitTime(waitTime), zone,
+                    tags, status);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted ride: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the epoch day of the last maintenance of a ride to {@code out}.
+     */
+    protected void writeMaintenanceDay(DataOutput out, long lastMaintenanceEpochDay) throws IOException {
+        out.writeLong(lastMaintenanceEpochDay);
+    }
+
+    /**
+     * Reads an epoch day written by {@link #writeMaintenanceDay(DataOutput, long)} from {@code in}.
+     */
+    protected long readMaintenanceDay(DataInput in) throws IOException {
+        return in.readLong();
+    }
+
+    /**
+     * Writes the waiting time of a ride, in minutes, to {@code out}.
+     */
+    protected void writeWaitTime(DataOutput out, int waitTime) throws IOException {
+        out.writeInt(waitTime);
+    }
+
+    /**
+     * Reads a waiting time written by {@link #writeWaitTime(DataOutput, int)} from {@code in}.
+     */
+    protected int readWaitTime(DataInput in) throws IOException {
+        return in.readInt();
+    }
+
+    /**
+     * Writes the number of tags of a ride to {@code out}.
+     */
+    protected void writeTagCount(DataOutput out, int tagCount) throws IOException {
+        out.writeInt(tagCount);
+    }
+
+    /**
+     * Reads a number of tags written by {@link #writeTagCount(DataOutput, int)} from {@code in}.
+     */
+    protected int readTagCount(DataInput in) throws IOException {
+        return in.readInt();
+    }
+
+    /**
+     * Writes {@code zone} to {@code out}.
+     */
+    protected void writeZone(DataOutput out, Zone zone) throws IOException {
+        out.writeUTF(zone.value);
+    }
+
+    /**
+     * Reads a zone written by {@link #writeZone(DataOutput, Zone)} from {@code in}.
+     */
+    protected Zone readZone(DataInput in) throws IOException {
+        return new Zone(in.readUTF());
+    }
+
+    /**
+     * Writes {@code tag} to {@code out}.
+     */
+    protected void writeTag(DataOutput out, Tag tag) throws IOException {
+        out.writeUTF(tag.tagName);
+    }
+
+    /**
+     * Reads a tag written by {@link #writeTag(DataOutput, Tag)} from {@code in}.
+     */
+    protected Tag readTag(DataInput in) throws IOException {
+        return new Tag(in.readUTF());
+    }
+}
@@ -1,31 +1,133 @@
 package seedu.thanepark.model.ride;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.thanepark.commons.core.ParkClock;
+import seedu.thanepark.model.ride.exceptions.InvalidNumericAttributeException;
 
 /**
  * Tests that a {@code Ride}'s attributes matches the predicate given.
+ * The attribute predicates are compiled when this predicate is created into one inclusive range of waiting times and
+ * one inclusive range of last maintenance days, so testing a ride takes four comparisons of primitive values. Ranges of
+ * days since the last maintenance are turned into ranges of dates as of the {@code ParkClock} day this predicate is
+ * created. That day is part of the equality of predicates with a maintenance condition, so that a view of the rides
+ * kept from an earlier day is not shown again for the same condition after midnight.
  */
-public class RideContainsConditionPredicate implements Predicate<Ride> {
+public class RideContainsConditionPredicate implements IndexedRidePredicate {
     private final List<AttributePredicate> attributePredicates;
+    private final boolean hasWaitTimeCondition;
+    private final boolean hasMaintenanceCondition;
+    private final long lowestWaitTime;
+    private final long highestWaitTime;
+    private final long earliestMaintenanceDay;
+    private final long latestMaintenanceDay;
+    // The day the maintenance condition is counted from, or 0 if there is no maintenance condition.
+    private final long asOfDay;
 
+    /**
+     * Throws an {@code InvalidNumericAttributeException} if any of {@code predicates} is on an attribute other than
+     * {@code WaitTime} and {@code Maintenance}.
+     */
     public RideContainsConditionPredicate(List<AttributePredicate> predicates) {
         attributePredicates = predicates;
+
+        long lowestWaitTime = Long.MIN_VALUE;
+        long highestWaitTime = Long.MAX_VALUE;
+        long fewestDaysSinceMaintenance = Long.MIN_VALUE;
+        long mostDaysSinceMaintenance = Long.MAX_VALUE;
+        boolean hasWaitTimeCondition = false;
+        boolean hasMaintenanceCondition = false;
+        for (AttributePredicate p : predicates) {
+            if (p.getAttribute() instanceof WaitTime) {
+                hasWaitTimeCondition = true;
+                lowestWaitTime = Math.max(lowestWaitTime, p.getLowerBound());
+                highestWaitTime = Math.min(highestWaitTime, p.getUpperBound());
+            } else if (p.getAttribute() instanceof Maintenance) {
+                hasMaintenanceCondition = true;
+                fewestDaysSinceMaintenance = Math.max(fewestDaysSinceMaintenance, p.getLowerBound());
+                mostDaysSinceMaintenance = Math.min(mostDaysSinceMaintenance, p.getUpperBound());
+            } else {
+                throw new InvalidNumericAttributeException();
+            }
+        }
+
+        long today = ParkClock.today();
+        this.hasWaitTimeCondition = hasWaitTimeCondition;
+        this.hasMaintenanceCondition = hasMaintenanceCondition;
+        this.lowestWaitTime = lowestWaitTime;
+        this.highestWaitTime = highestWaitTime;
+        earliestMaintenanceDay = hasMaintenanceCondition ? today - mostDaysSinceMaintenance : Long.MIN_VALUE;
+        latestMaintenanceDay = hasMaintenanceCondition ? today - fewestDaysSinceMaintenance : Long.MAX_VALUE;
+        asOfDay = hasMaintenanceCondition ? today : 0;
     }
 
     @Override
     public boolean test(Ride ride) {
-        return attributePredicates.stream().allMatch(p -> {
-            NumericAttribute attributeToTest = p.getAttribute();
-            NumericAttribute rideAttributeToTest = ride.getAttribute(attributeToTest);
-            return p.test(rideAttributeToTest);
-        });
+        int waitTime = ride.getWaitingTime().getValue();
+        long maintenanceDay = ride.getDaysSinceMaintenance().getLastMaintenanceEpochDay();
+        return waitTime >= lowestWaitTime && waitTime <= highestWaitTime
+                && maintenanceDay >= earliestMaintenanceDay && maintenanceDay <= latestMaintenanceDay;
     }
 
+    /**
+     * Scans the range of the attribute that matches the fewest rides, and tests only those rides against the range of
+     * the other attribute.
+     */
+    @Override
+    public Set<Ride> select(RideIndex index) {
+        Set<Ride> result = RideIndex.newRideSet();
+        if (!hasWaitTimeCondition && !hasMaintenanceCondition) {
+            result.addAll(index.getAllRides());
+            return result;
+        }
+
+        Collection<Set<Ride>> mostSelectiveRange;
+        if (!hasMaintenanceCondition) {
+            mostSelectiveRange = index.getRidesWithWaitTimeBetween(lowestWaitTime, highestWaitTime);
+        } else if (!hasWaitTimeCondition) {
+            mostSelectiveRange = index.getRidesLastMaintainedBetween(earliestMaintenanceDay, latestMaintenanceDay);
+        } else {
+            Collection<Set<Ride>> waitTimeRange = index.getRidesWithWaitTimeBetween(lowestWaitTime, highestWaitTime);
+            Collection<Set<Ride>> maintenanceRange = index.getRidesLastMaintainedBetween(earliestMaintenanceDay,
+                    latestMaintenanceDay);
+            mostSelectiveRange = countRides(waitTimeRange) <= countRides(maintenanceRange)
+                    ? waitTimeRange
+                    : maintenanceRange;
+        }
+
+        for (Set<Ride> rides : mostSelectiveRange) {
+            for (Ride ride : rides) {
+                if (test(ride)) {
+                    result.add(ride);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static long countRides(Collection<Set<Ride>> range) {
+        return range.stream().mapToLong(Set::size).sum();
+    }
+
+    /**
+     * Predicates with the same attribute predicates, in any order, are equal, if any maintenance condition is counted
+     * from the same day.
+     */
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RideContainsConditionPredicate // instanceof handles nulls
-                && attributePredicates.containsAll(((RideContainsConditionPredicate) other).attributePredicates));
+                && new HashSet<>(attributePredicates).equals(
+                        new HashSet<>(((RideContainsConditionPredicate) other).attributePredicates))
+                && asOfDay == ((RideContainsConditionPredicate) other).asOfDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(new HashSet<>(attributePredicates), asOfDay);
     }
 }
@@ -1,10 +1,16 @@
 package seedu.thanepark.model.ride;
 
+import static seedu.thanepark.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.WeakHashMap;
 
 import seedu.thanepark.commons.util.CollectionUtil;
 import seedu.thanepark.commons.util.StringUtil;
@@ -13,17 +19,36 @@ import seedu.thanepark.model.tag.Tag;
 
 /**
  * Tests that a {@code Ride}'s attributes  matches any of the keywords given.
+ * A name matches if any of its words is one of the name keywords, ignoring case. The keywords are folded to lower case
+ * once, when this predicate is created, and compared with the words that {@code Name} keeps in lower case.
+ * A zone matches if each word of the zone keyword is part of a word of the zone, ignoring case.
+ * Given a maximum edit distance as an {@code Optional<Integer>}, a name also matches if any of its words is within that
+ * many edits of a name keyword, and the matching rides are ranked by how close their names are to the keywords. Each
+ * ranking computes the distance of each ride once and keeps it only while the ride is in use, so that sorting the
+ * rides does not compute it again for every comparison.
  */
-public class RideContainsKeywordsPredicate implements Predicate<Ride> {
+public class RideContainsKeywordsPredicate implements IndexedRidePredicate {
+    public static final int MAX_EDIT_DISTANCE = 3;
+    public static final String MESSAGE_EDIT_DISTANCE_CONSTRAINTS =
+            "The edit distance should be a number from 0 to " + MAX_EDIT_DISTANCE;
+
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
     private Optional<Zone> addressKeyWords;
     private Set<Tag> tagKeyWords;
+    private final List<String> zoneKeywords;
+    private int maxEditDistance;
 
     public RideContainsKeywordsPredicate(List<String> keywords, Optional... other) {
         this.keywords = keywords;
+        foldedKeywords = new HashSet<>();
+        for (String keyword : keywords) {
+            foldedKeywords.add(Name.foldCase(keyword.trim()));
+        }
         addressKeyWords = Optional.empty();
         tagKeyWords = new HashSet<>();
         getKeyWords(other);
+        zoneKeywords = addressKeyWords.map(Zone::getWords).orElse(Collections.emptyList());
     }
 
     /**
@@ -36,6 +61,11 @@ public class RideContainsKeywordsPredicate implements Predicate<Ride> {
                 if (keywords.get()instanceof Zone) {
                     addressKeyWords = keywords;
                 }
+                if (keywords.get() instanceof Integer) {
+                    maxEditDistance = (Integer) keywords.get();
+                    checkArgument(maxEditDistance >= 0 && maxEditDistance <= MAX_EDIT_DISTANCE,
+                            MESSAGE_EDIT_DISTANCE_CONSTRAINTS);
+                }
                 if (keywords.get().getClass().equals(HashSet.class)) {
                     Set<Tag> tags = (HashSet) keywords.get();
                     if (!tags.isEmpty()) {
@@ -50,21 +80,105 @@ public class RideContainsKeywordsPredicate implements Predicate<Ride> {
     public boolean test(Ride ride) {
         boolean result = false;
         if (addressKeyWords.isPresent()) {
-            result = result || StringUtil.containsStringIgnoreCase(ride.getZone().value,
-                    addressKeyWords.get().value);
+            result = result || isMatchingZone(ride.getZone());
         }
         if (!tagKeyWords.isEmpty()) {
             result = result || CollectionUtil.containsAny(ride.getTags(), tagKeyWords);
         }
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(ride.getName().fullName, keyword)) || result;
+        return isMatchingName(ride.getName()) || result;
+    }
+
+    /**
+     * Every keyword is answered from {@code index}, as the union of the rides having each of them, so the cost follows
+     * the number of matching rides rather than the number of rides. Zones are looked up by the parts of their words.
+     */
+    @Override
+    public Set<Ride> select(RideIndex index) {
+        Set<Ride> result = RideIndex.newRideSet();
+        if (addressKeyWords.isPresent()) {
+            for (Zone zone : index.getZonesWithWordsContaining(zoneKeywords)) {
+                result.addAll(index.getRidesInZone(zone));
+            }
+        }
+        for (Tag tag : tagKeyWords) {
+            result.addAll(index.getRidesWithTag(tag));
+        }
+        for (String keyword : foldedKeywords) {
+            result.addAll(maxEditDistance == 0
+                    ? index.getRidesWithNameWord(keyword)
+                    : index.getRidesWithNameWordWithin(keyword, maxEditDistance));
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if each of the zone keywords is part of a word of {@code zone}.
+     */
+    private boolean isMatchingZone(Zone zone) {
+        for (String keyword : zoneKeywords) {
+            if (zone.getWords().stream().noneMatch(word -> word.contains(keyword))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if any word of {@code name} is one of the name keywords, or within the maximum edit distance of one.
+     */
+    private boolean isMatchingName(Name name) {
+        if (maxEditDistance > 0) {
+            return getEditDistance(name) <= maxEditDistance;
+        }
+        for (String word : name.getWords()) {
+            if (foldedKeywords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ranks the rides by the edit distance of their names to the keywords, if the keywords may be mistyped.
+     * Each ranking keeps the distance of each ride it has compared until the ride is no longer used, as sorting
+     * compares each ride many times, so the distances kept never outlive the rides or the ranking.
+     */
+    @Override
+    public Optional<Comparator<Ride>> getRanking() {
+        if (maxEditDistance == 0) {
+            return Optional.empty();
+        }
+        Map<Ride, Integer> editDistances = new WeakHashMap<>();
+        return Optional.of(Comparator.comparingInt(ride ->
+                editDistances.computeIfAbsent(ride, unused -> getEditDistance(ride.getName()))));
+    }
+
+    /**
+     * Returns the least edit distance from any word of {@code name} to any name keyword.
+     */
+    private int getEditDistance(Name name) {
+        int leastDistance = Integer.MAX_VALUE;
+        for (String word : name.getWords()) {
+            for (String keyword : foldedKeywords) {
+                leastDistance = Math.min(leastDistance, StringUtil.getEditDistance(word, keyword));
+            }
+        }
+        return leastDistance;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RideContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((RideContainsKeywordsPredicate) other).keywords)); // state check
+                && keywords.equals(((RideContainsKeywordsPredicate) other).keywords)
+                && addressKeyWords.equals(((RideContainsKeywordsPredicate) other).addressKeyWords)
+                && tagKeyWords.equals(((RideContainsKeywordsPredicate) other).tagKeyWords)
+                && maxEditDistance == ((RideContainsKeywordsPredicate) other).maxEditDistance); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, addressKeyWords, tagKeyWords, maxEditDistance);
     }
 
 }
@@ -0,0 +1,269 @@
+package seedu.thanepark.model.ride;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.thanepark.commons.core.ParkClock;
+import seedu.thanepark.model.ride.exceptions.InvalidNumericAttributeException;
+import seedu.thanepark.model.tag.Tag;
+
+/**
+ * Secondary indexes over the rides of a {@code UniqueRideList}, keyed by {@code Status}, {@code Zone}, {@code Tag} and
+ * the words of ride names, and ordered indexes on the {@code NumericAttribute}s for range queries.
+ * The distinct zones are also indexed by the substrings of their words in a {@code NgramIndex}, so that searching for
+ * a part of a zone checks only the few zones that can contain it. The distinct name words are kept in a
+ * {@code BkTree}, so that words within a few typing errors of a word are found without comparing every word.
+ * The index is kept in sync by the owning {@code UniqueRideList}, and holds the exact {@code Ride} instances that are
+ * in the list, so membership in the returned sets is by identity.
+ *
+ * @see UniqueRideList
+ */
+public class RideIndex {
+
+    private final Set<Ride> allRides = newRideSet();
+    private final Map<Status, Set<Ride>> statusIndex = new EnumMap<>(Status.class);
+    private final Map<Zone, Set<Ride>> zoneIndex = new HashMap<>();
+    private final Map<Tag, Set<Ride>> tagIndex = new HashMap<>();
+    // Keyed by the words of the names in lower case, so that names are searched without regard to case.
+    private final Map<String, Set<Ride>> nameWordIndex = new HashMap<>();
+    private final NgramIndex<Zone> zoneNgramIndex = new NgramIndex<>();
+    private final BkTree nameWordTree = new BkTree();
+    private final NavigableMap<Integer, Set<Ride>> waitTimeIndex = new TreeMap<>();
+    // Keyed by the epoch day of the last maintenance rather than the days since, which changes every day.
+    private final NavigableMap<Long, Set<Ride>> maintenanceIndex = new TreeMap<>();
+
+    RideIndex() {
+        for (Status status : Status.values()) {
+            statusIndex.put(status, newRideSet());
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of all the indexed rides.
+     */
+    public Set<Ride> getAllRides() {
+        return Collections.unmodifiableSet(allRides);
+    }
+
+    /**
+     * Returns an unmodifiable view of the rides with the given {@code status}.
+     */
+    public Set<Ride> getRidesWithStatus(Status status) {
+        requireNonNull(status);
+        return Collections.unmodifiableSet(statusIndex.get(status));
+    }
+
+    /**
+     * Returns an unmodifiable view of the zones that at least one ride is in.
+     */
+    public Set<Zone> getZones() {
+        return Collections.unmodifiableSet(zoneIndex.keySet());
+    }
+
+    /**
+     * Returns an unmodifiable view of the rides in the given {@code zone}.
+     */
+    public Set<Ride> getRidesInZone(Zone zone) {
+        requireNonNull(zone);
+        return Collections.unmodifiableSet(zoneIndex.getOrDefault(zone, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the zones that have, for each of {@code parts}, a word containing it, ignoring case.
+     * The returned set must not be changed.
+     */
+    public Set<Zone> getZonesWithWordsContaining(List<String> parts) {
+        requireNonNull(parts);
+        Set<Zone> result = null;
+        for (String part : parts) {
+            Set<Zone> zones = zoneNgramIndex.getKeysWithWordContaining(Name.foldCase(part));
+            if (result == null) {
+                result = zones;
+            } else {
+                result = new HashSet<>(result);
+                result.retainAll(zones);
+            }
+        }
+        return result == null ? getZones() : result;
+    }
+
+    /**
+     * Returns an unmodifiable view of the rides tagged with the given {@code tag}.
+     */
+    public Set<Ride> getRidesWithTag(Tag tag) {
+        requireNonNull(tag);
+        return Collections.unmodifiableSet(tagIndex.getOrDefault(tag, Collections.emptySet()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the rides with {@code word} as one of the words of their names, ignoring case.
+     */
+    public Set<Ride> getRidesWithNameWord(String word) {
+        requireNonNull(word);
+        return Collections.unmodifiableSet(nameWordIndex.getOrDefault(Name.foldCase(word), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the rides with a word of their names within {@code maxDistance} edits of {@code word}, ignoring case.
+     */
+    public Set<Ride> getRidesWithNameWordWithin(String word, int maxDistance) {
+        requireNonNull(word);
+        Set<Ride> result = newRideSet();
+        for (String nearWord : nameWordTree.getWordsWithin(Name.foldCase(word), maxDistance)) {
+            result.addAll(nameWordIndex.get(nearWord));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the rides whose attribute of the same type as {@code attribute} has a value between
+     * {@code lowerBound} and {@code upperBound} inclusive, grouped by value in ascending order of value.
+     * The returned collection is an unmodifiable view.
+     * Throws an {@code InvalidNumericAttributeException} if {@code attribute} is not an indexed attribute type.
+     */
+    public Collection<Set<Ride>> getRidesWithAttributeBetween(NumericAttribute attribute, long lowerBound,
+                                                              long upperBound) {
+        requireNonNull(attribute);
+        if (attribute instanceof WaitTime) {
+            return getRidesWithWaitTimeBetween(lowerBound, upperBound);
+        } else if (attribute instanceof Maintenance) {
+            long today = ParkClock.today();
+            return getRidesLastMaintainedBetween(today - upperBound, today - lowerBound);
+        } else {
+            throw new InvalidNumericAttributeException();
+        }
+    }
+
+    /**
+     * Returns the rides with a waiting time between {@code lowerBound} and {@code upperBound} inclusive, grouped by
+     * waiting time in ascending order. The returned collection is an unmodifiable view.
+     */
+    public Collection<Set<Ride>> getRidesWithWaitTimeBetween(long lowerBound, long upperBound) {
+        if (lowerBound > upperBound) {
+            return Collections.emptyList();
+        }
+        int from = (int) Math.max(lowerBound, Integer.MIN_VALUE);
+        int to = (int) Math.min(upperBound, Integer.MAX_VALUE);
+        return Collections.unmodifiableCollection(waitTimeIndex.subMap(from, true, to, true).values());
+    }
+
+    /**
+     * Returns the rides last maintained between the epoch days {@code fromEpochDay} and {@code toEpochDay}
+     * inclusive, grouped by day in ascending order of day. The returned collection is an unmodifiable view.
+     */
+    public Collection<Set<Ride>> getRidesLastMaintainedBetween(long fromEpochDay, long toEpochDay) {
+        if (fromEpochDay > toEpochDay) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(
+                maintenanceIndex.subMap(fromEpochDay, true, toEpochDay, true).values());
+    }
+
+    /**
+     * Adds {@code ride} to every index.
+     */
+    void add(Ride ride) {
+        allRides.add(ride);
+        statusIndex.get(ride.getStatus()).add(ride);
+        if (addTo(zoneIndex, ride.getZone(), ride)) {
+            zoneNgramIndex.add(ride.getZone(), ride.getZone().getWords());
+        }
+        for (Tag tag : ride.getTags()) {
+            tagIndex.computeIfAbsent(tag, unused -> newRideSet()).add(ride);
+        }
+        for (String word : ride.getName().getWords()) {
+            if (addTo(nameWordIndex, word, ride)) {
+                nameWordTree.add(word);
+            }
+        }
+        waitTimeIndex.computeIfAbsent(ride.getWaitingTime().getValue(), unused -> newRideSet()).add(ride);
+        maintenanceIndex.computeIfAbsent(ride.getDaysSinceMaintenance().getLastMaintenanceEpochDay(),
+            unused -> newRideSet()).add(ride);
+    }
+
+    /**
+     * Removes {@code ride} from every index.
+     * {@code ride} must be the same instance that was added.
+     */
+    void remove(Ride ride) {
+        allRides.remove(ride);
+        statusIndex.get(ride.getStatus()).remove(ride);
+        if (removeFrom(zoneIndex, ride.getZone(), ride)) {
+            zoneNgramIndex.remove(ride.getZone());
+        }
+        for (Tag tag : ride.getTags()) {
+            removeFrom(tagIndex, tag, ride);
+        }
+        for (String word : ride.getName().getWords()) {
+            if (removeFrom(nameWordIndex, word, ride)) {
+                nameWordTree.remove(word);
+            }
+        }
+        removeFrom(waitTimeIndex, ride.getWaitingTime().getValue(), ride);
+        removeFrom(maintenanceIndex, ride.getDaysSinceMaintenance().getLastMaintenanceEpochDay(), ride);
+    }
+
+    /**
+     * Removes all rides from every index.
+     */
+    void clear() {
+        allRides.clear();
+        statusIndex.values().forEach(Set::clear);
+        zoneIndex.clear();
+        tagIndex.clear();
+        nameWordIndex.clear();
+        zoneNgramIndex.clear();
+        nameWordTree.clear();
+        waitTimeIndex.clear();
+        maintenanceIndex.clear();
+    }
+
+    /**
+     * Adds {@code ride} to the set mapped to {@code key}, and returns true if the key had no rides before.
+     */
+    private static <K> boolean addTo(Map<K, Set<Ride>> index, K key, Ride ride) {
+        Set<Ride> rides = index.get(key);
+        boolean isNewKey = rides == null;
+        if (isNewKey) {
+            rides = newRideSet();
+            index.put(key, rides);
+        }
+        rides.add(ride);
+        return isNewKey;
+    }
+
+    /**
+     * Removes {@code ride} from the set mapped to {@code key}, dropping the key once it has no rides left, and returns
+     * true if the key was dropped.
+     */
+    private static <K> boolean removeFrom(Map<K, Set<Ride>> index, K key, Ride ride) {
+        Set<Ride> rides = index.get(key);
+        if (rides == null) {
+            return false;
+        }
+        rides.remove(ride);
+        if (rides.isEmpty()) {
+            index.remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns an empty set of rides that compares its elements by identity.
+     */
+    static Set<Ride> newRideSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -1,11 +1,11 @@
 package seedu.thanepark.model.ride;
 
-import java.util.function.Predicate;
+import java.util.Set;
 
 /**
  * Tests that a {@code Ride}'s attributes matches the status given.
  */
-public class RideStatusPredicate implements Predicate<Ride> {
+public class RideStatusPredicate implements IndexedRidePredicate {
     private final Status status;
 
     public RideStatusPredicate(Status status) {
@@ -17,6 +17,11 @@ public class RideStatusPredicate implements Predicate<Ride> {
         return status.equals(ride.getStatus());
     }
 
+    @Override
+    public Set<Ride> select(RideIndex index) {
+        return index.getRidesWithStatus(status);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -24,4 +29,9 @@ public class RideStatusPredicate implements Predicate<Ride> {
                 && (status.equals(((RideStatusPredicate) other).status))); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return status.hashCode();
+    }
+
 }
@@ -3,8 +3,11 @@ package seedu.thanepark.model.ride;
 import static java.util.Objects.requireNonNull;
 import static seedu.thanepark.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,9 @@ import seedu.thanepark.model.ride.exceptions.RideNotFoundException;
  * unique in terms of identity in the UniqueRideList. However, the removal of a ride uses Ride#equals(Object) so
  * as to ensure that the ride with exactly the same fields will be removed.
  *
+ * Rides are also indexed by {@code Name} so that identity checks and lookups do not need to scan the list, and
+ * by the secondary keys in {@link RideIndex} so that queries on those keys do not need to either.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Ride#isSameRide(Ride)
@@ -25,13 +31,41 @@ import seedu.thanepark.model.ride.exceptions.RideNotFoundException;
 public class UniqueRideList implements Iterable<Ride> {
 
     private final ObservableList<Ride> internalList = FXCollections.observableArrayList();
+    // Created once, as each unmodifiable view adds a listener to internalList.
+    private final ObservableList<Ride> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+    // Position of each ride in internalList, keyed by its identity field. Kept in sync on every mutation.
+    private final Map<Name, Integer> positionIndex = new HashMap<>();
+    // Updated before internalList so that listeners of internalList always see an up-to-date index.
+    private final RideIndex rideIndex = new RideIndex();
 
     /**
      * Returns true if the list contains an equivalent ride as the given argument.
      */
     public boolean contains(Ride toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRide);
+        return positionIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the ride with the given {@code name}, if there is one.
+     */
+    public Optional<Ride> get(Name name) {
+        requireNonNull(name);
+        Integer index = positionIndex.get(name);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
+    }
+
+    /**
+     * Returns the position of the ride that is equal to {@code ride} in the list, or -1 if there is none.
+     */
+    public int indexOf(Ride ride) {
+        requireNonNull(ride);
+        Integer index = positionIndex.get(ride.getName());
+        if (index == null || !internalList.get(index).equals(ride)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
@@ -43,9 +77,27 @@ public class UniqueRideList implements Iterable<Ride> {
         if (contains(toAdd)) {
             throw new DuplicateRideException();
         }
+        positionIndex.put(toAdd.getName(), internalList.size());
+        rideIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a ride into the list at {@code index}.
+     * The ride must not already exist in the list.
+     */
+    public void add(int index, Ride toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateRideException();
+        }
+        rideIndex.add(toAdd);
+        internalList.add(index, toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
     /**
      * Replaces the ride {@code target} in the list with {@code editedRide}.
      * {@code target} must exist in the list.
@@ -54,7 +106,7 @@ public class UniqueRideList implements Iterable<Ride> {
     public void setRide(Ride target, Ride editedRide) {
         requireAllNonNull(target, editedRide);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new RideNotFoundException();
         }
@@ -63,6 +115,10 @@ public class UniqueRideList implements Iterable<Ride> {
             throw new DuplicateRideException();
         }
 
+        positionIndex.remove(target.getName());
+        positionIndex.put(editedRide.getName(), index);
+        rideIndex.remove(internalList.get(index));
+        rideIndex.add(editedRide);
         internalList.set(index, editedRide);
     }
 
@@ -72,13 +128,24 @@ public class UniqueRideList implements Iterable<Ride> {
      */
     public void remove(Ride toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new RideNotFoundException();
         }
+
+        positionIndex.remove(toRemove.getName());
+        rideIndex.remove(internalList.get(index));
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i).getName(), i);
+        }
     }
 
     public void setRides(UniqueRideList replacement) {
         requireNonNull(replacement);
+        positionIndex.clear();
+        positionIndex.putAll(replacement.positionIndex);
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -88,18 +155,29 @@ public class UniqueRideList implements Iterable<Ride> {
      */
     public void setRides(List<Ride> rides) {
         requireAllNonNull(rides);
-        if (!ridesAreUnique(rides)) {
+        Map<Name, Integer> replacementIndex = buildPositionIndex(rides);
+        if (replacementIndex == null) {
             throw new DuplicateRideException();
         }
 
+        positionIndex.clear();
+        positionIndex.putAll(replacementIndex);
+        reindex(rides);
         internalList.setAll(rides);
     }
 
+    /**
+     * Returns the secondary indexes over the rides in this list.
+     */
+    public RideIndex getRideIndex() {
+        return rideIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Ride> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+        return internalUnmodifiableList;
     }
 
     @Override
@@ -120,16 +198,23 @@ public class UniqueRideList implements Iterable<Ride> {
     }
 
     /**
-     * Returns true if {@code rides} contains only unique rides.
+     * Rebuilds the secondary indexes to contain exactly {@code rides}.
+     */
+    private void reindex(List<Ride> rides) {
+        rideIndex.clear();
+        rides.forEach(rideIndex::add);
+    }
+
+    /**
+     * Returns the position index of {@code rides}, or null if {@code rides} contains duplicate rides.
      */
-    private boolean ridesAreUnique(List<Ride> rides) {
-        for (int i = 0; i < rides.size() - 1; i++) {
-            for (int j = i + 1; j < rides.size(); j++) {
-                if (rides.get(i).isSameRide(rides.get(j))) {
-                    return false;
-                }
+    private Map<Name, Integer> buildPositionIndex(List<Ride> rides) {
+        Map<Name, Integer> index = new HashMap<>();
+        for (int i = 0; i < rides.size(); i++) {
+            if (index.putIfAbsent(rides.get(i).getName(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
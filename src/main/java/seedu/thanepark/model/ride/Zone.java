@@ -3,6 +3,10 @@ package seedu.thanepark.model.ride;
 import static java.util.Objects.requireNonNull;
 import static seedu.thanepark.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Represents a Ride's thanepark in the thanepark book.
  * Guarantees: immutable; is valid as declared in {@link #isValidZone(String)}
@@ -19,6 +23,8 @@ public class Zone {
     public static final String ZONE_VALIDATION_REGEX = "[^\\s].*";
 
     public final String value;
+    /** The words of the zone in lower case, split once so that searches need not split the zone again. */
+    private final List<String> words;
 
     /**
      * Constructs an {@code Zone}.
@@ -29,6 +35,7 @@ public class Zone {
         requireNonNull(zone);
         checkArgument(isValidZone(zone), MESSAGE_ZONE_CONSTRAINTS);
         value = zone;
+        words = Collections.unmodifiableList(Arrays.asList(Name.foldCase(zone).split("\\s+")));
     }
 
     /**
@@ -38,6 +45,13 @@ public class Zone {
         return test.matches(ZONE_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of the zone in lower case, in the order they appear.
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -0,0 +1,403 @@
+package seedu.thanepark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.thanepark.commons.core.LogsCenter;
+import seedu.thanepark.commons.exceptions.DataConversionException;
+import seedu.thanepark.commons.exceptions.IllegalValueException;
+import seedu.thanepark.commons.util.FileUtil;
+import seedu.thanepark.model.ReadOnlyThanePark;
+import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.RideCodec;
+import seedu.thanepark.model.ride.Zone;
+import seedu.thanepark.model.tag.Tag;
+
+/**
+ * A class to access ThanePark data stored as a compact binary file on the hard disk.
+ * The file holds, after a magic number and a format version, a dictionary of the zones and one of the tags, then a
+ * length-prefixed record for each ride, written by {@code RideCodec} but referring to its zone and tags by their
+ * position in the dictionaries, and finally a checksum of everything before it. All numbers, including the waiting
+ * time and maintenance date of each ride, are written as variable-length integers.
+ * The file is written to a temporary file that then replaces it, so a crash while saving leaves the previous file.
+ */
+public class BinaryThaneParkStorage implements ThaneParkStorage {
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "Not a ThanePark binary file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported ThanePark binary file version %d.";
+    public static final String MESSAGE_CORRUPTED = "ThanePark binary file is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryThaneParkStorage.class);
+
+    private static final int MAGIC = 0x54504b42; // "TPKB"
+    private static final int VERSION = 3;
+    private static final String BINARY_FILE_EXTENSION = ".bin";
+    private static final String XML_FILE_EXTENSION = ".xml";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private Path filePath;
+
+    public BinaryThaneParkStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getThaneParkFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary file for the data file at {@code thaneParkFilePath}, which is that path unless
+     * it names an xml file, in which case it is the {@value #BINARY_FILE_EXTENSION} file of the same name, so that
+     * saving in the binary format never overwrites an xml file.
+     */
+    public static Path getBinaryFilePath(Path thaneParkFilePath) {
+        String fileName = thaneParkFilePath.getFileName().toString();
+        if (!fileName.toLowerCase(Locale.ROOT).endsWith(XML_FILE_EXTENSION)) {
+            return thaneParkFilePath;
+        }
+        String baseName = fileName.substring(0, fileName.length() - XML_FILE_EXTENSION.length());
+        return thaneParkFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyThanePark> readThanePark() throws DataConversionException, IOException {
+        return readThanePark(filePath);
+    }
+
+    /**
+     * Similar to {@link #readThanePark()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyThanePark> readThanePark(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("ThanePark file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        long fileSize = Files.size(filePath);
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath)), checksum))) {
+            if (in.readInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+            }
+            int version = readVarInt(in);
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            List<Zone> zones = new ArrayList<>();
+            for (int i = readVarInt(in); i > 0; i--) {
+                zones.add(new Zone(readString(in)));
+            }
+            List<Tag> tags = new ArrayList<>();
+            for (int i = readVarInt(in); i > 0; i--) {
+                tags.add(new Tag(readString(in)));
+            }
+
+            RideCodec codec = new DictionaryRideCodec(zones, tags);
+            ThanePark thanePark = new ThanePark();
+            for (int i = readVarInt(in); i > 0; i--) {
+                int recordLength = readVarInt(in);
+                if (recordLength > fileSize) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED);
+                }
+                byte[] record = new byte[recordLength];
+                in.readFully(record);
+                Ride ride = readRide(codec, record);
+                if (thanePark.hasRide(ride)) {
+                    throw new IllegalValueException(XmlSerializableThanePark.MESSAGE_DUPLICATE_RIDE);
+                }
+                thanePark.addRide(ride);
+            }
+
+            long expectedChecksum = checksum.getValue();
+            if (in.readInt() != (int) expectedChecksum) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED);
+            }
+            return Optional.of(thanePark);
+        } catch (IllegalValueException | IllegalArgumentException | IndexOutOfBoundsException | EOFException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveThanePark(ReadOnlyThanePark thanePark) throws IOException {
+        saveThanePark(thanePark, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveThanePark(ReadOnlyThanePark)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveThanePark(ReadOnlyThanePark thanePark, Path filePath) throws IOException {
+        requireNonNull(thanePark);
+        requireNonNull(filePath);
+
+        Set<Zone> zones = new LinkedHashSet<>();
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (Ride ride : thanePark.getRideList()) {
+            zones.add(ride.getZone());
+            tags.addAll(ride.getTags());
+        }
+        RideCodec codec = new DictionaryRideCodec(new ArrayList<>(zones), new ArrayList<>(tags));
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        CRC32 checksum = new CRC32();
+        try (OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(tempFilePath))) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(fileOut, checksum));
+            out.writeInt(MAGIC);
+            writeVarInt(out, VERSION);
+
+            writeVarInt(out, zones.size());
+            for (Zone zone : zones) {
+                writeString(out, zone.value);
+            }
+            writeVarInt(out, tags.size());
+            for (Tag tag : tags) {
+                writeString(out, tag.tagName);
+            }
+
+            writeVarInt(out, thanePark.getRideList().size());
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            for (Ride ride : thanePark.getRideList()) {
+                recordBytes.reset();
+                codec.writeRide(record, ride);
+                record.flush();
+                writeVarInt(out, recordBytes.size());
+                recordBytes.writeTo(out);
+            }
+            out.flush();
+
+            // the checksum is not part of what it checks
+            new DataOutputStream(fileOut).writeInt((int) checksum.getValue());
+        }
+        FileUtil.moveReplacing(tempFilePath, filePath);
+    }
+
+    //// conversion
+
+    /**
+     * Converts the ThanePark xml file at {@code xmlFilePath} to a binary file at {@code binaryFilePath}.
+     * @throws DataConversionException if the xml file is not in the correct format.
+     */
+    public static void convertFromXml(Path xmlFilePath, Path binaryFilePath) throws DataConversionException,
+                                                                                IOException {
+        ReadOnlyThanePark thanePark = new XmlThaneParkStorage(xmlFilePath).readThanePark()
+                .orElseThrow(() -> new IOException("ThanePark file " + xmlFilePath + " not found"));
+        new BinaryThaneParkStorage(binaryFilePath).saveThanePark(thanePark);
+    }
+
+    /**
+     * Converts the ThanePark binary file at {@code binaryFilePath} to an xml file at {@code xmlFilePath}.
+     * @throws DataConversionException if the binary file is not in the correct format.
+     */
+    public static void convertToXml(Path binaryFilePath, Path xmlFilePath) throws DataConversionException,
+                                                                              IOException {
+        ReadOnlyThanePark thanePark = new BinaryThaneParkStorage(binaryFilePath).readThanePark()
+                .orElseThrow(() -> new IOException("ThanePark file " + binaryFilePath + " not found"));
+        new XmlThaneParkStorage(xmlFilePath).saveThanePark(thanePark);
+    }
+
+    //// rides
+
+    /**
+     * Reads the ride in {@code record} with {@code codec}.
+     * @throws IllegalValueException if the record is not a valid ride.
+     */
+    private static Ride readRide(RideCodec codec, byte[] record) throws IllegalValueException {
+        try {
+            return codec.readRide(new DataInputStream(new ByteArrayInputStream(record)));
+        } catch (IOException e) {
+            // the record is already in memory, so it can only fail to be read by being corrupted
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    /**
+     * A {@code RideCodec} that writes the numbers of a ride as variable-length integers, and its zone and tags by their
+     * position in the dictionaries of the file.
+     */
+    private static class DictionaryRideCodec extends RideCodec {
+        private final List<Zone> zones;
+        private final List<Tag> tags;
+        private final Map<Zone, Integer> zoneIds = new HashMap<>();
+        private final Map<Tag, Integer> tagIds = new HashMap<>();
+
+        DictionaryRideCodec(List<Zone> zones, List<Tag> tags) {
+            this.zones = zones;
+            this.tags = tags;
+            for (Zone zone : zones) {
+                zoneIds.put(zone, zoneIds.size());
+            }
+            for (Tag tag : tags) {
+                tagIds.put(tag, tagIds.size());
+            }
+        }
+
+        @Override
+        protected void writeMaintenanceDay(DataOutput out, long lastMaintenanceEpochDay) throws IOException {
+            writeVarLong(out, lastMaintenanceEpochDay);
+        }
+
+        @Override
+        protected long readMaintenanceDay(DataInput in) throws IOException {
+            try {
+                return readVarLong(in);
+            } catch (IllegalValueException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        protected void writeWaitTime(DataOutput out, int waitTime) throws IOException {
+            writeVarInt(out, waitTime);
+        }
+
+        @Override
+        protected int readWaitTime(DataInput in) throws IOException {
+            return readCount(in);
+        }
+
+        @Override
+        protected void writeTagCount(DataOutput out, int tagCount) throws IOException {
+            writeVarInt(out, tagCount);
+        }
+
+        @Override
+        protected int readTagCount(DataInput in) throws IOException {
+            return readCount(in);
+        }
+
+        @Override
+        protected void writeZone(DataOutput out, Zone zone) throws IOException {
+            writeVarInt(out, zoneIds.get(zone));
+        }
+
+        @Override
+        protected Zone readZone(DataInput in) throws IOException {
+            return zones.get(readCount(in));
+        }
+
+        @Override
+        protected void writeTag(DataOutput out, Tag tag) throws IOException {
+            writeVarInt(out, tagIds.get(tag));
+        }
+
+        @Override
+        protected Tag readTag(DataInput in) throws IOException {
+            return tags.get(readCount(in));
+        }
+
+        /**
+         * Reads a non-negative variable-length integer, such as a count or the position of a zone or tag in its
+         * dictionary.
+         */
+        private static int readCount(DataInput in) throws IOException {
+            try {
+                return readVarInt(in);
+            } catch (IllegalValueException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    //// primitives
+
+    /**
+     * Writes {@code value} as its length in UTF-8 bytes followed by those bytes.
+     */
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}.
+     */
+    private static String readString(DataInput in) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code value} as a variable-length integer.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        writeVarLong(out, value);
+    }
+
+    /**
+     * Reads a non-negative variable-length integer that fits in an {@code int}.
+     */
+    private static int readVarInt(DataInput in) throws IOException, IllegalValueException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Writes {@code value} zigzag-encoded in groups of 7 bits, lowest first, so that numbers close to zero take
+     * fewer bytes.
+     */
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    /**
+     * Reads a variable-length integer written by {@link #writeVarLong(DataOutput, long)}.
+     */
+    private static long readVarLong(DataInput in) throws IOException, IllegalValueException {
+        long zigzag = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED);
+    }
+}
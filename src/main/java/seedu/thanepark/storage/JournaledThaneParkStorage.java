@@ -0,0 +1,422 @@
+package seedu.thanepark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.thanepark.commons.core.LogsCenter;
+import seedu.thanepark.commons.exceptions.DataConversionException;
+import seedu.thanepark.commons.util.FileUtil;
+import seedu.thanepark.model.ReadOnlyThanePark;
+import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.ThaneParkSnapshot;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.RideCodec;
+
+/**
+ * A class to access ThanePark data stored as an xml checkpoint file on the hard disk, followed by a journal of the
+ * changes made since the checkpoint.
+ * Each save appends the rides added, updated and deleted since the last save to the journal, and only rewrites the
+ * checkpoint once the journal has {@code checkpointRecordCount} records or {@code checkpointJournalBytes} bytes.
+ * The changes are found by comparing the snapshot saved with the snapshot last saved, which takes time in proportion to
+ * the number of rides changed rather than to the number of rides.
+ * Reading loads the checkpoint and replays the journal on top of it.
+ * The journal starts with the checksum of the checkpoint it follows, so a journal left behind by a crash while
+ * writing a newer checkpoint is ignored.
+ */
+public class JournaledThaneParkStorage implements ThaneParkStorage {
+
+    public static final int DEFAULT_CHECKPOINT_RECORD_COUNT = 1000;
+    public static final long DEFAULT_CHECKPOINT_JOURNAL_BYTES = 1024 * 1024;
+
+    public static final String MESSAGE_CORRUPTED_RECORD = "ThanePark journal has a corrupted record.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledThaneParkStorage.class);
+
+    private static final RideCodec CODEC = new RideCodec();
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String CORRUPTED_FILE_SUFFIX = ".corrupted";
+    private static final int JOURNAL_MAGIC = 0x54504a31; // "TPJ1"
+    private static final int JOURNAL_HEADER_LENGTH = Integer.BYTES + Long.BYTES + Long.BYTES;
+    // Length prefix and checksum around the contents of each record.
+    private static final int RECORD_OVERHEAD_LENGTH = Integer.BYTES + Integer.BYTES;
+
+    private static final byte RECORD_ADD = 0;
+    private static final byte RECORD_UPDATE = 1;
+    private static final byte RECORD_DELETE = 2;
+    private static final byte RECORD_CLEAR = 3;
+
+    private final Path filePath;
+    private final XmlThaneParkStorage checkpointStorage;
+    private final int checkpointRecordCount;
+    private final long checkpointJournalBytes;
+
+    // The rides as last saved to or read from filePath, or null if the next save must write a checkpoint.
+    private ThaneParkSnapshot savedSnapshot;
+    private int journalRecordCount;
+    private long journalLength;
+
+    public JournaledThaneParkStorage(Path filePath) {
+        this(filePath, DEFAULT_CHECKPOINT_RECORD_COUNT, DEFAULT_CHECKPOINT_JOURNAL_BYTES);
+    }
+
+    public JournaledThaneParkStorage(Path filePath, int checkpointRecordCount, long checkpointJournalBytes) {
+        this.filePath = filePath;
+        this.checkpointStorage = new XmlThaneParkStorage(filePath);
+        this.checkpointRecordCount = checkpointRecordCount;
+        this.checkpointJournalBytes = checkpointJournalBytes;
+    }
+
+    public Path getThaneParkFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that follows the checkpoint at {@code checkpointPath}.
+     */
+    public static Path getJournalFilePath(Path checkpointPath) {
+        return checkpointPath.resolveSibling(checkpointPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyThanePark> readThanePark() throws DataConversionException, IOException {
+        return readThanePark(filePath);
+    }
+
+    /**
+     * Similar to {@link #readThanePark()}
+     * @param filePath location of the checkpoint. Cannot be null
+     * @throws DataConversionException if the checkpoint or the journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyThanePark> readThanePark(Path filePath) throws DataConversionException,
+                                                                                        IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyThanePark> checkpoint = checkpointStorage.readThanePark(filePath);
+        if (!checkpoint.isPresent()) {
+            return Optional.empty();
+        }
+
+        ThanePark thanePark = new ThanePark(checkpoint.get());
+        boolean isJournalReplayed = replayJournal(filePath, thanePark);
+        if (filePath.equals(this.filePath)) {
+            savedSnapshot = isJournalReplayed ? thanePark.getSnapshot() : null;
+        }
+        return Optional.of(thanePark);
+    }
+
+    @Override
+    public void saveThanePark(ReadOnlyThanePark thanePark) throws IOException {
+        saveThanePark(thanePark, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveThanePark(ReadOnlyThanePark)}
+     * Only saves to {@code filePath} of this storage are journaled; saves to any other location write a checkpoint.
+     * @param filePath location of the checkpoint. Cannot be null
+     */
+    public synchronized void saveThanePark(ReadOnlyThanePark thanePark, Path filePath) throws IOException {
+        requireNonNull(thanePark);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            checkpointStorage.saveThanePark(thanePark, filePath);
+            return;
+        }
+
+        ThaneParkSnapshot snapshot = ThaneParkSnapshot.of(thanePark);
+        boolean hasJournal = savedSnapshot != null && Files.exists(filePath)
+                && Files.exists(getJournalFilePath(filePath));
+        List<byte[]> records = hasJournal ? getChangeRecords(savedSnapshot, snapshot) : null;
+        if (records == null || journalRecordCount + records.size() >= checkpointRecordCount) {
+            writeCheckpoint(snapshot);
+            return;
+        }
+
+        appendToJournal(records);
+        savedSnapshot = snapshot;
+        if (journalLength >= checkpointJournalBytes) {
+            writeCheckpoint(snapshot);
+        }
+    }
+
+    //// checkpoint
+
+    /**
+     * Rewrites the checkpoint with {@code thanePark} and starts an empty journal after it.
+     */
+    private void writeCheckpoint(ThaneParkSnapshot thanePark) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        checkpointStorage.saveThanePark(thanePark, tempFilePath);
+        FileUtil.moveReplacing(tempFilePath, filePath);
+
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_LENGTH);
+        header.putInt(JOURNAL_MAGIC).putLong(Files.size(filePath)).putLong(checksumOf(filePath)).flip();
+        try (FileChannel journal = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            journal.write(header);
+            journal.force(false);
+        }
+
+        logger.fine("Wrote checkpoint to " + filePath);
+        savedSnapshot = thanePark;
+        journalRecordCount = 0;
+        journalLength = JOURNAL_HEADER_LENGTH;
+    }
+
+    /**
+     * Returns the CRC32 checksum of the contents of {@code file}.
+     */
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        try (InputStream in = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file)), checksum)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // read through to update the checksum
+            }
+        }
+        return checksum.getValue();
+    }
+
+    //// journal
+
+    /**
+     * Appends {@code records} to the journal, and forces them to the disk so that they survive a crash.
+     */
+    private void appendToJournal(List<byte[]> records) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (byte[] record : records) {
+            CRC32 checksum = new CRC32();
+            checksum.update(record);
+            out.writeInt(record.length);
+            out.write(record);
+            out.writeInt((int) checksum.getValue());
+        }
+        out.flush();
+
+        try (FileChannel journal = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.WRITE)) {
+            // drops anything after the last record that was read or written, such as a torn record
+            journal.truncate(journalLength);
+            journal.write(ByteBuffer.wrap(bytes.toByteArray()), journalLength);
+            journal.force(false);
+        }
+        journalRecordCount += records.size();
+        journalLength += bytes.size();
+    }
+
+    /**
+     * Replays the journal that follows the checkpoint at {@code checkpointPath} onto {@code thanePark}.
+     * A torn record at the end of the journal, left by a crash while appending, is ignored. If any other record is
+     * corrupted, the checkpoint and the journal are backed up, and the next save writes a new checkpoint.
+     *
+     * @return true if the journal follows the checkpoint, false if there is no such journal.
+     * @throws DataConversionException if a record other than a torn last record is corrupted.
+     */
+    private boolean replayJournal(Path checkpointPath, ThanePark thanePark) throws DataConversionException,
+                                                                                    IOException {
+        Path journalPath = getJournalFilePath(checkpointPath);
+        if (!FileUtil.isFileExists(journalPath)) {
+            return false;
+        }
+
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(journal)));
+            try {
+                if (in.readInt() != JOURNAL_MAGIC || in.readLong() != Files.size(checkpointPath)
+                        || in.readLong() != checksumOf(checkpointPath)) {
+                    logger.info("Ignoring journal " + journalPath + " as it does not follow " + checkpointPath);
+                    return false;
+                }
+            } catch (EOFException eofe) {
+                return false;
+            }
+
+            long journalSize = journal.size();
+            int recordCount = 0;
+            long length = JOURNAL_HEADER_LENGTH;
+            try {
+                while (length < journalSize) {
+                    byte[] record = readRecord(in, journalSize - length);
+                    if (record == null) {
+                        logger.warning("Ignoring incomplete record at the end of journal " + journalPath);
+                        break;
+                    }
+                    applyRecord(record, thanePark);
+                    recordCount++;
+                    length += record.length + RECORD_OVERHEAD_LENGTH;
+                }
+            } catch (DataConversionException e) {
+                backUpCorruptedFiles(checkpointPath, journalPath);
+                if (checkpointPath.equals(filePath)) {
+                    savedSnapshot = null;
+                }
+                logger.warning("Journal " + journalPath + " is corrupted after " + recordCount + " records");
+                throw e;
+            }
+
+            if (checkpointPath.equals(filePath)) {
+                journalRecordCount = recordCount;
+                journalLength = length;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Returns the contents of the next record in {@code in}, which has {@code remaining} bytes left, or null if it is
+     * the last record and is cut short or does not match its checksum, as a crash while appending it leaves it.
+     * A record that claims to be longer than the bytes left is taken to be cut short, and is never read into memory.
+     * @throws DataConversionException if the record is corrupted and is not the last record of the journal.
+     */
+    private static byte[] readRecord(DataInputStream in, long remaining) throws DataConversionException,
+                                                                                 IOException {
+        if (remaining < RECORD_OVERHEAD_LENGTH) {
+            return null;
+        }
+        int length = in.readInt();
+        if (length <= 0) {
+            throw new DataConversionException(new IOException(MESSAGE_CORRUPTED_RECORD));
+        }
+        long recordLength = (long) length + RECORD_OVERHEAD_LENGTH;
+        if (recordLength > remaining) {
+            return null;
+        }
+        byte[] record = new byte[length];
+        in.readFully(record);
+        CRC32 checksum = new CRC32();
+        checksum.update(record);
+        if (in.readInt() == (int) checksum.getValue()) {
+            return record;
+        }
+        if (recordLength == remaining) {
+            return null;
+        }
+        throw new DataConversionException(new IOException(MESSAGE_CORRUPTED_RECORD));
+    }
+
+    /**
+     * Copies the checkpoint and the journal that follows it aside, so that they are not lost when the next save
+     * rewrites them.
+     */
+    private static void backUpCorruptedFiles(Path checkpointPath, Path journalPath) throws IOException {
+        for (Path path : new Path[] {checkpointPath, journalPath}) {
+            Path backupPath = path.resolveSibling(path.getFileName() + CORRUPTED_FILE_SUFFIX);
+            Files.copy(path, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Backed up " + path + " to " + backupPath);
+        }
+    }
+
+    //// records
+
+    /**
+     * Returns the records that turn the rides of {@code previousSnapshot} into the rides of {@code snapshot}, or null
+     * if the rides that are in both are not in the same order, which records cannot express.
+     */
+    private static List<byte[]> getChangeRecords(ThaneParkSnapshot previousSnapshot, ThaneParkSnapshot snapshot)
+            throws IOException {
+        List<byte[]> records = new ArrayList<>();
+        if (snapshot.getRides().isEmpty()) {
+            if (!previousSnapshot.getRides().isEmpty()) {
+                records.add(encodeRecord(RECORD_CLEAR, null, -1));
+            }
+            return records;
+        }
+
+        Optional<ThaneParkSnapshot.Changes> changes = snapshot.getChangesSince(previousSnapshot);
+        if (!changes.isPresent()) {
+            return null;
+        }
+        for (Ride removedRide : changes.get().getRemovedRides()) {
+            records.add(encodeRecord(RECORD_DELETE, removedRide, -1));
+        }
+        // With the deleted rides gone, adding each new ride at its final position in order gives the new list.
+        for (Map.Entry<Integer, Ride> addedRide : changes.get().getAddedRides().entrySet()) {
+            records.add(encodeRecord(RECORD_ADD, addedRide.getValue(), addedRide.getKey()));
+        }
+        for (Ride updatedRide : changes.get().getUpdatedRides()) {
+            records.add(encodeRecord(RECORD_UPDATE, updatedRide, -1));
+        }
+        return records;
+    }
+
+    /**
+     * Returns the contents of a record of the given {@code type} for {@code ride}, added at {@code index}.
+     * {@code ride} is not used by clear records, and {@code index} is only used by add records.
+     */
+    private static byte[] encodeRecord(byte type, Ride ride, int index) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(type);
+        if (type == RECORD_ADD) {
+            out.writeInt(index);
+        }
+        if (type != RECORD_CLEAR) {
+            CODEC.writeRide(out, ride);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Applies the change in {@code record} to {@code thanePark}.
+     * @throws DataConversionException if the record is not in the correct format or does not fit {@code thanePark}.
+     */
+    private static void applyRecord(byte[] record, ThanePark thanePark) throws DataConversionException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        try {
+            byte type = in.readByte();
+            switch (type) {
+            case RECORD_ADD:
+                int index = in.readInt();
+                thanePark.addRide(index, CODEC.readRide(in));
+                break;
+            case RECORD_UPDATE:
+                Ride editedRide = CODEC.readRide(in);
+                thanePark.updateRide(getRideWithSameName(thanePark, editedRide), editedRide);
+                break;
+            case RECORD_DELETE:
+                thanePark.removeRide(getRideWithSameName(thanePark, CODEC.readRide(in)));
+                break;
+            case RECORD_CLEAR:
+                thanePark.setRides(new ArrayList<>());
+                break;
+            default:
+                throw new IOException("Unknown journal record type " + type);
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the ride in {@code thanePark} with the same name as {@code ride}.
+     */
+    private static Ride getRideWithSameName(ThanePark thanePark, Ride ride) throws IOException {
+        return thanePark.getRide(ride.getName())
+                .orElseThrow(() -> new IOException("Journal refers to missing ride " + ride.getName()));
+    }
+}
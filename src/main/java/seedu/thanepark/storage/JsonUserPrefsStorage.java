@@ -3,7 +3,9 @@ package seedu.thanepark.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.thanepark.commons.core.LogsCenter;
 import seedu.thanepark.commons.exceptions.DataConversionException;
 import seedu.thanepark.commons.util.JsonUtil;
 import seedu.thanepark.model.UserPrefs;
@@ -13,6 +15,8 @@ import seedu.thanepark.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -32,10 +36,39 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
     /**
      * Similar to {@link #readUserPrefs()}
      * @param prefsFilePath location of the data. Cannot be null.
+     * Sizes and limits that are too small are raised to the smallest allowed.
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        userPrefs.ifPresent(prefs -> raiseTooSmallValues(prefs, prefsFilePath));
+        return userPrefs;
+    }
+
+    /**
+     * Raises the values in {@code prefs} read from {@code prefsFilePath} that are too small to the smallest allowed,
+     * as the fields are read directly rather than through the setters that check them.
+     */
+    private static void raiseTooSmallValues(UserPrefs prefs, Path prefsFilePath) {
+        if (!UserPrefs.isValidUndoHistoryMaxStates(prefs.getUndoHistoryMaxStates())) {
+            logTooSmall("Undo history max states", prefs.getUndoHistoryMaxStates(), prefsFilePath,
+                    UserPrefs.MIN_UNDO_HISTORY_MAX_STATES);
+            prefs.setUndoHistoryMaxStates(UserPrefs.MIN_UNDO_HISTORY_MAX_STATES);
+        }
+        if (!UserPrefs.isValidUndoHistoryMemoryBudget(prefs.getUndoHistoryMemoryBudget())) {
+            logTooSmall("Undo history memory budget", prefs.getUndoHistoryMemoryBudget(), prefsFilePath,
+                    UserPrefs.MIN_UNDO_HISTORY_MEMORY_BUDGET);
+            prefs.setUndoHistoryMemoryBudget(UserPrefs.MIN_UNDO_HISTORY_MEMORY_BUDGET);
+        }
+        if (!UserPrefs.isValidFilterCacheSize(prefs.getFilterCacheSize())) {
+            logTooSmall("Filter cache size", prefs.getFilterCacheSize(), prefsFilePath,
+                    UserPrefs.MIN_FILTER_CACHE_SIZE);
+            prefs.setFilterCacheSize(UserPrefs.MIN_FILTER_CACHE_SIZE);
+        }
+    }
+
+    private static void logTooSmall(String name, long value, Path prefsFilePath, long minimum) {
+        logger.warning(name + " " + value + " in " + prefsFilePath + " is too small. Using " + minimum);
     }
 
     @Override
@@ -36,4 +36,9 @@ public interface Storage extends ThaneParkStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleThaneParkChangedEvent(ThaneParkChangedEvent abce);
+
+    /**
+     * Saves any change to the ThanePark data that has not been saved yet, returning once it has been saved.
+     */
+    void flushPendingSaves();
 }
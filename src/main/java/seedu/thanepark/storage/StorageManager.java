@@ -3,6 +3,11 @@ package seedu.thanepark.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -11,24 +16,58 @@ import seedu.thanepark.commons.core.ComponentManager;
 import seedu.thanepark.commons.core.LogsCenter;
 import seedu.thanepark.commons.events.model.ThaneParkChangedEvent;
 import seedu.thanepark.commons.events.storage.DataSavingExceptionEvent;
+import seedu.thanepark.commons.events.storage.DataSavingStatusChangedEvent;
 import seedu.thanepark.commons.exceptions.DataConversionException;
 import seedu.thanepark.model.ReadOnlyThanePark;
+import seedu.thanepark.model.ThaneParkSnapshot;
 import seedu.thanepark.model.UserPrefs;
 
 /**
  * Manages storage of ThanePark data in local storage.
+ * In write-behind mode, changes to the ThanePark are saved by a background thread once no further change has come
+ * in for the quiet period, or once the oldest unsaved change has waited for the maximum delay, whichever is first.
+ * Only the latest data is saved, so a burst of changes is saved once.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final long NO_PENDING_SAVE = -1;
+
     private ThaneParkStorage thaneParkStorage;
     private UserPrefsStorage userPrefsStorage;
-
-
+    private final long saveQuietPeriodMillis;
+    private final long saveMaxDelayMillis;
+    private final ScheduledExecutorService saveExecutor;
+
+    // Guarded by this. Only the latest unsaved data is kept.
+    private ReadOnlyThanePark pendingThanePark;
+    private long firstPendingChangeMillis = NO_PENDING_SAVE;
+    private ScheduledFuture<?> scheduledSave;
+
+    /**
+     * Creates a {@code StorageManager} that saves every change to the ThanePark as it happens.
+     */
     public StorageManager(ThaneParkStorage thaneParkStorage, UserPrefsStorage userPrefsStorage) {
+        this(thaneParkStorage, userPrefsStorage, 0, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the ThanePark in the background after
+     * {@code saveQuietPeriodMillis} without further changes, but no later than {@code saveMaxDelayMillis} after the
+     * first unsaved change. A {@code saveQuietPeriodMillis} of zero saves every change as it happens instead.
+     */
+    public StorageManager(ThaneParkStorage thaneParkStorage, UserPrefsStorage userPrefsStorage,
+                          long saveQuietPeriodMillis, long saveMaxDelayMillis) {
         super();
         this.thaneParkStorage = thaneParkStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveQuietPeriodMillis = saveQuietPeriodMillis;
+        this.saveMaxDelayMillis = Math.max(saveMaxDelayMillis, saveQuietPeriodMillis);
+        this.saveExecutor = saveQuietPeriodMillis > 0 ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ThanePark saver");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -82,11 +121,90 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     @Subscribe
     public void handleThaneParkChangedEvent(ThaneParkChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (saveExecutor == null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+            try {
+                saveThanePark(event.data);
+            } catch (IOException e) {
+                raise(new DataSavingExceptionEvent(e));
+            }
+            return;
+        }
+
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, scheduling save to file"));
+        // The snapshot keeps the data as it is now while later changes are made.
+        boolean isFirstPendingChange = scheduleSave(ThaneParkSnapshot.of(event.data));
+        if (isFirstPendingChange) {
+            raise(new DataSavingStatusChangedEvent(true));
+        }
+    }
+
+    /**
+     * Replaces the pending data with {@code thanePark} and moves the save to the end of the quiet period, but not past
+     * the maximum delay.
+     *
+     * @return true if there was no pending data before.
+     */
+    private synchronized boolean scheduleSave(ReadOnlyThanePark thanePark) {
+        long now = System.currentTimeMillis();
+        boolean isFirstPendingChange = firstPendingChangeMillis == NO_PENDING_SAVE;
+        if (isFirstPendingChange) {
+            firstPendingChangeMillis = now;
+        }
+        pendingThanePark = thanePark;
+
+        if (scheduledSave != null) {
+            scheduledSave.cancel(false);
+        }
+        long delay = Math.min(saveQuietPeriodMillis, firstPendingChangeMillis + saveMaxDelayMillis - now);
+        scheduledSave = saveExecutor.schedule(this::savePendingThanePark, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+        return isFirstPendingChange;
+    }
+
+    /**
+     * Saves the pending data, if any. Runs on the save thread.
+     */
+    private void savePendingThanePark() {
+        ReadOnlyThanePark thanePark;
+        synchronized (this) {
+            thanePark = pendingThanePark;
+            pendingThanePark = null;
+            firstPendingChangeMillis = NO_PENDING_SAVE;
+            scheduledSave = null;
+        }
+        if (thanePark == null) {
+            return;
+        }
+
+        IOException saveException = null;
         try {
-            saveThanePark(event.data);
+            saveThanePark(thanePark);
         } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            saveException = e;
+        }
+        if (!hasPendingSave()) {
+            raise(new DataSavingStatusChangedEvent(false));
+        }
+        if (saveException != null) {
+            raise(new DataSavingExceptionEvent(saveException));
+        }
+    }
+
+    private synchronized boolean hasPendingSave() {
+        return pendingThanePark != null;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        if (saveExecutor == null) {
+            return;
+        }
+        try {
+            saveExecutor.submit(this::savePendingThanePark).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Failed to save pending changes " + e.getCause());
         }
     }
 
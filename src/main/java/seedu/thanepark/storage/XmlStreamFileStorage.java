@@ -0,0 +1,203 @@
+package seedu.thanepark.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.thanepark.commons.exceptions.DataConversionException;
+import seedu.thanepark.commons.exceptions.IllegalValueException;
+import seedu.thanepark.commons.util.FileUtil;
+import seedu.thanepark.model.ReadOnlyThanePark;
+import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.tag.Tag;
+
+/**
+ * Stores thanePark data in an XML file in the format of {@link XmlSerializableThanePark}, reading and writing one
+ * ride at a time instead of going through a whole {@code XmlSerializableThanePark}.
+ */
+public class XmlStreamFileStorage {
+
+    private static final String ROOT_ELEMENT = "thanepark";
+    private static final String RIDE_ELEMENT = "rides";
+    private static final String NAME_ELEMENT = "name";
+    private static final String MAINTENANCE_ELEMENT = "daysSinceMaintenanceString";
+    private static final String WAIT_TIME_ELEMENT = "waitingTimeString";
+    private static final String ZONE_ELEMENT = "zone";
+    private static final String TAG_ELEMENT = "tagged";
+    private static final String STATUS_ELEMENT = "statusString";
+
+    private static final String INDENT = "    ";
+
+    /**
+     * Saves the given thanepark data to the specified file.
+     */
+    public static void saveDataToFile(Path file, ReadOnlyThanePark thanePark) throws IOException {
+        requireNonNull(file);
+        requireNonNull(thanePark);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, "UTF-8");
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(ROOT_ELEMENT);
+            for (Ride ride : thanePark.getRideList()) {
+                writeRide(writer, ride);
+            }
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Failed to write " + file, e);
+        }
+    }
+
+    /**
+     * Writes {@code ride} as a ride element, with its fields in the order of {@link XmlAdaptedRide}.
+     */
+    private static void writeRide(XMLStreamWriter writer, Ride ride) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeStartElement(RIDE_ELEMENT);
+        writeField(writer, NAME_ELEMENT, ride.getName().fullName);
+        writeField(writer, MAINTENANCE_ELEMENT, String.valueOf(ride.getDaysSinceMaintenance().getValue()));
+        writeField(writer, WAIT_TIME_ELEMENT, String.valueOf(ride.getWaitingTime().getValue()));
+        writeField(writer, ZONE_ELEMENT, ride.getZone().value);
+        for (Tag tag : ride.getTags()) {
+            writeField(writer, TAG_ELEMENT, tag.tagName);
+        }
+        writeField(writer, STATUS_ELEMENT, ride.getStatus().name());
+        writer.writeCharacters("\n" + INDENT);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an {@code element} holding {@code value} on its own line within a ride element.
+     */
+    private static void writeField(XMLStreamWriter writer, String element, String value) throws XMLStreamException {
+        writer.writeCharacters("\n" + INDENT + INDENT);
+        writer.writeStartElement(element);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Returns the thanepark data in the file, adding each ride to it as soon as the ride has been read.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the rides.
+     */
+    public static ThanePark loadDataFromSaveFile(Path file) throws DataConversionException, IllegalValueException,
+                                                                   FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            reader.nextTag();
+            if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+                throw new DataConversionException(
+                        new IllegalValueException("Unexpected root element " + reader.getLocalName()));
+            }
+
+            ThanePark thanePark = new ThanePark();
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                if (!RIDE_ELEMENT.equals(reader.getLocalName())) {
+                    skipElement(reader);
+                    continue;
+                }
+                Ride ride = readRide(reader).toModelType();
+                if (thanePark.hasRide(ride)) {
+                    throw new IllegalValueException(XmlSerializableThanePark.MESSAGE_DUPLICATE_RIDE);
+                }
+                thanePark.addRide(ride);
+            }
+            reader.close();
+            return thanePark;
+        } catch (XMLStreamException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the ride whose start element {@code reader} is at, leaving {@code reader} at its end element.
+     */
+    private static XmlAdaptedRide readRide(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String daysSinceMaintenanceString = null;
+        String waitingTimeString = null;
+        String zone = null;
+        String statusString = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case NAME_ELEMENT:
+                name = reader.getElementText();
+                break;
+            case MAINTENANCE_ELEMENT:
+                daysSinceMaintenanceString = reader.getElementText();
+                break;
+            case WAIT_TIME_ELEMENT:
+                waitingTimeString = reader.getElementText();
+                break;
+            case ZONE_ELEMENT:
+                zone = reader.getElementText();
+                break;
+            case TAG_ELEMENT:
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            case STATUS_ELEMENT:
+                statusString = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedRide(name, daysSinceMaintenanceString, waitingTimeString, zone, tagged, statusString);
+    }
+
+    /**
+     * Skips past the end of the element whose start element {@code reader} is at, including all of its content.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+}
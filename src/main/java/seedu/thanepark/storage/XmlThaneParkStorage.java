@@ -17,6 +17,7 @@ import seedu.thanepark.model.ReadOnlyThanePark;
 
 /**
  * A class to access ThanePark data stored as an xml file on the hard disk.
+ * The file is read and written one ride at a time, so that the whole document is never held in memory.
  */
 public class XmlThaneParkStorage implements ThaneParkStorage {
 
@@ -51,9 +52,8 @@ public class XmlThaneParkStorage implements ThaneParkStorage {
             return Optional.empty();
         }
 
-        XmlSerializableThanePark xmlthanePark = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlthanePark.toModelType());
+            return Optional.of(XmlStreamFileStorage.loadDataFromSaveFile(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -74,7 +74,7 @@ public class XmlThaneParkStorage implements ThaneParkStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableThanePark(thanePark));
+        XmlStreamFileStorage.saveDataToFile(filePath, thanePark);
     }
 
 }
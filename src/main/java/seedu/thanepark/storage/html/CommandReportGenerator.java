@@ -1,8 +1,10 @@
 package seedu.thanepark.storage.html;
 
+import java.io.IOException;
 import java.util.List;
 
 import j2html.tags.ContainerTag;
+import seedu.thanepark.commons.util.FilePathToUrl;
 import seedu.thanepark.model.logging.CommandEntry;
 
 /**
@@ -10,6 +12,8 @@ import seedu.thanepark.model.logging.CommandEntry;
  */
 public class CommandReportGenerator extends HtmlGenerator<CommandEntry> {
 
+    public static final int PAGE_SIZE = 200;
+
     private static CommandReportGenerator instance;
 
     /**
@@ -26,6 +30,15 @@ public class CommandReportGenerator extends HtmlGenerator<CommandEntry> {
         return instance;
     }
 
+    /**
+     * Generates a Html report with commandEntries as entries, {@value #PAGE_SIZE} to a page, running
+     * {@code onFirstPageWritten} as soon as the first page is complete.
+     */
+    public void generatePagedHtml(String title, Iterable<CommandEntry> commandEntries, FilePathToUrl firstPage,
+                                  Runnable onFirstPageWritten) throws IOException {
+        generatePagedHtml(title, commandEntries, PAGE_SIZE, firstPage, onFirstPageWritten);
+    }
+
     /**
      * Returns a ContainerTag representation of the generated table with commandEntryList as entries.
      */
@@ -1,5 +1,6 @@
 package seedu.thanepark.storage.html;
 
+import static j2html.TagCreator.a;
 import static j2html.TagCreator.attrs;
 import static j2html.TagCreator.body;
 import static j2html.TagCreator.div;
@@ -15,14 +16,21 @@ import static j2html.TagCreator.th;
 import static j2html.TagCreator.thead;
 import static j2html.TagCreator.title;
 import static j2html.TagCreator.tr;
+import static seedu.thanepark.commons.util.AppUtil.checkArgument;
 
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 
@@ -38,6 +46,9 @@ import seedu.thanepark.model.logging.HtmlFormattable;
  */
 public abstract class HtmlGenerator<HtmlData extends HtmlFormattable> {
     private static final String MESSAGE_TIME_GENERATED = "report generated at: %1$s";
+    private static final String MESSAGE_PAGE = "Page %1$d";
+    private static final String LINK_PREVIOUS_PAGE = "< Previous page";
+    private static final String LINK_NEXT_PAGE = "Next page >";
     private static final DateTimeFormatter formatter =
         DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT)
             .withLocale(Locale.UK)
@@ -54,6 +65,96 @@ public abstract class HtmlGenerator<HtmlData extends HtmlFormattable> {
                 "asciidoctor.css", false);
     }
 
+    /**
+     * Generates a Html report of {@code data} as a horizontal table split into pages of {@code pageSize} rows, with
+     * links to the previous and next pages. Each row is written to file as soon as it is rendered. The first page is
+     * written to the file of {@code firstPage}, and {@code onFirstPageWritten} is run as soon as it is complete so
+     * that it can be shown while the other pages are being written.
+     */
+    public void generatePagedHtml(String title, Iterable<HtmlData> data, int pageSize, FilePathToUrl firstPage,
+                                  Runnable onFirstPageWritten) throws IOException {
+        checkArgument(pageSize > 0, "Pages must hold at least one row.");
+        Path firstPagePath = Paths.get(firstPage.getFilePath());
+        FileUtil.saveResource(getClass().getResourceAsStream("/docs/stylesheets/asciidoctor.css"),
+                firstPagePath.resolveSibling("asciidoctor.css").toString(), false);
+
+        Iterator<HtmlData> rows = data.iterator();
+        int page = 1;
+        do {
+            writePage(firstPagePath, page, title, rows, pageSize);
+            if (page == 1) {
+                onFirstPageWritten.run();
+            }
+            page++;
+        } while (rows.hasNext());
+
+        // remove the pages left over from a longer report
+        while (Files.deleteIfExists(getPageFilePath(firstPagePath, page))) {
+            page++;
+        }
+    }
+
+    /**
+     * Writes page number {@code page} of a paged report, holding up to {@code pageSize} of the remaining
+     * {@code rows}.
+     */
+    private void writePage(Path firstPagePath, int page, String title, Iterator<HtmlData> rows, int pageSize)
+            throws IOException {
+        Path pagePath = getPageFilePath(firstPagePath, page);
+        try (Writer writer = Files.newBufferedWriter(pagePath, StandardCharsets.UTF_8)) {
+            writer.write("<html style=\"padding: 10px 30px\">");
+            writer.write(head(title(title), link().withRel("stylesheet").withHref("asciidoctor.css")).render());
+            writer.write("<body>");
+            writer.write(generateHeader(title).render());
+            writer.write(h3(String.format(MESSAGE_PAGE, page)).render());
+
+            if (rows.hasNext()) {
+                HtmlData firstRow = rows.next();
+                ContainerTag headers = tr();
+                for (String header : firstRow.getFieldHeaders()) {
+                    headers.with(th(header));
+                }
+                writer.write("<table style=\"width: 100%\">");
+                writer.write(thead(headers).render());
+                writer.write("<tbody>");
+                writer.write(generateTableRow(firstRow).render());
+                for (int i = 1; i < pageSize && rows.hasNext(); i++) {
+                    writer.write(generateTableRow(rows.next()).render());
+                }
+                writer.write("</tbody></table>");
+            }
+
+            ContainerTag navigation = div();
+            if (page > 1) {
+                navigation.with(a(LINK_PREVIOUS_PAGE).withHref(
+                        getPageFilePath(firstPagePath, page - 1).getFileName().toString()));
+            }
+            if (rows.hasNext()) {
+                navigation.with(a(LINK_NEXT_PAGE).withHref(
+                        getPageFilePath(firstPagePath, page + 1).getFileName().toString())
+                        .withStyle("float: right"));
+            }
+            writer.write(navigation.render());
+            writer.write("</body></html>");
+        }
+    }
+
+    /**
+     * Returns the file path of page number {@code page} of a paged report whose first page is at
+     * {@code firstPagePath}.
+     */
+    public static Path getPageFilePath(Path firstPagePath, int page) {
+        if (page == 1) {
+            return firstPagePath;
+        }
+        String fileName = firstPagePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String pageFileName = extensionIndex < 0
+                ? fileName + "-" + page
+                : fileName.substring(0, extensionIndex) + "-" + page + fileName.substring(extensionIndex);
+        return firstPagePath.resolveSibling(pageFileName);
+    }
+
     /**
      * Returns a String representation of the generated Html report with commandEntryList as entries.
      */
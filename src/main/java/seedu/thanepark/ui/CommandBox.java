@@ -1,9 +1,11 @@
 package seedu.thanepark.ui;
 
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
@@ -19,7 +21,6 @@ import seedu.thanepark.logic.Logic;
 import seedu.thanepark.logic.commands.CommandResult;
 import seedu.thanepark.logic.commands.SuggestCommand;
 import seedu.thanepark.logic.commands.exceptions.CommandException;
-import seedu.thanepark.logic.matchers.PrefixMatcher;
 import seedu.thanepark.logic.parser.SuggestCommandParser;
 import seedu.thanepark.logic.parser.exceptions.ParseException;
 
@@ -29,6 +30,8 @@ import seedu.thanepark.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "The command could not be run: %1$s";
     private static final String FXML = "CommandBox.fxml";
     private static final int CHARACTER_LIMIT = 250;
 
@@ -37,6 +40,7 @@ public class CommandBox extends UiPart<Region> {
     private ListElementPointer historySnapshot;
     private String pendingText = "";
     private int caretPosition = 0;
+    private int pendingCommandCount = 0;
 
     @FXML
     private TextField commandTextField;
@@ -144,11 +148,12 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Suggests commands with the text in the box as arguments. Does not behave like an actual command.
+     * The command word is completed until a space is typed, and the last argument after that.
      */
     private void suggestCommand() {
         try {
-            SuggestCommandParser parser = new SuggestCommandParser(new PrefixMatcher());
-            SuggestCommand suggestCommand = parser.parse(commandTextField.getText().split(" ")[0]);
+            SuggestCommandParser parser = new SuggestCommandParser(logic.getCompletionIndex());
+            SuggestCommand suggestCommand = parser.parse(commandTextField.getText());
             CommandResult commandResult = suggestCommand.execute(null, null);
             if (!pendingText.isEmpty()) {
                 replaceText(pendingText);
@@ -171,25 +176,62 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background, so the text field is cleared right away for the next command.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
-            initHistory();
+        String commandText = commandTextField.getText();
+        replaceText("");
+        updatePendingCommandCount(1);
+        logic.submit(commandText).whenCompleteAsync((commandResult, failure) ->
+                handleCommandFinished(commandText, commandResult, failure), Platform::runLater);
+    }
+
+    /**
+     * Shows the result of {@code commandText} once it has run. If it failed and nothing has been typed since, the
+     * command is put back in the text field to be corrected.
+     */
+    private void handleCommandFinished(String commandText, CommandResult commandResult, Throwable failure) {
+        updatePendingCommandCount(-1);
+        initHistory();
+        if (failure == null) {
             historySnapshot.next();
             // process result of the command
-            replaceText(pendingText);
+            if (commandTextField.getText().isEmpty()) {
+                replaceText(pendingText);
+            }
             pendingText = "";
             logger.info("Result: " + commandResult.feedbackToUser);
             raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+            return;
+        }
 
-        } catch (CommandException | ParseException e) {
-            initHistory();
-            // handle command failure
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        // handle command failure
+        if (commandTextField.getText().isEmpty()) {
+            replaceText(commandText);
             setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
+        }
+        logger.info("Invalid command: " + commandText);
+        if (cause instanceof CommandException || cause instanceof ParseException) {
+            raise(new NewResultAvailableEvent(cause.getMessage()));
+        } else {
+            logger.warning("Unexpected error while running " + commandText + ": " + cause);
+            raise(new NewResultAvailableEvent(String.format(MESSAGE_UNEXPECTED_ERROR, cause)));
+        }
+    }
+
+    /**
+     * Adds {@code change} to the number of commands entered that have not finished, marking the text field as busy
+     * while there are any.
+     */
+    private void updatePendingCommandCount(int change) {
+        pendingCommandCount += change;
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (pendingCommandCount == 0) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
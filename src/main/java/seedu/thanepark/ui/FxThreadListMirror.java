@@ -0,0 +1,103 @@
+package seedu.thanepark.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is only ever changed on the JavaFX application thread, so that it can
+ * back a control while the original list is changed by commands running in the background.
+ * Each change to the original list is forwarded to the copy as the ranges it removed, added and replaced, so that a
+ * control backed by the copy only redraws the rows that changed and keeps its selection. Changes made off the JavaFX
+ * application thread are queued in order and applied together by one {@code Platform.runLater}.
+ */
+public class FxThreadListMirror<T> {
+
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+    private final Queue<Edit<T>> pendingEdits = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isApplyScheduled = new AtomicBoolean();
+
+    public FxThreadListMirror(ObservableList<T> source) {
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener(this::handleSourceChanged);
+    }
+
+    /**
+     * Returns the copy of the list. It must only be used on the JavaFX application thread.
+     */
+    public ObservableList<T> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Records the ranges changed by {@code change}, on the thread that made it, and applies them to the copy on the
+     * JavaFX application thread.
+     */
+    private void handleSourceChanged(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                List<T> elements = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                pendingEdits.add(new Edit<>(from, elements.size(), elements));
+            } else {
+                pendingEdits.add(new Edit<>(from, change.getRemovedSize(), new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+
+        if (Platform.isFxApplicationThread()) {
+            applyPendingEdits();
+        } else if (isApplyScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::applyPendingEdits);
+        }
+    }
+
+    /**
+     * Applies the edits recorded so far to the copy, in the order they were made.
+     */
+    private void applyPendingEdits() {
+        isApplyScheduled.set(false);
+        Edit<T> edit;
+        while ((edit = pendingEdits.poll()) != null) {
+            edit.applyTo(mirror);
+        }
+    }
+
+    /**
+     * Replaces {@code removedCount} elements from {@code from} with {@code added}.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final int removedCount;
+        private final List<T> added;
+
+        Edit(int from, int removedCount, List<T> added) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.added = added;
+        }
+
+        /**
+         * Applies this edit to {@code list}. Elements replaced one for one are set in place, so that a control showing
+         * the list sees them as replaced rather than removed and added.
+         */
+        void applyTo(ObservableList<T> list) {
+            if (removedCount == added.size()) {
+                for (int i = 0; i < removedCount; i++) {
+                    list.set(from + i, added.get(i));
+                }
+                return;
+            }
+            list.remove(from, from + removedCount);
+            list.addAll(from, added);
+        }
+    }
+}
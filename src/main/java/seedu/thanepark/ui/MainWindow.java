@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -131,7 +132,8 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         browserPanel = new BrowserPanel();
         browserPlaceholder.getChildren().add(browserPanel.getRoot());
-        rideListPanel = new RideListPanel(logic.getFilteredRideList());
+        // commands change the ride list in the background
+        rideListPanel = new RideListPanel(new FxThreadListMirror<>(logic.getFilteredRideList()).getList());
         rideListPanelPlaceholder.getChildren().add(rideListPanel.getRoot());
 
         ResultDisplay resultDisplay = new ResultDisplay();
@@ -233,6 +235,11 @@ public class MainWindow extends UiPart<Stage> {
 
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
+        if (!Platform.isFxApplicationThread()) {
+            // raised by a command running in the background
+            Platform.runLater(() -> handleShowHelpEvent(event));
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         try {
             handleHelp(event);
@@ -243,6 +250,10 @@ public class MainWindow extends UiPart<Stage> {
 
     @Subscribe
     private void handleShowHistoryEvent(ShowHistoryRequestEvent event) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> handleShowHistoryEvent(event));
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         historyWindow.showWithFilePath(event.getReportFilePath());
     }
@@ -12,9 +12,12 @@ import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
 import seedu.thanepark.commons.core.LogsCenter;
+import seedu.thanepark.commons.events.logic.CommandQueueChangedEvent;
 import seedu.thanepark.commons.events.model.ThaneParkChangedEvent;
+import seedu.thanepark.commons.events.storage.DataSavingStatusChangedEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +26,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String COMMAND_QUEUE_STATUS_IDLE = "Ready";
+    public static final String COMMAND_QUEUE_STATUS_BUSY = "Running commands: %d pending";
 
     /**
      * Used to generate time stamps.
@@ -41,12 +46,15 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar syncStatus;
     @FXML
+    private StatusBar commandQueueStatus;
+    @FXML
     private StatusBar saveLocationStatus;
 
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
+        setCommandQueueStatus(0);
         setSaveLocation(Paths.get(".").resolve(saveLocation).toString());
         registerAsAnEventHandler(this);
     }
@@ -73,6 +81,20 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> syncStatus.setText(status));
     }
 
+    /**
+     * Shows a busy indicator and the number of pending commands, or that no commands are pending.
+     */
+    private void setCommandQueueStatus(int pendingCommandCount) {
+        String status = pendingCommandCount == 0
+                ? COMMAND_QUEUE_STATUS_IDLE
+                : String.format(COMMAND_QUEUE_STATUS_BUSY, pendingCommandCount);
+        double progress = pendingCommandCount == 0 ? 0 : ProgressBar.INDETERMINATE_PROGRESS;
+        Platform.runLater(() -> {
+            commandQueueStatus.setText(status);
+            commandQueueStatus.setProgress(progress);
+        });
+    }
+
     @Subscribe
     public void handleThaneParkChangedEvent(ThaneParkChangedEvent tpce) {
         long now = clock.millis();
@@ -80,4 +102,17 @@ public class StatusBarFooter extends UiPart<Region> {
         logger.info(LogsCenter.getEventHandlingLogMessage(tpce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleDataSavingStatusChangedEvent(DataSavingStatusChangedEvent dssce) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(dssce));
+        double progress = dssce.hasPendingSave ? ProgressBar.INDETERMINATE_PROGRESS : 0;
+        Platform.runLater(() -> syncStatus.setProgress(progress));
+    }
+
+    @Subscribe
+    public void handleCommandQueueChangedEvent(CommandQueueChangedEvent cqce) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(cqce));
+        setCommandQueueStatus(cqce.pendingCommandCount);
+    }
 }
@@ -113,6 +113,11 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        if (!Platform.isFxApplicationThread()) {
+            // raised by a background save
+            Platform.runLater(() -> handleDataSavingExceptionEvent(event));
+            return;
+        }
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
                 event.exception);
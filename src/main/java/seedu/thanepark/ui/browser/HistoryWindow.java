@@ -40,11 +40,11 @@ public class HistoryWindow extends BrowserRelatedUiPart<Stage> {
     }
 
     /**
-     * Loads the specified reportFilePath, then shows the history window.
+     * Shows the history window, then loads the specified reportFilePath, the first page of the report, into it.
      */
     public void showWithFilePath(FilePathToUrl reportFilePath) {
-        loadPage(reportFilePath);
         show();
+        loadPage(reportFilePath);
     }
 
     /**
@@ -3,6 +3,7 @@ package guitests.guihandles;
 import javafx.collections.ObservableList;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
+import seedu.thanepark.ui.CommandBox;
 
 /**
  * A handle to the {@code CommandBox} in the GUI.
@@ -30,7 +31,7 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
     }
 
     /**
-     * Enters the given command in the Command Box and presses enter.
+     * Enters the given command in the Command Box, presses enter and waits for the command to finish.
      */
     public void run(String command) {
         click();
@@ -38,6 +39,14 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        guiRobot.waitForEvent(() -> !isBusy());
+    }
+
+    /**
+     * Returns true if a command entered in the command box is still running.
+     */
+    public boolean isBusy() {
+        return getStyleClass().contains(CommandBox.BUSY_STYLE_CLASS);
     }
 
     /**
@@ -13,9 +13,11 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
 
     private static final String SYNC_STATUS_ID = "#syncStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
+    private static final String COMMAND_QUEUE_STATUS_ID = "#commandQueueStatus";
 
     private final StatusBar syncStatusNode;
     private final StatusBar saveLocationNode;
+    private final StatusBar commandQueueStatusNode;
 
     private String lastRememberedSyncStatus;
     private String lastRememberedSaveLocation;
@@ -25,6 +27,7 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
 
         syncStatusNode = getChildNode(SYNC_STATUS_ID);
         saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
+        commandQueueStatusNode = getChildNode(COMMAND_QUEUE_STATUS_ID);
     }
 
     /**
@@ -34,6 +37,20 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return syncStatusNode.getText();
     }
 
+    /**
+     * Returns the text of the command queue portion of the status bar.
+     */
+    public String getCommandQueueStatus() {
+        return commandQueueStatusNode.getText();
+    }
+
+    /**
+     * Returns the progress shown in the command queue portion of the status bar.
+     */
+    public double getCommandQueueProgress() {
+        return commandQueueStatusNode.getProgress();
+    }
+
     /**
      * Returns the text of the 'save location' portion of the status bar.
      */
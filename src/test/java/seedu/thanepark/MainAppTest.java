@@ -0,0 +1,40 @@
+package seedu.thanepark;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalThanePark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.UserPrefs;
+import seedu.thanepark.storage.ThaneParkStorage;
+import seedu.thanepark.storage.XmlThaneParkStorage;
+
+public class MainAppTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void initThaneParkStorage_binaryFormatWithXmlFilePath_xmlFileKeptAndConverted() throws Exception {
+        Path xmlFilePath = testFolder.getRoot().toPath().resolve("thanepark.xml");
+        new XmlThaneParkStorage(xmlFilePath).saveThanePark(getTypicalThanePark());
+        byte[] xmlBytes = Files.readAllBytes(xmlFilePath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setThaneParkFilePath(xmlFilePath);
+        userPrefs.setThaneParkFileFormat(UserPrefs.DataFileFormat.BINARY);
+
+        ThaneParkStorage storage = new MainApp().initThaneParkStorage(userPrefs);
+        assertEquals(xmlFilePath.resolveSibling("thanepark.bin"), storage.getThaneParkFilePath());
+        assertEquals(getTypicalThanePark(), new ThanePark(storage.readThanePark().get()));
+
+        storage.saveThanePark(new ThanePark());
+        assertArrayEquals(xmlBytes, Files.readAllBytes(xmlFilePath));
+    }
+}
@@ -65,6 +65,8 @@ public class TestApp extends MainApp {
         double y = Screen.getPrimary().getVisualBounds().getMinY();
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setThaneParkFilePath(saveFileLocation);
+        // save changes as they happen, so that tests can read them back from the file right away
+        userPrefs.setSaveQuietPeriodMillis(0);
         return userPrefs;
     }
 
@@ -0,0 +1,56 @@
+package seedu.thanepark.benchmark;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Times pieces of code for the benchmarks in this package, which are run with
+ * {@code gradlew benchmark -Pbenchmark=<benchmark class name>}.
+ * The code is first run several times so that the JIT compiler has optimised it, then timed over several more runs,
+ * and the best and median times of a run are reported.
+ */
+public final class Benchmark {
+    private static final int WARM_UP_RUNS = 10;
+    private static final int TIMED_RUNS = 20;
+
+    /** The results of the timed code are added up here so that the JIT compiler cannot remove the code. */
+    private static long sink;
+
+    private Benchmark() {}
+
+    /**
+     * Times {@code code}, prints its best and median times under {@code name}, and returns its median time in
+     * nanoseconds.
+     */
+    public static long run(String name, LongSupplier code) {
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            sink += code.getAsLong();
+        }
+        long[] times = new long[TIMED_RUNS];
+        for (int i = 0; i < TIMED_RUNS; i++) {
+            long start = System.nanoTime();
+            sink += code.getAsLong();
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        long median = times[TIMED_RUNS / 2];
+        System.out.println(String.format("%-50s best %10.3f ms, median %10.3f ms", name, times[0] / 1e6,
+                median / 1e6));
+        return median;
+    }
+
+    /**
+     * Prints how many times faster the code with median time {@code fasterNanos} is than the code with median time
+     * {@code slowerNanos}.
+     */
+    public static void printSpeedUp(String name, long slowerNanos, long fasterNanos) {
+        System.out.println(String.format("%-50s %.1fx faster", name, (double) slowerNanos / fasterNanos));
+    }
+
+    /**
+     * Returns a value depending on all the results of the timed code, to be printed at the end of a benchmark.
+     */
+    public static long getSink() {
+        return sink;
+    }
+}
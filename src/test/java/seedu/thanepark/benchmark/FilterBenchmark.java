@@ -0,0 +1,108 @@
+package seedu.thanepark.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.ride.AttributePredicate;
+import seedu.thanepark.model.ride.Maintenance;
+import seedu.thanepark.model.ride.NumericAttribute;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.RideContainsConditionPredicate;
+import seedu.thanepark.model.ride.WaitTime;
+import seedu.thanepark.testutil.RideBuilder;
+
+/**
+ * Compares filtering 100,000 rides by waiting time and days since maintenance with the compiled
+ * {@code RideContainsConditionPredicate} against the way the filter was evaluated before it was compiled, which
+ * streamed over the attribute predicates of every ride, switched on the operator string and looked up each attribute
+ * through {@code Ride#getAttribute}.
+ */
+public class FilterBenchmark {
+    private static final int RIDE_COUNT = 100_000;
+
+    /**
+     * Runs the benchmark and prints the times taken.
+     */
+    public static void main(String[] args) {
+        List<Ride> rides = createRides();
+        ThanePark thanePark = new ThanePark();
+        thanePark.setRides(rides);
+
+        // filter w/<30 m/>100
+        List<String> operators = Arrays.asList("<", ">");
+        List<NumericAttribute> thresholds = Arrays.asList(new WaitTime("30"), new Maintenance("100"));
+        RideContainsConditionPredicate compiled = new RideContainsConditionPredicate(Arrays.asList(
+                new AttributePredicate(operators.get(0), thresholds.get(0)),
+                new AttributePredicate(operators.get(1), thresholds.get(1))));
+        Predicate<Ride> interpreted = new InterpretedConditionPredicate(operators, thresholds);
+
+        long interpretedTime = Benchmark.run("Interpreted filter, testing every ride", () ->
+                rides.stream().filter(interpreted).count());
+        long compiledTime = Benchmark.run("Compiled filter, testing every ride", () ->
+                rides.stream().filter(compiled).count());
+        long selectTime = Benchmark.run("Compiled filter, selecting from the ride index", () ->
+                compiled.select(thanePark.getRideIndex()).size());
+        Benchmark.printSpeedUp("Compiled over interpreted", interpretedTime, compiledTime);
+        Benchmark.printSpeedUp("Index selection over interpreted", interpretedTime, selectTime);
+        System.out.println("(" + Benchmark.getSink() + ")");
+    }
+
+    /**
+     * Returns rides with random waiting times and days since maintenance.
+     */
+    private static List<Ride> createRides() {
+        Random random = new Random(2103);
+        List<Ride> rides = new ArrayList<>();
+        for (int i = 0; i < RIDE_COUNT; i++) {
+            rides.add(new RideBuilder().withName("Ride " + i)
+                    .withWaitTime(String.valueOf(random.nextInt(120)))
+                    .withMaintenance(String.valueOf(random.nextInt(365))).build());
+        }
+        return rides;
+    }
+
+    /**
+     * Evaluates a filter the way that {@code RideContainsConditionPredicate} did before it was compiled.
+     */
+    private static class InterpretedConditionPredicate implements Predicate<Ride> {
+        private final List<String> operators;
+        private final List<NumericAttribute> thresholds;
+
+        InterpretedConditionPredicate(List<String> operators, List<NumericAttribute> thresholds) {
+            this.operators = operators;
+            this.thresholds = thresholds;
+        }
+
+        @Override
+        public boolean test(Ride ride) {
+            return IntStream.range(0, operators.size()).allMatch(i ->
+                    compare(operators.get(i), ride.getAttribute(thresholds.get(i)), thresholds.get(i)));
+        }
+
+        /**
+         * Returns the result of comparing {@code value} with {@code threshold} using {@code operator}.
+         */
+        private static boolean compare(String operator, NumericAttribute value, NumericAttribute threshold) {
+            switch (operator) {
+            case "<":
+                return value.getValue() < threshold.getValue();
+            case ">":
+                return value.getValue() > threshold.getValue();
+            case "<=":
+                return value.getValue() <= threshold.getValue();
+            case ">=":
+                return value.getValue() >= threshold.getValue();
+            case "==":
+            case "=":
+                return value.getValue() == threshold.getValue();
+            default:
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.thanepark.benchmark;
+
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_MAINTENANCE;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_WAITING_TIME;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_ZONE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.thanepark.logic.parser.ArgumentTokenizer;
+import seedu.thanepark.logic.parser.Prefix;
+import seedu.thanepark.logic.parser.PrefixAutomaton;
+
+/**
+ * Compares tokenizing the arguments of an add command with the single-pass {@code ArgumentTokenizer}, with and
+ * without a precompiled {@code PrefixAutomaton}, against the way the arguments were tokenized before, which searched
+ * the arguments once for every prefix, sorted the positions found, and copied the values of a prefix on every put.
+ */
+public class ParserBenchmark {
+    private static final int TOKENIZE_COUNT = 10_000;
+    private static final String ARGS =
+            " n/Accelerator m/9 w/1 z/123, Jurong West Ave 6, #08-111 t/rollerCoaster t/popular";
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_MAINTENANCE, PREFIX_WAITING_TIME, PREFIX_ZONE,
+        PREFIX_TAG};
+
+    /**
+     * Runs the benchmark and prints the times taken.
+     */
+    public static void main(String[] args) {
+        PrefixAutomaton automaton = new PrefixAutomaton(PREFIXES);
+
+        long legacyTime = Benchmark.run("Searching once for every prefix, " + TOKENIZE_COUNT + " times", () -> {
+            long total = 0;
+            for (int i = 0; i < TOKENIZE_COUNT; i++) {
+                total += LegacyArgumentTokenizer.tokenize(ARGS, PREFIXES).size();
+            }
+            return total;
+        });
+        long singlePassTime = Benchmark.run("Single pass, compiling the prefixes every time", () -> {
+            long total = 0;
+            for (int i = 0; i < TOKENIZE_COUNT; i++) {
+                total += ArgumentTokenizer.tokenize(ARGS, PREFIXES).getAllValues(PREFIX_TAG).size();
+            }
+            return total;
+        });
+        long precompiledTime = Benchmark.run("Single pass, with precompiled prefixes", () -> {
+            long total = 0;
+            for (int i = 0; i < TOKENIZE_COUNT; i++) {
+                total += ArgumentTokenizer.tokenize(ARGS, automaton).getAllValues(PREFIX_TAG).size();
+            }
+            return total;
+        });
+        Benchmark.printSpeedUp("Single pass over searching for every prefix", legacyTime, singlePassTime);
+        Benchmark.printSpeedUp("Precompiled over searching for every prefix", legacyTime, precompiledTime);
+        System.out.println("(" + Benchmark.getSink() + ")");
+    }
+
+    /**
+     * Tokenizes arguments the way that {@code ArgumentTokenizer} did before it made a single pass.
+     */
+    private static class LegacyArgumentTokenizer {
+
+        /**
+         * Returns the values of each prefix in {@code argsString}, with the preamble under the empty prefix.
+         */
+        static Map<Prefix, List<String>> tokenize(String argsString, Prefix... prefixes) {
+            List<PrefixPosition> positions = Arrays.stream(prefixes)
+                    .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
+                    .collect(Collectors.toList());
+            positions.sort((prefix1, prefix2) -> prefix1.startPosition - prefix2.startPosition);
+            positions.add(0, new PrefixPosition(new Prefix(""), 0));
+            positions.add(new PrefixPosition(new Prefix(""), argsString.length()));
+
+            Map<Prefix, List<String>> argMultimap = new HashMap<>();
+            for (int i = 0; i < positions.size() - 1; i++) {
+                PrefixPosition current = positions.get(i);
+                int valueStartPos = current.startPosition + current.prefix.getPrefix().length();
+                String value = argsString.substring(valueStartPos, positions.get(i + 1).startPosition).trim();
+                List<String> values = new ArrayList<>(argMultimap.getOrDefault(current.prefix, new ArrayList<>()));
+                values.add(value);
+                argMultimap.put(current.prefix, values);
+            }
+            return argMultimap;
+        }
+
+        /**
+         * Returns the positions of {@code prefix} in {@code argsString} that follow a space.
+         */
+        private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+            List<PrefixPosition> positions = new ArrayList<>();
+            int prefixPosition = argsString.indexOf(" " + prefix.getPrefix());
+            while (prefixPosition != -1) {
+                positions.add(new PrefixPosition(prefix, prefixPosition + 1));
+                prefixPosition = argsString.indexOf(" " + prefix.getPrefix(), prefixPosition + 1);
+            }
+            return positions;
+        }
+    }
+
+    /**
+     * A prefix's position in an arguments string.
+     */
+    private static class PrefixPosition {
+        private final Prefix prefix;
+        private final int startPosition;
+
+        PrefixPosition(Prefix prefix, int startPosition) {
+            this.prefix = prefix;
+            this.startPosition = startPosition;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.thanepark.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import seedu.thanepark.commons.util.StringUtil;
+import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.RideContainsKeywordsPredicate;
+import seedu.thanepark.model.ride.RideIndex;
+import seedu.thanepark.model.ride.Zone;
+import seedu.thanepark.testutil.RideBuilder;
+
+/**
+ * Compares searching 100,000 rides for parts of zone names through the n-gram index of {@code RideIndex} against
+ * checking the zone of every ride with {@code StringUtil#containsStringIgnoreCase}, the way that
+ * {@code RideContainsKeywordsPredicate} searched zones before they were indexed.
+ */
+public class ZoneSearchBenchmark {
+    private static final int RIDE_COUNT = 100_000;
+    private static final List<String> LANDS = Arrays.asList("Adventureland", "Fantasyland", "Tomorrowland",
+            "Frontierland", "Discoveryland", "Critter Country", "Main Street U.S.A.", "Mystic Point", "Grizzly Gulch",
+            "Toy Story Land", "Galaxy's Edge", "Mediterranean Harbor", "Mermaid Lagoon", "Arabian Coast",
+            "Lost River Delta", "Port Discovery", "Hollywood Boulevard", "Sunset Boulevard", "Pixar Pier",
+            "Paradise Gardens Park", "Avengers Campus", "Cars Land", "Pandora", "Dinoland U.S.A.", "Asia", "Africa");
+    private static final List<String> AREAS = Arrays.asList("", " North", " South", " East", " West", " Plaza",
+            " Pier", " Village", " Square", " Promenade");
+
+    /**
+     * Runs the benchmark and prints the times taken.
+     */
+    public static void main(String[] args) {
+        List<Ride> rides = createRides();
+        ThanePark thanePark = new ThanePark();
+        thanePark.setRides(rides);
+        RideIndex rideIndex = thanePark.getRideIndex();
+        System.out.println(rides.size() + " rides in " + rideIndex.getZones().size() + " zones");
+
+        // a part of a single zone, and parts found in many zones
+        for (String query : Arrays.asList("gulch", "land wes", "boulevard")) {
+            List<String> parts = Arrays.asList(query.split(" "));
+            RideContainsKeywordsPredicate predicate = new RideContainsKeywordsPredicate(Collections.emptyList(),
+                    Optional.of(new Zone(query)));
+
+            long scanTime = Benchmark.run("'" + query + "': checking the zone of every ride", () ->
+                    rides.stream().filter(ride -> StringUtil.containsStringIgnoreCase(ride.getZone().value, query))
+                            .count());
+            long lookupTime = Benchmark.run("'" + query + "': looking up matching zones", () ->
+                    rideIndex.getZonesWithWordsContaining(parts).size());
+            long selectTime = Benchmark.run("'" + query + "': selecting rides from the index", () ->
+                    predicate.select(rideIndex).size());
+            System.out.println(predicate.select(rideIndex).size() + " rides found");
+            Benchmark.printSpeedUp("Zone lookup over checking every ride", scanTime, lookupTime);
+            Benchmark.printSpeedUp("Ride selection over checking every ride", scanTime, selectTime);
+        }
+
+        System.out.println("(" + Benchmark.getSink() + ")");
+    }
+
+    /**
+     * Returns rides spread at random over the areas of the lands.
+     */
+    private static List<Ride> createRides() {
+        Random random = new Random(2103);
+        List<Ride> rides = new ArrayList<>();
+        for (int i = 0; i < RIDE_COUNT; i++) {
+            String zone = LANDS.get(random.nextInt(LANDS.size())) + AREAS.get(random.nextInt(AREAS.size()));
+            rides.add(new RideBuilder().withName("Ride " + i).withAddress(zone).build());
+        }
+        return rides;
+    }
+}
@@ -1,23 +1,28 @@
 package seedu.thanepark.commons.core;
 
-import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.LinkedList;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import javax.xml.bind.JAXBException;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import seedu.thanepark.commons.exceptions.IllegalValueException;
 import seedu.thanepark.model.logging.CommandEntry;
-import seedu.thanepark.storage.XmlAdaptedCommandEntry;
+import seedu.thanepark.model.logging.ExecutedCommand;
 import seedu.thanepark.testutil.CommandEntryBuilder;
 
 /**
@@ -28,103 +33,235 @@ public class CommandsLogCenterTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
-    private File file;
-    private String logfilePathString;
+    private String logFolderPathString;
 
     @Before
     public void setup() throws IOException {
         assert(CommandEntryBuilder.COMMAND_ENTRIES.length > 0);
 
+        CommandsLogCenter.delete();
+        CommandsLogCenter.init();
+        logFolderPathString = CommandsLogCenter.getFilePathString(CommandsLogCenter.LOG_FOLDER);
+    }
+
+    @After
+    public void tearDown() {
+        CommandsLogCenter.resetRotationPolicy();
+        CommandsLogCenter.delete();
         CommandsLogCenter.init();
-        logfilePathString = CommandsLogCenter.getFilePathString(CommandsLogCenter.LOG_FILE);
-        file = new File(logfilePathString);
-        assert(file.setWritable(true));
-        assert(file.setReadable(true));
     }
 
     @Test
-    public void logAndRetrieveSuccessTest() throws IOException, JAXBException, IllegalValueException {
-        List<CommandEntry> expectedCommandEntries = new LinkedList<>();
-        List<XmlAdaptedCommandEntry> expectedXmlAdaptedCommandEntryList = new LinkedList<>();
+    public void logAndRetrieveSuccessTest() throws IOException {
         for (CommandEntry commandEntry : CommandEntryBuilder.COMMAND_ENTRIES) {
             CommandsLogCenter.log(commandEntry);
-            expectedCommandEntries.add(commandEntry);
-            expectedXmlAdaptedCommandEntryList.add(new XmlAdaptedCommandEntry(commandEntry));
         }
-        List<CommandEntry> actualCommandEntries = new LinkedList<>();
-        List<XmlAdaptedCommandEntry> xmlAdaptedCommandEntryList = CommandsLogCenter.retrieve().getValue();
-        for (XmlAdaptedCommandEntry xmlAdaptedCommandEntry : xmlAdaptedCommandEntryList) {
-            actualCommandEntries.add(xmlAdaptedCommandEntry.toModelType());
+        assertEquals(Arrays.asList(CommandEntryBuilder.COMMAND_ENTRIES), CommandsLogCenter.retrieve());
+    }
+
+    @Test
+    public void logAndRetrieve_afterReopening_success() throws IOException {
+        CommandsLogCenter.log(CommandEntryBuilder.COMMAND_ENTRIES[0]);
+        CommandsLogCenter.close();
+        CommandsLogCenter.init();
+        CommandsLogCenter.log(CommandEntryBuilder.COMMAND_ENTRIES[1]);
+        assertEquals(Arrays.asList(CommandEntryBuilder.COMMAND_ENTRIES[0], CommandEntryBuilder.COMMAND_ENTRIES[1]),
+                CommandsLogCenter.retrieve());
+        assertEquals(1, CommandsLogCenter.getSegmentFilePaths().size());
+    }
+
+    @Test
+    public void log_segmentFull_rotatesAndKeepsLogging() throws IOException {
+        CommandsLogCenter.setRotationPolicy(100, Duration.ofDays(1), 3);
+        List<CommandEntry> loggedEntries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            CommandEntry commandEntry = new CommandEntry(Instant.now(), new ExecutedCommand("delete " + i));
+            CommandsLogCenter.log(commandEntry);
+            CommandsLogCenter.flush();
+            loggedEntries.add(commandEntry);
         }
-        assertEquals(expectedXmlAdaptedCommandEntryList, xmlAdaptedCommandEntryList);
-        assertEquals(expectedCommandEntries, actualCommandEntries);
+
+        List<CommandEntry> retrievedEntries = CommandsLogCenter.retrieve();
+        assertEquals(3, CommandsLogCenter.getSegmentFilePaths().size());
+        assertFalse(retrievedEntries.isEmpty());
+        assertEquals(loggedEntries.subList(loggedEntries.size() - retrievedEntries.size(), loggedEntries.size()),
+                retrievedEntries);
     }
 
     @Test
-    public void logUnableAccessFileTest() throws IOException, JAXBException {
-        thrown.expect(IOException.class);
-        file.setWritable(false);
+    public void log_segmentTooOld_rotates() throws IOException {
+        CommandsLogCenter.setRotationPolicy(Long.MAX_VALUE, Duration.ZERO, 10);
+        for (CommandEntry commandEntry : CommandEntryBuilder.COMMAND_ENTRIES) {
+            CommandsLogCenter.log(commandEntry);
+            CommandsLogCenter.flush();
+        }
+        assertEquals(CommandEntryBuilder.COMMAND_ENTRIES.length, CommandsLogCenter.getSegmentFilePaths().size());
+        assertEquals(Arrays.asList(CommandEntryBuilder.COMMAND_ENTRIES), CommandsLogCenter.retrieve());
+    }
+
+    @Test
+    public void retrieve_corruptedEndOfLog_entriesBeforeKept() throws IOException {
+        for (CommandEntry commandEntry : CommandEntryBuilder.COMMAND_ENTRIES) {
+            CommandsLogCenter.log(commandEntry);
+        }
+        CommandsLogCenter.flush();
+        Path segment = CommandsLogCenter.getSegmentFilePaths().get(0);
+        Files.write(segment, new byte[] {0, 0, 0, 20, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        assertEquals(Arrays.asList(CommandEntryBuilder.COMMAND_ENTRIES), CommandsLogCenter.retrieve());
+
+        // later entries are appended after the last good record
+        CommandsLogCenter.close();
         CommandsLogCenter.init();
-        try {
-            CommandsLogCenter.log(CommandEntryBuilder.COMMAND_ENTRIES[0]);
-        } catch (IOException ie) {
-            assertEquals(String.format(CommandsLogCenter.MESSAGE_LOG_INACCESSIBLE, logfilePathString), ie.getMessage());
-            throw ie;
-        } finally {
-            assert(file.setWritable(true));
-            assert(file.delete());
+        CommandEntry commandEntry = new CommandEntry(Instant.now(), new ExecutedCommand("list"));
+        CommandsLogCenter.log(commandEntry);
+        List<CommandEntry> expectedEntries = new ArrayList<>(Arrays.asList(CommandEntryBuilder.COMMAND_ENTRIES));
+        expectedEntries.add(commandEntry);
+        assertEquals(expectedEntries, CommandsLogCenter.retrieve());
+    }
+
+    @Test
+    public void retrieveNewestFirst_timeWindowAcrossSegments_returnsEntriesInWindowNewestFirst() throws IOException {
+        CommandsLogCenter.setRotationPolicy(2000, Duration.ofDays(1), 100);
+        List<CommandEntry> loggedEntries = logEntriesOneSecondApart(500);
+        assertTrue(CommandsLogCenter.getSegmentFilePaths().size() > 3);
+
+        Instant from = loggedEntries.get(123).getTimeOfEntry();
+        Instant to = loggedEntries.get(345).getTimeOfEntry();
+        assertEquals(newestFirst(loggedEntries.subList(123, 345)), retrieveNewestFirst(from, to));
+
+        // window before, after and around the whole log
+        Instant start = loggedEntries.get(0).getTimeOfEntry();
+        assertEquals(new ArrayList<>(), retrieveNewestFirst(Instant.EPOCH, start));
+        assertEquals(new ArrayList<>(), retrieveNewestFirst(Instant.now().plusSeconds(1000), Instant.MAX));
+        assertEquals(newestFirst(loggedEntries), retrieveNewestFirst(Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    public void retrieveNewestFirst_manyIndexPointsInSegment_returnsEntriesNewestFirst() throws IOException {
+        List<CommandEntry> loggedEntries = logEntriesOneSecondApart(1000);
+        assertEquals(1, CommandsLogCenter.getSegmentFilePaths().size());
+
+        Instant from = loggedEntries.get(100).getTimeOfEntry();
+        Instant to = loggedEntries.get(900).getTimeOfEntry();
+        assertEquals(newestFirst(loggedEntries.subList(100, 900)), retrieveNewestFirst(from, to));
+        assertEquals(newestFirst(loggedEntries), retrieveNewestFirst(Instant.MIN, Instant.MAX));
+    }
+
+    @Test
+    public void retrieveNewestFirst_entriesLoggedAfterRetrieving_notIncluded() throws IOException {
+        List<CommandEntry> loggedEntries = logEntriesOneSecondApart(10);
+        Iterable<CommandEntry> retrievedEntries = CommandsLogCenter.retrieveNewestFirst(Instant.MIN, Instant.MAX);
+        CommandsLogCenter.log(new CommandEntry(Instant.now(), new ExecutedCommand("list")));
+        CommandsLogCenter.flush();
+
+        List<CommandEntry> actualEntries = new ArrayList<>();
+        retrievedEntries.forEach(actualEntries::add);
+        assertEquals(newestFirst(loggedEntries), actualEntries);
+    }
+
+    @Test
+    public void retrieveNewestFirst_indexFilesMissing_indexRebuilt() throws IOException {
+        CommandsLogCenter.setRotationPolicy(2000, Duration.ofDays(1), 100);
+        List<CommandEntry> loggedEntries = logEntriesOneSecondApart(200);
+        for (Path segment : CommandsLogCenter.getSegmentFilePaths()) {
+            Files.delete(CommandsLogCenter.getIndexFilePath(segment));
         }
+
+        Instant from = loggedEntries.get(50).getTimeOfEntry();
+        Instant to = loggedEntries.get(150).getTimeOfEntry();
+        assertEquals(newestFirst(loggedEntries.subList(50, 150)), retrieveNewestFirst(from, to));
+
+        // the current segment keeps its index after reopening
+        CommandsLogCenter.close();
+        CommandsLogCenter.init();
+        assertEquals(newestFirst(loggedEntries), retrieveNewestFirst(Instant.MIN, Instant.MAX));
+    }
+
+    /**
+     * Returns the entries of the command log from {@code from} to {@code to}, from the most recent, as a list.
+     */
+    private static List<CommandEntry> retrieveNewestFirst(Instant from, Instant to) throws IOException {
+        List<CommandEntry> entries = new ArrayList<>();
+        CommandsLogCenter.retrieveNewestFirst(from, to).forEach(entries::add);
+        return entries;
+    }
+
+    private static List<CommandEntry> newestFirst(List<CommandEntry> entries) {
+        List<CommandEntry> reversed = new ArrayList<>(entries);
+        Collections.reverse(reversed);
+        return reversed;
     }
 
     @Test
-    public void logUnableToWriteToFileTest() throws IOException, JAXBException {
-        thrown.expect(IOException.class);
-        file.setWritable(false);
-        try {
-            CommandsLogCenter.log(CommandEntryBuilder.COMMAND_ENTRIES[0]);
-        } catch (IOException ie) {
-            assertTrue(ie.getMessage().contains("denied"));
-            throw ie;
-        } finally {
-            assert(file.setWritable(true));
-            assert(file.delete());
+    public void init_legacyXmlLog_entriesMoved() throws IOException {
+        CommandEntry commandEntry = CommandEntryBuilder.COMMAND_ENTRIES[1];
+        Path legacyLog = CommandsLogCenter.getFilePath(CommandsLogCenter.LEGACY_LOG_FILE);
+        String legacyLogData = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<xmlListOfCommandEntry>\n"
+                + "<xmlAdaptedCommandEntry>\n"
+                + "    <timeOfEntryString>" + commandEntry.getTimeOfEntry() + "</timeOfEntryString>\n"
+                + "    <executedCommandString>" + commandEntry.getExecutedCommand() + "</executedCommandString>\n"
+                + "</xmlAdaptedCommandEntry>\n";
+        Files.write(legacyLog, legacyLogData.getBytes(CommandsLogCenter.STANDARDIZED_ENCODING));
+
+        CommandsLogCenter.delete();
+        CommandsLogCenter.init();
+        assertEquals(Arrays.asList(commandEntry), CommandsLogCenter.retrieve());
+        assertFalse(Files.exists(legacyLog));
+    }
+
+    /**
+     * Logs {@code count} entries timed one second apart, ending now, and returns them.
+     */
+    private List<CommandEntry> logEntriesOneSecondApart(int count) throws IOException {
+        List<CommandEntry> loggedEntries = new ArrayList<>();
+        Instant start = Instant.now().minusSeconds(count);
+        for (int i = 0; i < count; i++) {
+            CommandEntry commandEntry = new CommandEntry(start.plusSeconds(i), new ExecutedCommand("delete " + i));
+            CommandsLogCenter.log(commandEntry);
+            if (i % 7 == 0) {
+                CommandsLogCenter.flush();
+            }
+            loggedEntries.add(commandEntry);
         }
+        return loggedEntries;
     }
 
     @Test
-    public void retrieveUnableAccessFileTest() throws IOException, JAXBException {
+    public void logUnableAccessFileTest() throws IOException {
         thrown.expect(IOException.class);
-
-        file.setWritable(false);
+        Path logFolder = CommandsLogCenter.getFilePath(CommandsLogCenter.LOG_FOLDER);
+        CommandsLogCenter.delete();
+        Files.delete(logFolder);
+        Files.createFile(logFolder);
+        CommandsLogCenter.init();
         try {
-            CommandsLogCenter.init();
-            CommandsLogCenter.retrieve();
+            CommandsLogCenter.log(CommandEntryBuilder.COMMAND_ENTRIES[0]);
         } catch (IOException ie) {
-            assertEquals(String.format(CommandsLogCenter.MESSAGE_LOG_INACCESSIBLE, logfilePathString), ie.getMessage());
+            assertEquals(String.format(CommandsLogCenter.MESSAGE_LOG_INACCESSIBLE, logFolderPathString),
+                    ie.getMessage());
             throw ie;
         } finally {
-            assert(file.setWritable(true));
-            assert(file.delete());
+            assertTrue(Files.deleteIfExists(logFolder));
         }
     }
 
     @Test
-    public void retrieveJaxbExceptionTest() throws IOException, JAXBException {
-        thrown.expect(JAXBException.class);
-        //add a CommandEntry first
+    public void retrieveUnableAccessFileTest() throws IOException {
+        thrown.expect(IOException.class);
+        Path logFolder = CommandsLogCenter.getFilePath(CommandsLogCenter.LOG_FOLDER);
+        CommandsLogCenter.delete();
+        Files.delete(logFolder);
+        Files.createFile(logFolder);
         CommandsLogCenter.init();
-        CommandsLogCenter.log(CommandEntryBuilder.COMMAND_ENTRIES[0]);
-
-        //Corrupt the xml file
-        FileWriter fileWriter = new FileWriter(file, true);
-        fileWriter.append("<asdnjkdg>");
-        fileWriter.close();
-
         try {
             CommandsLogCenter.retrieve();
+        } catch (IOException ie) {
+            assertEquals(String.format(CommandsLogCenter.MESSAGE_LOG_INACCESSIBLE, logFolderPathString),
+                    ie.getMessage());
+            throw ie;
         } finally {
-            assert(file.setWritable(true));
-            assert(file.delete());
+            assertTrue(Files.deleteIfExists(logFolder));
         }
     }
 }
@@ -0,0 +1,47 @@
+package seedu.thanepark.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ParkClockTest {
+
+    private final Clock originalClock = ParkClock.getClock();
+
+    @After
+    public void tearDown() {
+        ParkClock.setClock(originalClock);
+    }
+
+    @Test
+    public void setClock_fixedClock_todayReadAtOnce() {
+        ParkClock.setClock(Clock.fixed(Instant.parse("2018-10-01T23:59:59Z"), ZoneOffset.UTC));
+        assertEquals(LocalDate.of(2018, 10, 1).toEpochDay(), ParkClock.today());
+
+        ParkClock.setClock(Clock.fixed(Instant.parse("2018-10-01T23:59:59Z"), ZoneOffset.ofHours(8)));
+        assertEquals(LocalDate.of(2018, 10, 2).toEpochDay(), ParkClock.today());
+    }
+
+    @Test
+    public void today_midnightPasses_nextDay() throws Exception {
+        // a clock that reaches midnight in a fifth of a second
+        Instant now = Instant.now();
+        Instant nextMidnight = LocalDate.now(ZoneOffset.UTC).plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        Clock clock = Clock.offset(Clock.systemUTC(), Duration.between(now, nextMidnight).minusMillis(200));
+        ParkClock.setClock(clock);
+        long today = ParkClock.today();
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (ParkClock.today() == today && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(today + 1, ParkClock.today());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.thanepark.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -137,6 +138,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullString_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.getEditDistance(null, "abc");
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(0, StringUtil.getEditDistance("castle", "castle"));
+        assertEquals(3, StringUtil.getEditDistance("", "abc")); // only insertions
+        assertEquals(1, StringUtil.getEditDistance("castle", "cattle")); // one replacement
+        assertEquals(2, StringUtil.getEditDistance("castle", "castel")); // swapped letters take two edits
+        assertEquals(1, StringUtil.getEditDistance("acelerator", "accelerator")); // one deletion
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(1, StringUtil.getEditDistance("Castle", "castle")); // case matters
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -6,10 +6,10 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.thanepark.testutil.CommandEntryBuilder.COMMAND_STRINGS;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
@@ -23,19 +23,13 @@ import seedu.thanepark.model.logging.ExecutedCommand;
 
 public class CommandHistoryTest {
     private CommandHistory history;
-    private File file;
-    private String logfilePathString;
 
     @Before
     public void setUp() throws IOException {
         assert(COMMAND_STRINGS.length > 0);
         history = new CommandHistory();
 
-        logfilePathString = CommandsLogCenter.getFilePathString(CommandsLogCenter.LOG_FILE);
-        file = new File(logfilePathString);
-        assert(file.setWritable(true));
-        assert(file.setReadable(true));
-        assert(file.delete());
+        CommandsLogCenter.delete();
         CommandsLogCenter.init();
     }
 
@@ -99,10 +93,17 @@ public class CommandHistoryTest {
     }
 
     @Test
-    public void commandHistoryContinues_withIoExceptionTest() {
-        file.setWritable(false);
+    public void commandHistoryContinues_withIoExceptionTest() throws IOException {
+        Path logFolder = CommandsLogCenter.getFilePath(CommandsLogCenter.LOG_FOLDER);
+        CommandsLogCenter.delete();
+        Files.delete(logFolder);
+        Files.createFile(logFolder);
+        CommandsLogCenter.init();
         history.add("delete 1");
-        file.setWritable(true);
+        assertEquals(Arrays.asList("delete 1"), history.getHistory());
+
+        Files.delete(logFolder);
+        CommandsLogCenter.init();
     }
 
     @Test
@@ -132,48 +133,23 @@ public class CommandHistoryTest {
     }
 
     @Test
-    public void commandHistoryGetCommandEntry_ioExceptionTest() throws IOException {
-        //populate the xml file
+    public void commandHistoryGetCommandEntry_corruptedLogTest() throws IOException {
+        List<ExecutedCommand> expectedExecutedCommandList = new LinkedList<>();
         for (String commandString : COMMAND_STRINGS) {
             history.add(commandString);
+            expectedExecutedCommandList.add(new ExecutedCommand(commandString));
         }
+        CommandsLogCenter.flush();
 
-        //create file problem
-        file.setWritable(false);
-        CommandsLogCenter.init();
-        file.setWritable(true);
-
-        //trigger the delete and file recreation
-        List<CommandEntry> actualCommandEntryList = history.getCommandEntryList();
-        assertEquals(0, actualCommandEntryList.size());
-
-        //Compare file content
-        byte[] encoded = Files.readAllBytes(CommandsLogCenter.getFilePath(CommandsLogCenter.LOG_FILE));
-        String fileData = new String(encoded, CommandsLogCenter.STANDARDIZED_ENCODING);
-        assertEquals(CommandsLogCenter.STANDARDIZED_XML_HEADER + "\n" + CommandsLogCenter.LIST_HEADER,
-                fileData);
-    }
+        //Corrupt the end of the log
+        Path segment = CommandsLogCenter.getSegmentFilePaths().get(0);
+        Files.write(segment, new byte[] {0, 0, 0, 20, 1, 2, 3}, StandardOpenOption.APPEND);
 
-    @Test
-    public void commandHistoryGetCommandEntry_jaxbExceptionTest() throws IOException {
-        //populate the xml file
-        for (String commandString : COMMAND_STRINGS) {
-            history.add(commandString);
+        //entries before the corruption are kept
+        List<ExecutedCommand> actualExecutedCommandList = new LinkedList<>();
+        for (CommandEntry commandEntry : history.getCommandEntryList()) {
+            actualExecutedCommandList.add(commandEntry.getExecutedCommand());
         }
-
-        //Corrupt the xml file
-        FileWriter fileWriter = new FileWriter(file, true);
-        fileWriter.append("<asdnjkdg>");
-        fileWriter.close();
-
-        //trigger the delete and file recreation
-        List<CommandEntry> actualCommandEntryList = history.getCommandEntryList();
-        assertEquals(0, actualCommandEntryList.size());
-
-        //Compare file content
-        byte[] encoded = Files.readAllBytes(CommandsLogCenter.getFilePath(CommandsLogCenter.LOG_FILE));
-        String fileData = new String(encoded, CommandsLogCenter.STANDARDIZED_ENCODING);
-        assertEquals(CommandsLogCenter.STANDARDIZED_XML_HEADER + "\n" + CommandsLogCenter.LIST_HEADER,
-                fileData);
+        assertEquals(expectedExecutedCommandList, actualExecutedCommandList);
     }
 }
@@ -1,18 +1,36 @@
 package seedu.thanepark.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static seedu.thanepark.commons.core.Messages.MESSAGE_INVALID_RIDE_DISPLAYED_INDEX;
 import static seedu.thanepark.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.thanepark.logic.commands.ViewAllCommand.MESSAGE_SUCCESS;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalThanePark;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.thanepark.commons.events.BaseEvent;
+import seedu.thanepark.commons.events.logic.CommandQueueChangedEvent;
+import seedu.thanepark.commons.events.model.ThaneParkChangedEvent;
 
 import seedu.thanepark.logic.commands.CommandResult;
 import seedu.thanepark.logic.commands.HistoryCommand;
+import seedu.thanepark.logic.commands.RedoCommand;
+import seedu.thanepark.logic.commands.UndoCommand;
 import seedu.thanepark.logic.commands.ViewAllCommand;
 import seedu.thanepark.logic.commands.exceptions.CommandException;
 import seedu.thanepark.logic.parser.exceptions.ParseException;
@@ -21,12 +39,19 @@ import seedu.thanepark.model.ModelManager;
 import seedu.thanepark.model.UserPrefs;
 import seedu.thanepark.model.ride.Ride;
 import seedu.thanepark.model.ride.Status;
+import seedu.thanepark.ui.testutil.EventsCollectorRule;
 
 
 public class LogicManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private Model model = new ModelManager();
     private Logic logic = new LogicManager(model);
 
@@ -64,12 +89,115 @@ public class LogicManagerTest {
         assertHistoryCorrect(viewAllCommand);
     }
 
+    @Test
+    public void submit_severalCommands_runInOrderInBackground() throws Exception {
+        Model queueModel = new ModelManager(getTypicalThanePark(), new UserPrefs());
+        Logic queueLogic = new LogicManager(queueModel);
+        eventsCollectorRule.eventsCollector.reset();
+
+        CompletableFuture<CommandResult> firstDelete = queueLogic.submit("delete 1");
+        CompletableFuture<CommandResult> invalidCommand = queueLogic.submit("uicfhmowqewca");
+        CompletableFuture<CommandResult> secondDelete = queueLogic.submit("delete 1");
+        CompletableFuture<CommandResult> undo = queueLogic.submit(UndoCommand.COMMAND_WORD);
+        undo.get();
+
+        assertTrue(firstDelete.isDone() && secondDelete.isDone() && invalidCommand.isCompletedExceptionally());
+        try {
+            invalidCommand.join();
+            throw new AssertionError("The invalid command should fail.");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+
+        // only the second delete was undone
+        assertEquals(getTypicalThanePark().getRideList().size() - 1, queueModel.getThanePark().getRideList().size());
+        assertEquals(getTypicalThanePark().getRideList().get(1), queueModel.getThanePark().getRideList().get(0));
+        assertEquals(new ListElementPointer(Arrays.asList("delete 1", "uicfhmowqewca", "delete 1",
+                UndoCommand.COMMAND_WORD)), queueLogic.getHistorySnapshot());
+
+        // the queue is empty once the last command has finished
+        BaseEvent lastEvent = eventsCollectorRule.eventsCollector.getMostRecent();
+        assertTrue(lastEvent instanceof CommandQueueChangedEvent);
+        assertEquals(0, ((CommandQueueChangedEvent) lastEvent).pendingCommandCount);
+    }
+
+    @Test
+    public void submit_afterStop_completesExceptionally() {
+        Logic stoppedLogic = new LogicManager(new ModelManager());
+        stoppedLogic.stop();
+        assertTrue(stoppedLogic.submit(ViewAllCommand.COMMAND_WORD).isCompletedExceptionally());
+    }
+
+    @Test
+    public void executeScript_someCommandsFail_failuresReportedAndChangesCommittedOnce() throws IOException {
+        Model scriptModel = new ModelManager(getTypicalThanePark(), new UserPrefs());
+        Logic scriptLogic = new LogicManager(scriptModel);
+        Path script = writeScript("# remove the first two rides", "delete 1", "uicfhmowqewca", "", "delete 1",
+                "delete 99");
+        eventsCollectorRule.eventsCollector.reset();
+
+        ScriptResult result = scriptLogic.executeScript(script, 0);
+        assertEquals(4, result.getCommandCount());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(3, result.getFailures().get(0).getLineNumber());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, result.getFailures().get(0).getMessage());
+        assertEquals(6, result.getFailures().get(1).getLineNumber());
+        assertEquals(MESSAGE_INVALID_RIDE_DISPLAYED_INDEX, result.getFailures().get(1).getMessage());
+        assertTrue(result.getReport().contains("2 succeeded, 2 failed"));
+
+        // the changes are saved and committed once for the whole script
+        assertEquals(getTypicalThanePark().getRideList().size() - 2, scriptModel.getThanePark().getRideList().size());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ThaneParkChangedEvent);
+        scriptModel.undoThanePark();
+        assertEquals(getTypicalThanePark(), scriptModel.getThanePark());
+        assertFalse(scriptModel.canUndoThanePark());
+    }
+
+    @Test
+    public void executeScript_commitInterval_committedEveryInterval() throws IOException {
+        Model scriptModel = new ModelManager(getTypicalThanePark(), new UserPrefs());
+        Logic scriptLogic = new LogicManager(scriptModel);
+        Path script = writeScript("delete 1", "delete 1", "delete 1");
+
+        assertTrue(scriptLogic.executeScript(script, 2).getFailures().isEmpty());
+        scriptModel.undoThanePark();
+        assertEquals(getTypicalThanePark().getRideList().size() - 2, scriptModel.getThanePark().getRideList().size());
+        scriptModel.undoThanePark();
+        assertEquals(getTypicalThanePark(), scriptModel.getThanePark());
+        assertFalse(scriptModel.canUndoThanePark());
+    }
+
+    @Test
+    public void executeScript_undoAndRedo_reportedAsFailuresAndNothingUndone() throws IOException {
+        Model scriptModel = new ModelManager(getTypicalThanePark(), new UserPrefs());
+        Logic scriptLogic = new LogicManager(scriptModel);
+        Path script = writeScript("delete 1", UndoCommand.COMMAND_WORD, "delete 1", RedoCommand.COMMAND_WORD);
+
+        ScriptResult result = scriptLogic.executeScript(script, 1);
+        assertEquals(Arrays.asList(2, 4), result.getFailures().stream()
+                .map(ScriptResult.Failure::getLineNumber).collect(Collectors.toList()));
+        assertTrue(result.getFailures().stream()
+                .allMatch(failure -> failure.getMessage().equals(LogicManager.MESSAGE_UNDO_REDO_IN_SCRIPT)));
+        assertEquals(getTypicalThanePark().getRideList().size() - 2, scriptModel.getThanePark().getRideList().size());
+    }
+
     @Test
     public void getFilteredRideList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
         logic.getFilteredRideList().remove(0);
     }
 
+    /**
+     * Writes {@code lines} to a script file and returns its path.
+     */
+    private Path writeScript(String... lines) throws IOException {
+        Path script = testFolder.getRoot().toPath().resolve("script.txt");
+        Files.write(script, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return script;
+    }
+
     /**
      * Executes the command, confirms that no exceptions are thrown and that the result message is correct.
      * Also confirms that {@code expectedModel} is as specified.
@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,6 +21,7 @@ import seedu.thanepark.logic.commands.exceptions.CommandException;
 import seedu.thanepark.model.Model;
 import seedu.thanepark.model.ReadOnlyThanePark;
 import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.ThaneParkSnapshot;
 import seedu.thanepark.model.ride.Ride;
 import seedu.thanepark.testutil.RideBuilder;
 
@@ -104,6 +106,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <T> T readThanePark(Function<? super ReadOnlyThanePark, ? extends T> query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ThaneParkSnapshot getThaneParkSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRide(Ride ride) {
             throw new AssertionError("This method should not be called.");
@@ -153,6 +165,21 @@ public class AddCommandTest {
         public void commitThanePark() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void startBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -121,6 +121,17 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(DUMBO), model.getFilteredRideList());
     }
 
+    @Test
+    public void execute_mistypedKeywords_ridesRankedByEditDistance() {
+        String expectedMessage = String.format(MESSAGE_RIDES_LISTED_OVERVIEW, 2);
+        RideContainsKeywordsPredicate predicate = preparePredicate("thndrr castl", 2);
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredRideList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        // "castl" is one edit from "Castle", "thndrr" two from "Thunder"
+        assertEquals(Arrays.asList(CASTLE, BIG), model.getFilteredRideList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code RideContainsKeywordsPredicate}.
      */
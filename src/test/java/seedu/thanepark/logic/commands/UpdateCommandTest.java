@@ -101,10 +101,13 @@ public class UpdateCommandTest {
         String expectedMessage = String.format(UpdateCommand.MESSAGE_UPDATE_RIDE_SUCCESS, editedRide);
 
         Model expectedModel = new ModelManager(new ThanePark(model.getThanePark()), new UserPrefs());
+        showRideAtIndex(expectedModel, INDEX_FIRST_RIDE);
         expectedModel.updateRide(model.getFilteredRideList().get(0), editedRide);
         expectedModel.commitThanePark();
 
+        // the filter stays in place, so the renamed ride is no longer shown
         assertCommandSuccess(editCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredRideList().isEmpty());
     }
 
     @Test
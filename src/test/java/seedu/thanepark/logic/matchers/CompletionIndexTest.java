@@ -0,0 +1,50 @@
+package seedu.thanepark.logic.matchers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
+import static seedu.thanepark.testutil.TypicalRides.BIG;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.testutil.RideBuilder;
+
+public class CompletionIndexTest {
+
+    @Test
+    public void getCommandWordsStartingWith_prefix_inOrderOfCommandWords() {
+        CompletionIndex completionIndex = new CompletionIndex();
+        assertEquals(Arrays.asList("viewall", "viewstatus", "view"), completionIndex.getCommandWordsStartingWith("v"));
+        assertEquals(Arrays.asList("find", "filter"), completionIndex.getCommandWordsStartingWith("f"));
+        assertTrue(completionIndex.getCommandWordsStartingWith("b").isEmpty());
+        // regex metacharacters are matched as they are
+        assertTrue(completionIndex.getCommandWordsStartingWith(".*").isEmpty());
+    }
+
+    @Test
+    public void getRideTermsStartingWith_ridesChange_termsKeptUpToDate() {
+        ObservableList<Ride> rides = FXCollections.observableArrayList(ACCELERATOR);
+        CompletionIndex completionIndex = new CompletionIndex(rides);
+        assertEquals(Collections.singletonList("Accelerator"), completionIndex.getRideTermsStartingWith("acc"));
+
+        rides.add(BIG);
+        assertEquals(Collections.singletonList("The Big Thunder Mountain"),
+                completionIndex.getRideTermsStartingWith("The Big"));
+
+        Ride renamedAccelerator = new RideBuilder(ACCELERATOR).withName("Acceleration").build();
+        rides.set(0, renamedAccelerator);
+        assertEquals(Collections.singletonList("Acceleration"), completionIndex.getRideTermsStartingWith("acc"));
+
+        rides.setAll(BIG);
+        assertTrue(completionIndex.getRideTermsStartingWith("acc").isEmpty());
+        // the zone and tags of a ride are completed as well
+        assertEquals(Collections.singletonList(BIG.getZone().value),
+                completionIndex.getRideTermsStartingWith(BIG.getZone().value.substring(0, 3)));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.thanepark.logic.matchers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class CompressedTrieTest {
+
+    private final CompressedTrie trie = new CompressedTrie();
+
+    @Test
+    public void getWordsStartingWith_prefix_wordsInAlphabeticalOrder() {
+        trie.add("viewstatus");
+        trie.add("view");
+        trie.add("viewall");
+        trie.add("update");
+        assertEquals(Arrays.asList("view", "viewall", "viewstatus"), trie.getWordsStartingWith("v", 10));
+        assertEquals(Collections.singletonList("viewall"), trie.getWordsStartingWith("viewa", 10));
+        assertEquals(Arrays.asList("view", "viewall"), trie.getWordsStartingWith("vi", 2));
+        assertTrue(trie.getWordsStartingWith("viewx", 10).isEmpty());
+        assertEquals(4, trie.getWordsStartingWith("", 10).size());
+    }
+
+    @Test
+    public void getWordsStartingWith_differentCase_originalWordsFound() {
+        trie.add("Adventureland");
+        trie.add("adventure");
+        assertEquals(Arrays.asList("adventure", "Adventureland"), trie.getWordsStartingWith("ADV", 10));
+    }
+
+    @Test
+    public void remove_wordAddedTwice_keptUntilRemovedTwice() {
+        trie.add("rollerCoaster");
+        trie.add("rollerCoaster");
+        trie.add("roller");
+        trie.remove("rollerCoaster");
+        assertEquals(2, trie.getWordsStartingWith("roll", 10).size());
+        trie.remove("rollerCoaster");
+        assertEquals(Collections.singletonList("roller"), trie.getWordsStartingWith("roll", 10));
+        trie.remove("roller");
+        assertTrue(trie.getWordsStartingWith("", 10).isEmpty());
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    public void addAndRemove_randomWords_sameAsFilteringSortedWords() {
+        Random random = new Random(2103);
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String word = randomWord(random);
+            if (random.nextInt(3) == 0 && !words.isEmpty()) {
+                String removed = words.remove(random.nextInt(words.size()));
+                trie.remove(removed);
+            } else {
+                words.add(word);
+                trie.add(word);
+            }
+        }
+        for (String prefix : Arrays.asList("", "a", "ab", "ba", "abc", "cab")) {
+            List<String> expected = words.stream().filter(word -> word.startsWith(prefix)).distinct().sorted()
+                    .collect(Collectors.toList());
+            assertEquals(prefix, expected, trie.getWordsStartingWith(prefix, Integer.MAX_VALUE));
+        }
+        assertEquals(words.stream().distinct().count(), trie.size());
+    }
+
+    /**
+     * Returns a word of up to 5 of the letters a, b and c, so that random words often share prefixes.
+     */
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int length = 1 + random.nextInt(5); length > 0; length--) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+}
@@ -136,6 +136,32 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingStart_longestPrefixTaken() {
+        Prefix tSlash = new Prefix("t/");
+        Prefix tag = new Prefix("tag");
+        Prefix tagSlash = new Prefix("tag/");
+        PrefixAutomaton prefixes = new PrefixAutomaton(tSlash, tag, tagSlash);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" t/one tag two tag/three ta/four", prefixes);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, tSlash, "one");
+        assertArgumentPresent(argMultimap, tag, "two");
+        assertArgumentPresent(argMultimap, tagSlash, "three ta/four");
+    }
+
+    @Test
+    public void tokenize_sameAutomatonReused_sameAsTokenizingWithPrefixes() {
+        PrefixAutomaton prefixes = new PrefixAutomaton(pSlash, dashT, hatQ);
+        for (String argsString : new String[] {"", " p/", "preamble p/ 1 -t 2 ^Q3 -t", "  p/p/ -t-t ^Q ^Q "}) {
+            ArgumentMultimap expected = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString, prefixes);
+            assertEquals(expected.getPreamble(), actual.getPreamble());
+            for (Prefix prefix : new Prefix[] {pSlash, dashT, hatQ}) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix));
+            }
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -1,6 +1,7 @@
 package seedu.thanepark.logic.parser;
 
 import static seedu.thanepark.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_EDIT_DISTANCE;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_TAG_FULL;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_ZONE;
@@ -44,12 +45,12 @@ public class FindCommandParserTest {
         // input looking with thanepark prefix
         expectedFindCommand = new FindCommand(new RideContainsKeywordsPredicate(
                 new ArrayList<>(), Optional.of(new Zone("10th street"))));
-        assertParseSuccess(parser, PREFIX_ZONE.getPrefix() + " 10th street", expectedFindCommand);
+        assertParseSuccess(parser, " " + PREFIX_ZONE.getPrefix() + " 10th street", expectedFindCommand);
 
         // input with thanepark in full
         expectedFindCommand = new FindCommand(new RideContainsKeywordsPredicate(
                 new ArrayList<>(), Optional.of(new Zone("10th street"))));
-        assertParseSuccess(parser, PREFIX_ZONE_FULL.getPrefix() + " 10th street", expectedFindCommand);
+        assertParseSuccess(parser, " " + PREFIX_ZONE_FULL.getPrefix() + " 10th street", expectedFindCommand);
 
         // input with single tag prefix
         List<String> list = Arrays.asList(PREFIX_TAG.getPrefix(), "friends");
@@ -79,11 +80,29 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, userInput, expectedFindCommand);
     }
 
+    @Test
+    public void parse_editDistance_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new RideContainsKeywordsPredicate(
+                Arrays.asList("Acelerator", "Thundr"), Optional.empty(), Optional.empty(), Optional.of(2)));
+        assertParseSuccess(parser, " Acelerator Thundr " + PREFIX_EDIT_DISTANCE + "2", expectedFindCommand);
+        assertParseSuccess(parser, " Acelerator Thundr " + PREFIX_EDIT_DISTANCE + " 2 ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidEditDistance_throwsParseException() {
+        assertParseFailure(parser, " Acelerator " + PREFIX_EDIT_DISTANCE + "4",
+                FindCommand.MESSAGE_INVALID_EDIT_DISTANCE);
+        assertParseFailure(parser, " Acelerator " + PREFIX_EDIT_DISTANCE + "-1",
+                FindCommand.MESSAGE_INVALID_EDIT_DISTANCE);
+        assertParseFailure(parser, " Acelerator " + PREFIX_EDIT_DISTANCE + "two",
+                FindCommand.MESSAGE_INVALID_EDIT_DISTANCE);
+    }
+
     /**
-     * Creates a user input from a list of strings
+     * Creates a user input from a list of strings, starting with a space like the arguments given to the parser
      */
     private String getUserInput(List<String> strings) {
-        String userInput = "";
+        String userInput = " ";
         for (String s : strings) {
             userInput = userInput.concat(s).concat(" ");
         }
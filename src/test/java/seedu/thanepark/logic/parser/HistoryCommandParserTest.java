@@ -4,6 +4,10 @@ import static seedu.thanepark.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORM
 import static seedu.thanepark.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.thanepark.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
 import org.junit.Test;
 
 import seedu.thanepark.logic.commands.HistoryCommand;
@@ -24,11 +28,25 @@ public class HistoryCommandParserTest {
         assertParseSuccess(parser, "", new HistoryCommand());
         final String[] args = {"more"};
         assertParseSuccess(parser, "more", new HistoryCommand(args));
+        assertParseSuccess(parser, "more 50", new HistoryCommand(50));
+
+        Instant from = LocalDate.of(2018, 10, 1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Instant to = LocalDate.of(2018, 11, 1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+        assertParseSuccess(parser, "more 2018-10-01 2018-10-31", new HistoryCommand(from, to));
+        assertParseSuccess(parser, "more  2018-10-01", new HistoryCommand(from, Instant.MAX));
     }
 
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
             HistoryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "more 0", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            HistoryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "more 50 60", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            HistoryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "more 2018-13-01", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            HistoryCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "more 2018-10-31 2018-10-01", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            HistoryCommand.MESSAGE_USAGE));
     }
 }
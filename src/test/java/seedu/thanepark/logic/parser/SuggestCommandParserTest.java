@@ -0,0 +1,59 @@
+package seedu.thanepark.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.thanepark.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.thanepark.logic.commands.SuggestCommand.MESSAGE_SUGGEST_COMMAND_SUCCESS;
+import static seedu.thanepark.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalRides;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import seedu.thanepark.logic.commands.SuggestCommand;
+import seedu.thanepark.logic.matchers.CompletionIndex;
+
+public class SuggestCommandParserTest {
+
+    private final SuggestCommandParser parser = new SuggestCommandParser(
+            new CompletionIndex(FXCollections.observableArrayList(getTypicalRides())));
+
+    @Test
+    public void parse_commandWord_commandWordsSuggested() throws Exception {
+        assertSuggestions("dele", "delete");
+        assertSuggestions("f", "find", "filter");
+        assertParseFailure(parser, "x", MESSAGE_UNKNOWN_COMMAND);
+        assertParseFailure(parser, "a*", MESSAGE_UNKNOWN_COMMAND);
+    }
+
+    @Test
+    public void parse_partOfRideTerm_lastArgumentCompleted() throws Exception {
+        assertSuggestions("find acc", "find Accelerator");
+        // names of several words are completed as a whole
+        assertSuggestions("find The Big Th", "find The Big Thunder Mountain");
+        assertSuggestions("find t/ rollerC", "find t/ rollerCoaster");
+        assertSuggestions("find roller", "find rollerCoaster");
+        assertSuggestions("find en", "find Enchanted Airways");
+        assertParseFailure(parser, "find xyz", SuggestCommandParser.MESSAGE_NO_COMPLETIONS);
+        assertParseFailure(parser, "find ", SuggestCommandParser.MESSAGE_NO_COMPLETIONS);
+    }
+
+    @Test
+    public void parse_prefixedPartOfRideTerm_lastArgumentCompletedAfterPrefix() throws Exception {
+        assertSuggestions("add n/Acc", "add n/Accelerator");
+        assertSuggestions("find n/The Big Th", "find n/The Big Thunder Mountain");
+        assertSuggestions("find z/wall", "find z/wall street");
+        assertSuggestions("find t/roll", "find t/rollerCoaster");
+        assertSuggestions("add n/Galaxy t/roll", "add n/Galaxy t/rollerCoaster");
+        assertParseFailure(parser, "find n/", SuggestCommandParser.MESSAGE_NO_COMPLETIONS);
+        assertParseFailure(parser, "find n/xyz", SuggestCommandParser.MESSAGE_NO_COMPLETIONS);
+    }
+
+    /**
+     * Asserts that {@code pattern} is parsed into a {@code SuggestCommand} suggesting {@code suggestions}.
+     */
+    private void assertSuggestions(String pattern, String... suggestions) throws Exception {
+        String expectedMessage = String.format(MESSAGE_SUGGEST_COMMAND_SUCCESS,
+                SuggestCommand.combineCommandWords(suggestions));
+        assertEquals(expectedMessage, parser.parse(pattern).execute(null, null).feedbackToUser);
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.thanepark.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalThanePark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.testutil.RideBuilder;
+
+/**
+ * Changes a {@code ModelManager} from several threads while other threads query it, and checks that no change is lost
+ * and that no query sees the rides in an inconsistent state.
+ */
+public class ModelManagerStressTest {
+
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int RIDES_PER_WRITER = 150;
+    private static final int COMMIT_INTERVAL = 10;
+    private static final String UPDATED_WAIT_TIME = "42";
+
+    private final ModelManager model = new ModelManager(getTypicalThanePark(), new UserPrefs());
+    private final Queue<String> violations = new ConcurrentLinkedQueue<>();
+
+    @Test
+    public void concurrentChangesAndQueries_invariantsHold() throws Exception {
+        int initialSize = model.getThanePark().getRideList().size();
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + READER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < WRITER_COUNT; writer++) {
+            int writerNumber = writer;
+            writers.add(executor.submit(() -> {
+                start.await();
+                makeChanges(writerNumber);
+                return null;
+            }));
+        }
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int reader = 0; reader < READER_COUNT; reader++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                int queryCount = 0;
+                long lastVersion = -1;
+                while (isWriting.get()) {
+                    checkConsistency();
+                    lastVersion = checkSnapshot(lastVersion);
+                    queryCount++;
+                }
+                return queryCount;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        isWriting.set(false);
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get(60, TimeUnit.SECONDS) > 0);
+        }
+        executor.shutdown();
+
+        assertTrue(violations.toString(), violations.isEmpty());
+        // every writer kept half of its rides, all of them updated
+        List<Ride> rides = model.getThanePark().getRideList();
+        assertEquals(initialSize + WRITER_COUNT * RIDES_PER_WRITER / 2, rides.size());
+        for (int writer = 0; writer < WRITER_COUNT; writer++) {
+            for (int i = 0; i < RIDES_PER_WRITER; i++) {
+                Ride ride = createRide(writer, i, UPDATED_WAIT_TIME);
+                assertEquals(i % 2 == 1, rides.contains(ride));
+            }
+        }
+        checkConsistency();
+        assertTrue(violations.toString(), violations.isEmpty());
+    }
+
+    /**
+     * Adds the rides of {@code writer}, updates each of them, then deletes every other one, committing as it goes.
+     */
+    private void makeChanges(int writer) {
+        for (int i = 0; i < RIDES_PER_WRITER; i++) {
+            model.addRide(createRide(writer, i, "1"));
+            commitEveryInterval(i);
+        }
+        for (int i = 0; i < RIDES_PER_WRITER; i++) {
+            model.updateRide(createRide(writer, i, "1"), createRide(writer, i, UPDATED_WAIT_TIME));
+            commitEveryInterval(i);
+        }
+        for (int i = 0; i < RIDES_PER_WRITER; i += 2) {
+            model.deleteRide(createRide(writer, i, UPDATED_WAIT_TIME));
+            commitEveryInterval(i);
+        }
+    }
+
+    private void commitEveryInterval(int i) {
+        if (i % COMMIT_INTERVAL == 0) {
+            model.commitThanePark();
+        }
+    }
+
+    /**
+     * Records a violation if the rides have duplicate names, or if the positions of the rides in the list disagree
+     * with the positions recorded in the name index.
+     */
+    private void checkConsistency() {
+        String violation = model.readThanePark(thanePark -> {
+            List<Ride> rides = thanePark.getRideList();
+            Set<String> names = new HashSet<>();
+            for (int i = 0; i < rides.size(); i++) {
+                Ride ride = rides.get(i);
+                if (!names.add(ride.getName().fullName)) {
+                    return "duplicate ride " + ride.getName();
+                }
+                if (((ThanePark) thanePark).indexOfRide(ride) != i) {
+                    return "index out of sync for " + ride.getName();
+                }
+            }
+            return null;
+        });
+        if (violation != null) {
+            violations.add(violation);
+        }
+    }
+
+    /**
+     * Records a violation if the snapshot, read without locking, is older than the one read before, of version
+     * {@code lastVersion}, or has duplicate names. Returns the version of the snapshot.
+     */
+    private long checkSnapshot(long lastVersion) {
+        ThaneParkSnapshot snapshot = model.getThaneParkSnapshot();
+        if (snapshot.getVersion() < lastVersion) {
+            violations.add("snapshot version went back from " + lastVersion + " to " + snapshot.getVersion());
+        }
+        Set<String> names = new HashSet<>();
+        for (Ride ride : snapshot.getRides()) {
+            if (!names.add(ride.getName().fullName)) {
+                violations.add("duplicate ride " + ride.getName() + " in snapshot " + snapshot);
+            }
+        }
+        return snapshot.getVersion();
+    }
+
+    private Ride createRide(int writer, int i, String waitTime) {
+        return new RideBuilder().withName("Stress ride " + writer + " " + i).withWaitTime(waitTime).build();
+    }
+}
@@ -1,19 +1,33 @@
 package seedu.thanepark.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.thanepark.model.Model.PREDICATE_SHOW_ALL_RIDES;
 import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
 import static seedu.thanepark.testutil.TypicalRides.BIG;
+import static seedu.thanepark.testutil.TypicalRides.CASTLE;
 
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.thanepark.commons.core.ParkClock;
+import seedu.thanepark.model.ride.AttributePredicate;
+import seedu.thanepark.model.ride.Maintenance;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.RideContainsConditionPredicate;
 import seedu.thanepark.model.ride.RideContainsKeywordsPredicate;
+import seedu.thanepark.model.ride.RideStatusPredicate;
+import seedu.thanepark.model.ride.Status;
+import seedu.thanepark.testutil.RideBuilder;
 import seedu.thanepark.testutil.ThaneParkBuilder;
 
 public class ModelManagerTest {
@@ -21,6 +35,12 @@ public class ModelManagerTest {
     public ExpectedException thrown = ExpectedException.none();
 
     private ModelManager modelManager = new ModelManager();
+    private final Clock originalClock = ParkClock.getClock();
+
+    @After
+    public void tearDown() {
+        ParkClock.setClock(originalClock);
+    }
 
     @Test
     public void hasRide_nullRide_throwsNullPointerException() {
@@ -45,6 +65,41 @@ public class ModelManagerTest {
         modelManager.getFilteredRideList().remove(0);
     }
 
+    @Test
+    public void updateFilteredRideList_indexedPredicate_tracksLaterUpdates() {
+        modelManager.addRide(ACCELERATOR);
+        modelManager.addRide(CASTLE);
+        modelManager.updateFilteredRideList(new RideStatusPredicate(Status.SHUTDOWN));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredRideList());
+
+        Ride shutDownCastle = new RideBuilder(CASTLE).withStatus(Status.SHUTDOWN).build();
+        modelManager.updateRide(CASTLE, shutDownCastle);
+        assertEquals(Collections.singletonList(shutDownCastle), modelManager.getFilteredRideList());
+    }
+
+    @Test
+    public void updateFilteredRideList_maintenanceConditionAfterMidnight_daysCountedFromNewDay() {
+        Ride maintainedYesterday = new RideBuilder(CASTLE).withMaintenance("1").build();
+        modelManager.addRide(maintainedYesterday);
+        modelManager.updateFilteredRideList(new RideContainsConditionPredicate(
+                Collections.singletonList(new AttributePredicate("<=", new Maintenance("1")))));
+        assertEquals(Collections.singletonList(maintainedYesterday), modelManager.getFilteredRideList());
+
+        ParkClock.setClock(Clock.offset(originalClock, Duration.ofDays(1)));
+        modelManager.updateFilteredRideList(new RideContainsConditionPredicate(
+                Collections.singletonList(new AttributePredicate("<=", new Maintenance("1")))));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredRideList());
+    }
+
+    @Test
+    public void addRide_filteredList_filterKept() {
+        modelManager.addRide(ACCELERATOR);
+        modelManager.updateFilteredRideList(new RideContainsKeywordsPredicate(Arrays.asList("Castle")));
+        modelManager.addRide(BIG);
+        modelManager.addRide(CASTLE);
+        assertEquals(Collections.singletonList(CASTLE), modelManager.getFilteredRideList());
+    }
+
     @Test
     public void equals() {
         ThanePark thanePark = new ThaneParkBuilder().withRide(ACCELERATOR).withRide(BIG).build();
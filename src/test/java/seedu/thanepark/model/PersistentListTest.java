@@ -0,0 +1,153 @@
+package seedu.thanepark.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+
+    // The key of an element "key:version".
+    private static final Function<String, String> KEY = element -> element.split(":")[0];
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        assertEquals(Collections.emptyList(), PersistentList.of(Collections.emptyList()));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), PersistentList.of(Arrays.asList(1, 2, 3, 4, 5)));
+    }
+
+    @Test
+    public void plusWithMinus_originalUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        assertEquals(Arrays.asList("a", "x", "b", "c"), original.plus(1, "x"));
+        assertEquals(Arrays.asList("a", "b", "c", "x"), original.plus(3, "x"));
+        assertEquals(Arrays.asList("a", "x", "c"), original.with(1, "x"));
+        assertEquals(Arrays.asList("a", "c"), original.minus(1));
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Arrays.asList(1, 2)).get(2);
+    }
+
+    @Test
+    public void minus_empty_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.empty().minus(0);
+    }
+
+    @Test
+    public void changesSince_unchanged_noChanges() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a:1", "b:1", "c:1"));
+        PersistentList.Changes<String> changes = list.changesSince(list, KEY);
+        assertEquals(Collections.emptyList(), changes.removed);
+        assertEquals(Collections.emptyMap(), changes.added);
+        assertEquals(Collections.emptyList(), changes.updated);
+    }
+
+    @Test
+    public void changesSince_singleChanges_onlyChangedElements() {
+        PersistentList<String> earlier = PersistentList.of(Arrays.asList("a:1", "b:1", "c:1", "d:1", "e:1"));
+        PersistentList<String> later = earlier.minus(1).plus(3, "x:1").with(0, "a:2");
+
+        PersistentList.Changes<String> changes = later.changesSince(earlier, KEY);
+        assertEquals(Collections.singletonList("b:1"), changes.removed);
+        assertEquals(Collections.singletonMap(3, "x:1"), changes.added);
+        assertEquals(Collections.singletonList("a:2"), changes.updated);
+    }
+
+    @Test
+    public void changesSince_orderChanged_returnsNull() {
+        PersistentList<String> earlier = PersistentList.of(Arrays.asList("a:1", "b:1", "c:1"));
+        assertNull(earlier.minus(0).plus(2, "a:1").changesSince(earlier, KEY));
+    }
+
+    @Test
+    public void changesSince_randomChanges_changesTurnEarlierIntoLater() {
+        Random random = new Random(2103);
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i + ":0");
+        }
+        PersistentList<String> earlier = PersistentList.of(elements);
+        int nextKey = elements.size();
+        for (int round = 1; round <= 50; round++) {
+            PersistentList<String> later = earlier;
+            for (int i = random.nextInt(10); i >= 0; i--) {
+                int operation = random.nextInt(3);
+                if (operation == 0 || later.isEmpty()) {
+                    later = later.plus(random.nextInt(later.size() + 1), nextKey++ + ":0");
+                } else if (operation == 1) {
+                    int index = random.nextInt(later.size());
+                    later = later.with(index, KEY.apply(later.get(index)) + ":" + round);
+                } else {
+                    later = later.minus(random.nextInt(later.size()));
+                }
+            }
+            assertEquals(later, applyChanges(earlier, later.changesSince(earlier, KEY)));
+            earlier = later;
+        }
+    }
+
+    /**
+     * Returns {@code list} with {@code changes} applied, matching updated elements by {@code KEY}.
+     */
+    private static List<String> applyChanges(List<String> list, PersistentList.Changes<String> changes) {
+        List<String> result = new ArrayList<>(list);
+        result.removeAll(changes.removed);
+        for (Map.Entry<Integer, String> added : changes.added.entrySet()) {
+            result.add(added.getKey(), added.getValue());
+        }
+        for (String updated : changes.updated) {
+            for (int i = 0; i < result.size(); i++) {
+                if (KEY.apply(result.get(i)).equals(KEY.apply(updated))) {
+                    result.set(i, updated);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.thanepark.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.thanepark.model.Model.PREDICATE_SHOW_ALL_RIDES;
+import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
+import static seedu.thanepark.testutil.TypicalRides.BIG;
+import static seedu.thanepark.testutil.TypicalRides.CASTLE;
+import static seedu.thanepark.testutil.TypicalRides.DUMBO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.RideContainsKeywordsPredicate;
+import seedu.thanepark.testutil.RideBuilder;
+import seedu.thanepark.testutil.ThaneParkBuilder;
+
+public class RideViewsTest {
+
+    private final ThanePark thanePark = new ThaneParkBuilder().withRide(ACCELERATOR).withRide(BIG).build();
+    private final RideViews rideViews = new RideViews(thanePark, PREDICATE_SHOW_ALL_RIDES, 2);
+
+    @Test
+    public void show_recentPredicate_viewReusedWithoutTesting() {
+        CountingPredicate isBig = new CountingPredicate(BIG);
+        rideViews.show(isBig);
+        assertEquals(2, isBig.testCount);
+
+        rideViews.show(PREDICATE_SHOW_ALL_RIDES);
+        rideViews.show(isBig);
+        assertEquals(2, isBig.testCount);
+        assertEquals(2, rideViews.getViewCount());
+        assertEquals(Collections.singletonList(BIG), rideViews.getDisplayedList());
+    }
+
+    @Test
+    public void show_equalPredicate_viewReused() {
+        rideViews.show(new RideContainsKeywordsPredicate(Arrays.asList("Big")));
+        rideViews.show(PREDICATE_SHOW_ALL_RIDES);
+        rideViews.show(new RideContainsKeywordsPredicate(Arrays.asList("Big")));
+        assertEquals(2, rideViews.getViewCount());
+        assertEquals(Collections.singletonList(BIG), rideViews.getDisplayedList());
+    }
+
+    @Test
+    public void show_repeatedPredicates_hitsAndMissesCounted() {
+        rideViews.show(new RideContainsKeywordsPredicate(Arrays.asList("Big")));
+        rideViews.show(new RideContainsKeywordsPredicate(Arrays.asList("Big")));
+        rideViews.show(PREDICATE_SHOW_ALL_RIDES);
+        rideViews.show(new RideContainsKeywordsPredicate(Arrays.asList("Big")));
+        assertEquals(3, rideViews.getHitCount());
+        assertEquals(1, rideViews.getMissCount());
+    }
+
+    @Test
+    public void show_shownPredicate_notLookedUpOrTested() {
+        CountingPredicate isBig = new CountingPredicate(BIG);
+        rideViews.show(isBig);
+        rideViews.show(isBig);
+        assertEquals(2, isBig.testCount);
+        assertEquals(0, rideViews.getHitCount());
+        assertEquals(1, rideViews.getMissCount());
+        assertEquals(Collections.singletonList(BIG), rideViews.getDisplayedList());
+    }
+
+    @Test
+    public void show_noViewsKept_shownViewStillUpToDate() {
+        RideViews uncachedViews = new RideViews(thanePark, PREDICATE_SHOW_ALL_RIDES, 0);
+        CountingPredicate isCastle = new CountingPredicate(CASTLE);
+        uncachedViews.show(isCastle);
+        thanePark.addRide(CASTLE);
+        assertEquals(Collections.singletonList(CASTLE), uncachedViews.getDisplayedList());
+
+        uncachedViews.show(PREDICATE_SHOW_ALL_RIDES);
+        uncachedViews.show(isCastle);
+        assertEquals(0, uncachedViews.getHitCount());
+        assertEquals(0, uncachedViews.getViewCount());
+    }
+
+    @Test
+    public void change_viewNotShown_onlyChangedRidesTested() {
+        CountingPredicate isCastle = new CountingPredicate(CASTLE);
+        rideViews.show(isCastle);
+        rideViews.show(PREDICATE_SHOW_ALL_RIDES);
+
+        thanePark.addRide(CASTLE);
+        thanePark.removeRide(ACCELERATOR);
+        assertEquals(3, isCastle.testCount);
+
+        rideViews.show(isCastle);
+        assertEquals(3, isCastle.testCount);
+        assertEquals(Collections.singletonList(CASTLE), rideViews.getDisplayedList());
+    }
+
+    @Test
+    public void show_moreViewsThanMax_leastRecentlyShownDropped() {
+        CountingPredicate isBig = new CountingPredicate(BIG);
+        rideViews.show(isBig);
+        rideViews.show(new CountingPredicate(CASTLE));
+        assertEquals(2, rideViews.getViewCount());
+
+        // the view of all rides was shown least recently, so the view of big is still kept
+        rideViews.show(isBig);
+        assertEquals(2, isBig.testCount);
+    }
+
+    @Test
+    public void getDisplayedList_changes_listenersNotified() {
+        List<Ride> mirror = new ArrayList<>(rideViews.getDisplayedList());
+        rideViews.getDisplayedList().addListener((ListChangeListener<Ride>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                }
+                if (change.wasAdded()) {
+                    mirror.addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        });
+
+        thanePark.addRide(CASTLE);
+        assertEquals(rideViews.getDisplayedList(), mirror);
+        rideViews.show(new CountingPredicate(BIG));
+        assertEquals(Collections.singletonList(BIG), mirror);
+        thanePark.updateRide(BIG, new RideBuilder(BIG).withWaitTime("99").build());
+        assertEquals(Collections.emptyList(), mirror);
+        rideViews.show(PREDICATE_SHOW_ALL_RIDES);
+        thanePark.addRide(DUMBO);
+        assertEquals(thanePark.getRideList(), mirror);
+    }
+
+    /**
+     * Matches rides equal to a given ride, counting the rides it tests.
+     */
+    private static class CountingPredicate implements Predicate<Ride> {
+        private final Ride ride;
+        private int testCount;
+
+        CountingPredicate(Ride ride) {
+            this.ride = ride;
+        }
+
+        @Override
+        public boolean test(Ride other) {
+            testCount++;
+            return ride.equals(other);
+        }
+    }
+}
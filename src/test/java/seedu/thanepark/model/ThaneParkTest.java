@@ -6,6 +6,8 @@ import static org.junit.Assert.assertTrue;
 import static seedu.thanepark.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.thanepark.logic.commands.CommandTestUtil.VALID_ZONE_BOB;
 import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
+import static seedu.thanepark.testutil.TypicalRides.BIG;
+import static seedu.thanepark.testutil.TypicalRides.HAUNTED;
 import static seedu.thanepark.testutil.TypicalRides.getTypicalThanePark;
 
 import java.util.Arrays;
@@ -92,6 +94,55 @@ public class ThaneParkTest {
         thanePark.getRideList().remove(0);
     }
 
+    @Test
+    public void getSnapshot_afterEachChange_newVersionAndOldSnapshotsUnchanged() {
+        ThaneParkSnapshot emptySnapshot = thanePark.getSnapshot();
+        thanePark.resetData(getTypicalThanePark());
+        ThaneParkSnapshot typicalSnapshot = thanePark.getSnapshot();
+        thanePark.addRide(HAUNTED);
+        Ride editedAccelerator = new RideBuilder(ACCELERATOR).withWaitTime("99").build();
+        thanePark.updateRide(ACCELERATOR, editedAccelerator);
+        thanePark.removeRide(BIG);
+        ThaneParkSnapshot latestSnapshot = thanePark.getSnapshot();
+
+        assertTrue(emptySnapshot.getVersion() < typicalSnapshot.getVersion());
+        assertEquals(typicalSnapshot.getVersion() + 3, latestSnapshot.getVersion());
+        assertEquals(Collections.emptyList(), emptySnapshot.getRides());
+        assertEquals(getTypicalThanePark().getRideList(), typicalSnapshot.getRides());
+        assertEquals(thanePark.getRideList(), latestSnapshot.getRides());
+        assertEquals(thanePark.getRideList(), latestSnapshot.getRideList());
+        assertEquals(editedAccelerator, latestSnapshot.getRides().get(0));
+        assertFalse(latestSnapshot.getRides().contains(BIG));
+    }
+
+    @Test
+    public void getSnapshot_failedChange_sameSnapshot() {
+        thanePark.addRide(ACCELERATOR);
+        ThaneParkSnapshot snapshot = thanePark.getSnapshot();
+        try {
+            thanePark.addRide(ACCELERATOR);
+        } catch (DuplicateRideException e) {
+            assertEquals(snapshot, thanePark.getSnapshot());
+            return;
+        }
+        throw new AssertionError("Adding a duplicate ride should fail.");
+    }
+
+    @Test
+    public void getSnapshot_modifyRides_throwsUnsupportedOperationException() {
+        thanePark.addRide(ACCELERATOR);
+        thrown.expect(UnsupportedOperationException.class);
+        thanePark.getSnapshot().getRides().remove(0);
+    }
+
+    @Test
+    public void snapshotOf_otherReadOnlyThanePark_copied() {
+        ThaneParkSnapshot snapshot = ThaneParkSnapshot.of(new ThaneParkStub(Arrays.asList(ACCELERATOR, BIG)));
+        assertEquals(Arrays.asList(ACCELERATOR, BIG), snapshot.getRides());
+        assertEquals(snapshot, ThaneParkSnapshot.of(snapshot));
+        assertEquals(thanePark.getSnapshot(), ThaneParkSnapshot.of(thanePark));
+    }
+
     /**
      * A stub ReadOnlyThanePark whose rides list can violate interface constraints.
      */
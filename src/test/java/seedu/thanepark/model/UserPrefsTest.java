@@ -0,0 +1,50 @@
+package seedu.thanepark.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.thanepark.testutil.Assert;
+
+public class UserPrefsTest {
+
+    @Test
+    public void setFilterCacheSize_tooSmall_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setFilterCacheSize(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setFilterCacheSize(-1));
+        assertEquals(new UserPrefs().getFilterCacheSize(), userPrefs.getFilterCacheSize());
+    }
+
+    @Test
+    public void isValidFilterCacheSize() {
+        assertFalse(UserPrefs.isValidFilterCacheSize(-1));
+        assertFalse(UserPrefs.isValidFilterCacheSize(0));
+        assertTrue(UserPrefs.isValidFilterCacheSize(1));
+        assertTrue(UserPrefs.isValidFilterCacheSize(100));
+    }
+
+    @Test
+    public void setUndoHistoryLimits_tooSmall_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMaxStates(0));
+        Assert.assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryMemoryBudget(-1));
+        assertEquals(new UserPrefs(), userPrefs);
+    }
+
+    @Test
+    public void isValidUndoHistoryMaxStates() {
+        assertFalse(UserPrefs.isValidUndoHistoryMaxStates(-1));
+        assertFalse(UserPrefs.isValidUndoHistoryMaxStates(0));
+        assertTrue(UserPrefs.isValidUndoHistoryMaxStates(1));
+    }
+
+    @Test
+    public void isValidUndoHistoryMemoryBudget() {
+        assertFalse(UserPrefs.isValidUndoHistoryMemoryBudget(-1));
+        assertTrue(UserPrefs.isValidUndoHistoryMemoryBudget(0));
+        assertTrue(UserPrefs.isValidUndoHistoryMemoryBudget(1));
+    }
+}
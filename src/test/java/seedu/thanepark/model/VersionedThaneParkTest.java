@@ -8,16 +8,21 @@ import static seedu.thanepark.testutil.TypicalRides.AMY;
 import static seedu.thanepark.testutil.TypicalRides.BOB;
 import static seedu.thanepark.testutil.TypicalRides.CASTLE;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import seedu.thanepark.testutil.RideBuilder;
+import seedu.thanepark.testutil.TestUtil;
 import seedu.thanepark.testutil.ThaneParkBuilder;
 
 public class VersionedThaneParkTest {
 
+    private static final Path SPILL_DIRECTORY = TestUtil.getFilePathInSandboxFolder("undohistory");
+
     private final ReadOnlyThanePark thaneParkWithAmy = new ThaneParkBuilder().withRide(AMY).build();
     private final ReadOnlyThanePark thaneParkWithBob = new ThaneParkBuilder().withRide(BOB).build();
     private final ReadOnlyThanePark thaneParkWithCastle = new ThaneParkBuilder().withRide(CASTLE).build();
@@ -207,6 +212,107 @@ public class VersionedThaneParkTest {
         assertThrows(VersionedThanePark.NoRedoableStateException.class, versionedThanePark::redo);
     }
 
+    @Test
+    public void undo_rideOperationsSinceCommit_restoresRidesInOrder() {
+        ThanePark amyBobCastle = new ThaneParkBuilder().withRide(AMY).withRide(BOB).withRide(CASTLE).build();
+        VersionedThanePark versionedThanePark = prepareThaneParkList(amyBobCastle);
+
+        versionedThanePark.removeRide(BOB);
+        versionedThanePark.updateRide(CASTLE, new RideBuilder(CASTLE).withWaitTime("99").build());
+        versionedThanePark.addRide(BOB);
+        versionedThanePark.commit();
+        versionedThanePark.removeRide(AMY);
+
+        versionedThanePark.undo();
+        assertEquals(amyBobCastle, new ThanePark(versionedThanePark));
+        assertEquals(amyBobCastle.getRideList(), versionedThanePark.getRideList());
+
+        versionedThanePark.redo();
+        ThanePark amyCastleBob = new ThaneParkBuilder().withRide(AMY)
+                .withRide(new RideBuilder(CASTLE).withWaitTime("99").build()).withRide(BOB).build();
+        assertEquals(amyCastleBob, new ThanePark(versionedThanePark));
+    }
+
+    @Test
+    public void undoRedo_severalChanges_singleSnapshotPublished() {
+        ThanePark amyBobCastle = new ThaneParkBuilder().withRide(AMY).withRide(BOB).withRide(CASTLE).build();
+        VersionedThanePark versionedThanePark = prepareThaneParkList(amyBobCastle);
+        versionedThanePark.removeRide(BOB);
+        versionedThanePark.removeRide(CASTLE);
+        versionedThanePark.commit();
+
+        long versionBeforeUndo = versionedThanePark.getSnapshot().getVersion();
+        versionedThanePark.undo();
+        assertEquals(versionBeforeUndo + 1, versionedThanePark.getSnapshot().getVersion());
+        assertEquals(amyBobCastle.getRideList(), versionedThanePark.getSnapshot().getRides());
+
+        versionedThanePark.redo();
+        assertEquals(versionBeforeUndo + 2, versionedThanePark.getSnapshot().getVersion());
+        assertEquals(Arrays.asList(AMY), versionedThanePark.getSnapshot().getRides());
+    }
+
+    @Test
+    public void commit_moreStatesThanMax_oldestStatesDropped() {
+        VersionedThanePark versionedThanePark = new VersionedThanePark(emptyThanePark, 2, Long.MAX_VALUE, null);
+        commitAll(versionedThanePark, thaneParkWithAmy, thaneParkWithBob);
+
+        assertThaneParkListStatus(versionedThanePark,
+                Collections.singletonList(thaneParkWithAmy),
+                thaneParkWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_overMemoryBudgetWithoutSpillFile_oldestStatesDropped() {
+        // room for the changes of one state of a single replaced ride, but not two
+        VersionedThanePark versionedThanePark = new VersionedThanePark(emptyThanePark, Integer.MAX_VALUE,
+                3 * RideListChange.ESTIMATED_BYTES_PER_RIDE, null);
+        commitAll(versionedThanePark, thaneParkWithAmy, thaneParkWithBob, thaneParkWithCastle);
+
+        assertThaneParkListStatus(versionedThanePark,
+                Collections.singletonList(thaneParkWithBob),
+                thaneParkWithCastle,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undoRedo_overMemoryBudgetWithSpillFile_spilledStatesReadBack() {
+        VersionedThanePark versionedThanePark = new VersionedThanePark(emptyThanePark, Integer.MAX_VALUE, 0,
+                SPILL_DIRECTORY);
+        commitAll(versionedThanePark, thaneParkWithAmy, thaneParkWithBob, thaneParkWithCastle);
+
+        assertThaneParkListStatus(versionedThanePark,
+                Arrays.asList(emptyThanePark, thaneParkWithAmy, thaneParkWithBob),
+                thaneParkWithCastle,
+                Collections.emptyList());
+
+        // undone states are spilled too, and discarded by a later commit
+        shiftCurrentStatePointerLeftwards(versionedThanePark, 2);
+        versionedThanePark.resetData(thaneParkWithCastle);
+        versionedThanePark.commit();
+        assertThaneParkListStatus(versionedThanePark,
+                Arrays.asList(emptyThanePark, thaneParkWithAmy),
+                thaneParkWithCastle,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_twoHistoriesSpillingToSameDirectory_eachReadsBackOwnStates() {
+        VersionedThanePark first = new VersionedThanePark(emptyThanePark, Integer.MAX_VALUE, 0, SPILL_DIRECTORY);
+        VersionedThanePark second = new VersionedThanePark(emptyThanePark, Integer.MAX_VALUE, 0, SPILL_DIRECTORY);
+        commitAll(first, thaneParkWithAmy, thaneParkWithBob);
+        commitAll(second, thaneParkWithCastle, thaneParkWithAmy);
+
+        assertThaneParkListStatus(first,
+                Arrays.asList(emptyThanePark, thaneParkWithAmy),
+                thaneParkWithBob,
+                Collections.emptyList());
+        assertThaneParkListStatus(second,
+                Arrays.asList(emptyThanePark, thaneParkWithCastle),
+                thaneParkWithAmy,
+                Collections.emptyList());
+    }
+
     @Test
     public void equals() {
         VersionedThanePark versionedThanePark = prepareThaneParkList(thaneParkWithAmy, thaneParkWithBob);
@@ -287,6 +393,16 @@ public class VersionedThaneParkTest {
         return versionedThanePark;
     }
 
+    /**
+     * Sets the data of {@code versionedThanePark} to each of {@code thaneParkStates} in turn, committing after each.
+     */
+    private void commitAll(VersionedThanePark versionedThanePark, ReadOnlyThanePark... thaneParkStates) {
+        for (ReadOnlyThanePark thaneParkState : thaneParkStates) {
+            versionedThanePark.resetData(thaneParkState);
+            versionedThanePark.commit();
+        }
+    }
+
     /**
      * Shifts the {@code versionedThanePark#currentStatePointer} by {@code count} to the left of its list.
      */
@@ -0,0 +1,69 @@
+package seedu.thanepark.model.ride;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.thanepark.commons.util.StringUtil;
+
+public class BkTreeTest {
+
+    private static final List<String> WORDS = Arrays.asList("castle", "cattle", "carrousel", "thunder", "mountain",
+            "accelerator", "dumbo", "elephant", "enchanted", "airways", "fantasy", "galaxy", "haunted", "mansion");
+
+    private final BkTree bkTree = new BkTree();
+
+    @Before
+    public void setUp() {
+        WORDS.forEach(bkTree::add);
+    }
+
+    @Test
+    public void getWordsWithin_zeroDistance_onlySameWord() {
+        assertEquals(Collections.singletonList("castle"), bkTree.getWordsWithin("castle", 0));
+        assertTrue(bkTree.getWordsWithin("castel", 0).isEmpty());
+    }
+
+    @Test
+    public void getWordsWithin_mistypedWord_wordsWithinDistance() {
+        assertEquals(new HashSet<>(Arrays.asList("castle", "cattle")),
+                new HashSet<>(bkTree.getWordsWithin("castl", 2)));
+        assertEquals(Collections.singletonList("accelerator"), bkTree.getWordsWithin("acelerater", 2));
+    }
+
+    @Test
+    public void getWordsWithin_randomWords_sameAsComparingEveryWord() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 50; i++) {
+            String word = WORDS.get(random.nextInt(WORDS.size())).substring(1 + random.nextInt(3));
+            int maxDistance = 1 + random.nextInt(3);
+            assertEquals(word + " within " + maxDistance,
+                    WORDS.stream().filter(w -> StringUtil.getEditDistance(word, w) <= maxDistance)
+                            .collect(Collectors.toSet()),
+                    new HashSet<>(bkTree.getWordsWithin(word, maxDistance)));
+        }
+    }
+
+    @Test
+    public void remove_words_noLongerFound() {
+        bkTree.remove("castle");
+        assertEquals(Collections.singletonList("cattle"), bkTree.getWordsWithin("castle", 1));
+
+        bkTree.add("castle");
+        assertEquals(2, bkTree.getWordsWithin("castle", 1).size());
+
+        // removing most words rebuilds the tree from the rest
+        WORDS.stream().filter(word -> !word.equals("galaxy")).forEach(bkTree::remove);
+        assertEquals(Collections.singletonList("galaxy"), bkTree.getWordsWithin("galaxi", 1));
+        assertTrue(bkTree.getWordsWithin("castle", 3).isEmpty());
+    }
+}
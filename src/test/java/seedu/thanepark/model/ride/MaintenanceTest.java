@@ -1,14 +1,30 @@
 package seedu.thanepark.model.ride;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.After;
 import org.junit.Test;
 
+import seedu.thanepark.commons.core.ParkClock;
 import seedu.thanepark.testutil.Assert;
 
 public class MaintenanceTest {
 
+    private final Clock originalClock = ParkClock.getClock();
+
+    @After
+    public void tearDown() {
+        ParkClock.setClock(originalClock);
+    }
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> new Maintenance(null));
@@ -41,6 +57,20 @@ public class MaintenanceTest {
         assertFalse(firstMaintenance.equals(thirdMaintenance));
     }
 
+    @Test
+    public void getValue_daysPass_daysSinceMaintenanceIncrease() {
+        Clock firstDay = Clock.fixed(Instant.parse("2018-10-01T10:00:00Z"), ZoneOffset.UTC);
+        ParkClock.setClock(firstDay);
+        Maintenance maintenance = new Maintenance(3);
+        assertEquals(LocalDate.of(2018, 9, 28).toEpochDay(), maintenance.getLastMaintenanceEpochDay());
+
+        ParkClock.setClock(Clock.offset(firstDay, Duration.ofDays(2)));
+        assertEquals(5, maintenance.getValue());
+        assertEquals("5 days", maintenance.toString());
+        assertEquals(Maintenance.lastMaintainedOn(LocalDate.of(2018, 9, 28).toEpochDay()), maintenance);
+        assertFalse(maintenance.equals(new Maintenance(3)));
+    }
+
     @Test
     public void isValidMaintenance() {
         // null days since last maintenance
@@ -0,0 +1,56 @@
+package seedu.thanepark.model.ride;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class NgramIndexTest {
+
+    private final NgramIndex<String> ngramIndex = new NgramIndex<>();
+
+    @Before
+    public void setUp() {
+        ngramIndex.add("adventure", Arrays.asList("adventureland", "west"));
+        ngramIndex.add("fantasy", Collections.singletonList("fantasyland"));
+        ngramIndex.add("tomorrow", Arrays.asList("tomorrowland", "east"));
+    }
+
+    @Test
+    public void getKeysWithWordContaining_shortPart_keysLookedUpDirectly() {
+        assertEquals(new HashSet<>(Arrays.asList("adventure", "tomorrow")), ngramIndex.getKeysWithWordContaining("w"));
+        assertEquals(Collections.singleton("fantasy"), ngramIndex.getKeysWithWordContaining("sy"));
+        assertEquals(3, ngramIndex.getKeysWithWordContaining("lan").size());
+        assertTrue(ngramIndex.getKeysWithWordContaining("xyz").isEmpty());
+    }
+
+    @Test
+    public void getKeysWithWordContaining_longPart_onlyKeysContainingWholePart() {
+        assertEquals(3, ngramIndex.getKeysWithWordContaining("land").size());
+        assertEquals(Collections.singleton("tomorrow"), ngramIndex.getKeysWithWordContaining("rowland"));
+        // every trigram of "landtur" is in "adventureland", but not the whole part
+        assertTrue(ngramIndex.getKeysWithWordContaining("landtur").isEmpty());
+        // parts do not span words
+        assertTrue(ngramIndex.getKeysWithWordContaining("landwest").isEmpty());
+    }
+
+    @Test
+    public void getKeysWithWordContaining_emptyPart_allKeys() {
+        assertEquals(3, ngramIndex.getKeysWithWordContaining("").size());
+    }
+
+    @Test
+    public void remove_key_noLongerFound() {
+        ngramIndex.remove("adventure");
+        assertEquals(Collections.singleton("tomorrow"), ngramIndex.getKeysWithWordContaining("w"));
+        assertTrue(ngramIndex.getKeysWithWordContaining("venture").isEmpty());
+
+        ngramIndex.clear();
+        assertTrue(ngramIndex.getKeysWithWordContaining("land").isEmpty());
+    }
+}
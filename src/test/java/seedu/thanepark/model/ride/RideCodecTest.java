@@ -0,0 +1,83 @@
+package seedu.thanepark.model.ride;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalRides;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.thanepark.commons.core.ParkClock;
+
+public class RideCodecTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RideCodec codec = new RideCodec();
+    private final Clock originalClock = ParkClock.getClock();
+
+    @After
+    public void tearDown() {
+        ParkClock.setClock(originalClock);
+    }
+
+    @Test
+    public void readRide_writtenRides_sameRides() throws Exception {
+        for (Ride ride : getTypicalRides()) {
+            assertEquals(ride, codec.readRide(toInput(toBytes(ride))));
+        }
+    }
+
+    @Test
+    public void readRide_readOnLaterDay_maintenanceAged() throws Exception {
+        int daysSinceMaintenance = ACCELERATOR.getDaysSinceMaintenance().getValue();
+        byte[] bytes = toBytes(ACCELERATOR);
+        ParkClock.setClock(Clock.offset(originalClock, Duration.ofDays(2)));
+        assertEquals(daysSinceMaintenance + 2, codec.readRide(toInput(bytes)).getDaysSinceMaintenance().getValue());
+    }
+
+    @Test
+    public void readRide_invalidName_throwsIoException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeUTF("");
+        out.flush();
+        thrown.expect(IOException.class);
+        codec.readRide(toInput(bytes.toByteArray()));
+    }
+
+    @Test
+    public void readRide_truncated_throwsIoException() throws Exception {
+        byte[] bytes = toBytes(ACCELERATOR);
+        byte[] truncated = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        thrown.expect(IOException.class);
+        codec.readRide(toInput(truncated));
+    }
+
+    /**
+     * Returns {@code ride} as written by the codec.
+     */
+    private byte[] toBytes(Ride ride) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        codec.writeRide(out, ride);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static DataInputStream toInput(byte[] bytes) {
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+}
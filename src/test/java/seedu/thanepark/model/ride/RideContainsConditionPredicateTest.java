@@ -0,0 +1,187 @@
+package seedu.thanepark.model.ride;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalRides;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.thanepark.commons.core.ParkClock;
+import seedu.thanepark.testutil.RideBuilder;
+
+public class RideContainsConditionPredicateTest {
+
+    private final Clock originalClock = ParkClock.getClock();
+
+    @After
+    public void tearDown() {
+        ParkClock.setClock(originalClock);
+    }
+
+    @Test
+    public void equals() {
+        RideContainsConditionPredicate firstPredicate = new RideContainsConditionPredicate(
+                Collections.singletonList(new AttributePredicate("<", new WaitTime("10"))));
+        RideContainsConditionPredicate secondPredicate = new RideContainsConditionPredicate(
+                Collections.singletonList(new AttributePredicate(">", new Maintenance("10"))));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        RideContainsConditionPredicate firstPredicateCopy = new RideContainsConditionPredicate(
+                Collections.singletonList(new AttributePredicate("<", new WaitTime("10"))));
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
+
+        // same values in a different order -> returns true
+        AttributePredicate waitTimeBelowTen = new AttributePredicate("<", new WaitTime("10"));
+        AttributePredicate maintenanceAboveTen = new AttributePredicate(">", new Maintenance("10"));
+        RideContainsConditionPredicate bothPredicate = new RideContainsConditionPredicate(
+                Arrays.asList(waitTimeBelowTen, maintenanceAboveTen));
+        RideContainsConditionPredicate bothPredicateReordered = new RideContainsConditionPredicate(
+                Arrays.asList(maintenanceAboveTen, waitTimeBelowTen));
+        assertTrue(bothPredicate.equals(bothPredicateReordered));
+        assertEquals(bothPredicate.hashCode(), bothPredicateReordered.hashCode());
+
+        // subset of values -> returns false
+        assertFalse(bothPredicate.equals(firstPredicate));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void equals_createdOnDifferentDays() {
+        List<AttributePredicate> waitTimeBelowTen = Collections.singletonList(
+                new AttributePredicate("<", new WaitTime("10")));
+        List<AttributePredicate> maintenanceAboveTen = Collections.singletonList(
+                new AttributePredicate(">", new Maintenance("10")));
+        RideContainsConditionPredicate waitTimePredicate = new RideContainsConditionPredicate(waitTimeBelowTen);
+        RideContainsConditionPredicate maintenancePredicate = new RideContainsConditionPredicate(maintenanceAboveTen);
+        ParkClock.setClock(Clock.offset(originalClock, Duration.ofDays(1)));
+
+        // no maintenance condition -> returns true
+        assertTrue(waitTimePredicate.equals(new RideContainsConditionPredicate(waitTimeBelowTen)));
+
+        // maintenance condition counted from another day -> returns false
+        assertFalse(maintenancePredicate.equals(new RideContainsConditionPredicate(maintenanceAboveTen)));
+    }
+
+    @Test
+    public void test_createdAfterMidnight_daysCountedFromNewDay() {
+        Ride maintainedYesterday = new RideBuilder().withMaintenance("1").build();
+        List<AttributePredicate> maintainedWithinADay = Collections.singletonList(
+                new AttributePredicate("<=", new Maintenance("1")));
+        assertTrue(new RideContainsConditionPredicate(maintainedWithinADay).test(maintainedYesterday));
+
+        ParkClock.setClock(Clock.offset(originalClock, Duration.ofDays(1)));
+        assertFalse(new RideContainsConditionPredicate(maintainedWithinADay).test(maintainedYesterday));
+    }
+
+    @Test
+    public void test_everyOperator_matchesComparison() {
+        List<Ride> rides = getTypicalRides();
+        for (String operator : Arrays.asList("<", "<=", ">", ">=", "=", "==", " ")) {
+            for (int value : new int[] {0, 1, 13, 15, 31, 999999999}) {
+                RideContainsConditionPredicate waitTimePredicate = new RideContainsConditionPredicate(
+                        Collections.singletonList(new AttributePredicate(operator, new WaitTime(value))));
+                RideContainsConditionPredicate maintenancePredicate = new RideContainsConditionPredicate(
+                        Collections.singletonList(new AttributePredicate(operator, new Maintenance(value))));
+                for (Ride ride : rides) {
+                    assertEquals(compare(ride.getWaitingTime().getValue(), operator, value),
+                            waitTimePredicate.test(ride));
+                    assertEquals(compare(ride.getDaysSinceMaintenance().getValue(), operator, value),
+                            maintenancePredicate.test(ride));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_rangesOfBothAttributes_ridesInBothRangesMatch() {
+        RideContainsConditionPredicate predicate = new RideContainsConditionPredicate(Arrays.asList(
+                new AttributePredicate(">", new WaitTime("5")),
+                new AttributePredicate("<=", new WaitTime("15")),
+                new AttributePredicate(">=", new Maintenance("15"))));
+        assertTrue(predicate.test(new RideBuilder().withWaitTime("15").withMaintenance("15").build()));
+        assertFalse(predicate.test(new RideBuilder().withWaitTime("5").withMaintenance("15").build()));
+        assertFalse(predicate.test(new RideBuilder().withWaitTime("16").withMaintenance("15").build()));
+        assertFalse(predicate.test(new RideBuilder().withWaitTime("15").withMaintenance("14").build()));
+
+        // conditions that cannot both hold
+        predicate = new RideContainsConditionPredicate(Arrays.asList(
+                new AttributePredicate("<", new WaitTime("5")),
+                new AttributePredicate(">", new WaitTime("5"))));
+        assertFalse(predicate.test(new RideBuilder().withWaitTime("5").build()));
+    }
+
+    @Test
+    public void select_everyOperator_matchesTest() {
+        UniqueRideList rides = new UniqueRideList();
+        rides.setRides(getTypicalRides());
+        for (String operator : Arrays.asList("<", "<=", ">", ">=", "=", "==", " ")) {
+            for (String value : Arrays.asList("0", "1", "13", "15", "31", "999999999")) {
+                assertSelectMatchesTest(rides, new RideContainsConditionPredicate(
+                        Collections.singletonList(new AttributePredicate(operator, new WaitTime(value)))));
+                assertSelectMatchesTest(rides, new RideContainsConditionPredicate(
+                        Collections.singletonList(new AttributePredicate(operator, new Maintenance(value)))));
+            }
+        }
+    }
+
+    @Test
+    public void select_multiplePredicates_matchesTest() {
+        UniqueRideList rides = new UniqueRideList();
+        rides.setRides(getTypicalRides());
+        assertSelectMatchesTest(rides, new RideContainsConditionPredicate(Arrays.asList(
+                new AttributePredicate(">", new WaitTime("5")),
+                new AttributePredicate("<=", new WaitTime("15")),
+                new AttributePredicate(">=", new Maintenance("15")))));
+        assertSelectMatchesTest(rides, new RideContainsConditionPredicate(Collections.emptyList()));
+    }
+
+    /**
+     * Returns the result of comparing {@code value} with {@code threshold} using {@code operator}.
+     */
+    private static boolean compare(int value, String operator, int threshold) {
+        switch (operator.trim()) {
+        case "<":
+            return value < threshold;
+        case "<=":
+            return value <= threshold;
+        case ">":
+            return value > threshold;
+        case ">=":
+            return value >= threshold;
+        case "=":
+        case "==":
+            return value == threshold;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Asserts that answering {@code predicate} from the index of {@code rides} gives the same rides as testing
+     * every ride.
+     */
+    private void assertSelectMatchesTest(UniqueRideList rides, RideContainsConditionPredicate predicate) {
+        Set<Ride> expected = rides.asUnmodifiableObservableList().stream()
+                .filter(predicate).collect(Collectors.toSet());
+        assertEquals(expected, predicate.select(rides.getRideIndex()).stream().collect(Collectors.toSet()));
+    }
+}
@@ -1,14 +1,23 @@
 package seedu.thanepark.model.ride;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalRides;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
+import seedu.thanepark.model.tag.Tag;
+import seedu.thanepark.testutil.Assert;
 import seedu.thanepark.testutil.RideBuilder;
 
 public class RideContainsKeywordsPredicateTest {
@@ -27,6 +36,7 @@ public class RideContainsKeywordsPredicateTest {
         // same values -> returns true
         RideContainsKeywordsPredicate firstPredicateCopy = new RideContainsKeywordsPredicate(firstPredicateKeywordList);
         assertTrue(firstPredicate.equals(firstPredicateCopy));
+        assertEquals(firstPredicate.hashCode(), firstPredicateCopy.hashCode());
 
         // different types -> returns false
         assertFalse(firstPredicate.equals(1));
@@ -36,6 +46,19 @@ public class RideContainsKeywordsPredicateTest {
 
         // different ride -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different zone -> returns false
+        RideContainsKeywordsPredicate zonePredicate = new RideContainsKeywordsPredicate(Collections.emptyList(),
+                Optional.of(new Zone("wall street")));
+        assertFalse(zonePredicate.equals(new RideContainsKeywordsPredicate(Collections.emptyList(),
+                Optional.of(new Zone("little india")))));
+        assertFalse(zonePredicate.equals(new RideContainsKeywordsPredicate(Collections.emptyList())));
+
+        // different tags -> returns false
+        RideContainsKeywordsPredicate tagPredicate = new RideContainsKeywordsPredicate(Collections.emptyList(),
+                Optional.of(new HashSet<>(Collections.singleton(new Tag("indoor")))));
+        assertFalse(tagPredicate.equals(new RideContainsKeywordsPredicate(Collections.emptyList(),
+                Optional.of(new HashSet<>(Collections.singleton(new Tag("outdoor")))))));
     }
 
     @Test
@@ -72,4 +95,40 @@ public class RideContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new RideBuilder().withName("Alice").withMaintenance("12345")
                 .withWaitTime("1").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void select_nameKeywords_sameRidesAsTest() {
+        UniqueRideList rides = new UniqueRideList();
+        rides.setRides(getTypicalRides());
+        RideContainsKeywordsPredicate predicate = new RideContainsKeywordsPredicate(Arrays.asList("CASTLE", "dumbo",
+                "Nothing"));
+
+        Set<Ride> expected = rides.asUnmodifiableObservableList().stream().filter(predicate)
+                .collect(Collectors.toSet());
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, new HashSet<>(predicate.select(rides.getRideIndex())));
+    }
+
+    @Test
+    public void constructor_editDistanceOutOfRange_throwsIllegalArgumentException() {
+        List<String> keywords = Collections.singletonList("Alice");
+        Assert.assertThrows(IllegalArgumentException.class, () -> new RideContainsKeywordsPredicate(keywords,
+                Optional.of(-1)));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new RideContainsKeywordsPredicate(keywords,
+                Optional.of(RideContainsKeywordsPredicate.MAX_EDIT_DISTANCE + 1)));
+    }
+
+    @Test
+    public void getRanking_mistypedKeyword_closestNameFirst() {
+        RideContainsKeywordsPredicate predicate = new RideContainsKeywordsPredicate(
+                Collections.singletonList("Alise"), Optional.of(2));
+        Ride alice = new RideBuilder().withName("Alice").build();
+        Ride alicia = new RideBuilder().withName("Alicia").build();
+        Comparator<Ride> ranking = predicate.getRanking().get();
+
+        assertTrue(ranking.compare(alice, alicia) < 0);
+        assertTrue(ranking.compare(alicia, alice) > 0);
+        assertEquals(0, ranking.compare(alice, alice));
+        assertFalse(new RideContainsKeywordsPredicate(Collections.singletonList("Alise")).getRanking().isPresent());
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.thanepark.model.ride;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
+import static seedu.thanepark.testutil.TypicalRides.BIG;
+import static seedu.thanepark.testutil.TypicalRides.CASTLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.thanepark.model.tag.Tag;
+import seedu.thanepark.testutil.RideBuilder;
+
+public class RideIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueRideList uniqueRideList = new UniqueRideList();
+    private final RideIndex rideIndex = uniqueRideList.getRideIndex();
+
+    @Test
+    public void getRidesWithStatus_nullStatus_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        rideIndex.getRidesWithStatus(null);
+    }
+
+    @Test
+    public void add_ride_indexedByAllKeys() {
+        uniqueRideList.add(ACCELERATOR);
+        assertTrue(rideIndex.getAllRides().contains(ACCELERATOR));
+        assertTrue(rideIndex.getRidesWithStatus(Status.OPEN).contains(ACCELERATOR));
+        assertTrue(rideIndex.getRidesInZone(ACCELERATOR.getZone()).contains(ACCELERATOR));
+        assertTrue(rideIndex.getRidesWithTag(new Tag("rollerCoaster")).contains(ACCELERATOR));
+    }
+
+    @Test
+    public void setRide_changedStatus_movesRideBetweenStatuses() {
+        uniqueRideList.add(ACCELERATOR);
+        Ride shutDownAccelerator = new RideBuilder(ACCELERATOR).withStatus(Status.SHUTDOWN).build();
+        uniqueRideList.setRide(ACCELERATOR, shutDownAccelerator);
+        assertTrue(rideIndex.getRidesWithStatus(Status.OPEN).isEmpty());
+        assertTrue(rideIndex.getRidesWithStatus(Status.SHUTDOWN).contains(shutDownAccelerator));
+    }
+
+    @Test
+    public void remove_lastRideInZone_removesZone() {
+        uniqueRideList.add(ACCELERATOR);
+        uniqueRideList.add(CASTLE);
+        uniqueRideList.remove(ACCELERATOR);
+        assertFalse(rideIndex.getZones().contains(ACCELERATOR.getZone()));
+        assertTrue(rideIndex.getRidesWithTag(new Tag("rollerCoaster")).isEmpty());
+        assertEquals(1, rideIndex.getAllRides().size());
+    }
+
+    @Test
+    public void setRides_list_reindexesRides() {
+        uniqueRideList.add(ACCELERATOR);
+        uniqueRideList.setRides(Arrays.asList(BIG, CASTLE));
+        assertFalse(rideIndex.getAllRides().contains(ACCELERATOR));
+        assertEquals(1, rideIndex.getRidesWithTag(new Tag("rollerCoaster")).size());
+        assertEquals(2, rideIndex.getRidesWithStatus(Status.OPEN).size());
+    }
+
+    @Test
+    public void getRidesWithNameWord_anyCase_ridesWithWordInName() {
+        Ride bigCastle = new RideBuilder().withName("Big Castle").build();
+        uniqueRideList.add(bigCastle);
+        uniqueRideList.add(new RideBuilder().withName("Castle of Big Thunder").build());
+        assertEquals(2, rideIndex.getRidesWithNameWord("bIG").size());
+        assertEquals(1, rideIndex.getRidesWithNameWord("Thunder").size());
+        assertTrue(rideIndex.getRidesWithNameWord("Cast").isEmpty());
+
+        uniqueRideList.setRide(bigCastle, new RideBuilder(bigCastle).withName("Small Castle").build());
+        assertEquals(1, rideIndex.getRidesWithNameWord("big").size());
+        assertEquals(1, rideIndex.getRidesWithNameWord("small").size());
+        assertEquals(2, rideIndex.getRidesWithNameWord("castle").size());
+    }
+
+    @Test
+    public void getZonesWithWordsContaining_parts_zonesWithEveryPart() {
+        Ride westRide = new RideBuilder().withName("West Ride").withAddress("Adventureland West").build();
+        uniqueRideList.add(westRide);
+        uniqueRideList.add(new RideBuilder().withName("East Ride").withAddress("Adventureland East").build());
+        uniqueRideList.add(new RideBuilder().withName("Other Ride").withAddress("Tomorrowland").build());
+        assertEquals(3, rideIndex.getZonesWithWordsContaining(Arrays.asList("LAND")).size());
+        assertEquals(2, rideIndex.getZonesWithWordsContaining(Arrays.asList("venture")).size());
+        assertEquals(Collections.singleton(westRide.getZone()),
+                rideIndex.getZonesWithWordsContaining(Arrays.asList("venture", "wes")));
+        assertTrue(rideIndex.getZonesWithWordsContaining(Arrays.asList("landwest")).isEmpty());
+
+        uniqueRideList.remove(westRide);
+        assertTrue(rideIndex.getZonesWithWordsContaining(Arrays.asList("wes")).isEmpty());
+    }
+
+    @Test
+    public void getRidesWithTag_modifySet_throwsUnsupportedOperationException() {
+        uniqueRideList.add(ACCELERATOR);
+        thrown.expect(UnsupportedOperationException.class);
+        rideIndex.getRidesWithTag(new Tag("rollerCoaster")).clear();
+    }
+}
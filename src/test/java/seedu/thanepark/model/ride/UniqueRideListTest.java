@@ -7,10 +7,12 @@ import static seedu.thanepark.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.thanepark.logic.commands.CommandTestUtil.VALID_ZONE_BOB;
 import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
 import static seedu.thanepark.testutil.TypicalRides.BOB;
+import static seedu.thanepark.testutil.TypicalRides.CASTLE;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -51,6 +53,13 @@ public class UniqueRideListTest {
         assertTrue(uniqueRideList.contains(editedAlice));
     }
 
+    @Test
+    public void get_name_returnsRideWithName() {
+        uniqueRideList.add(ACCELERATOR);
+        assertEquals(Optional.of(ACCELERATOR), uniqueRideList.get(ACCELERATOR.getName()));
+        assertEquals(Optional.empty(), uniqueRideList.get(BOB.getName()));
+    }
+
     @Test
     public void add_nullRide_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -119,6 +128,23 @@ public class UniqueRideListTest {
         uniqueRideList.setRide(ACCELERATOR, BOB);
     }
 
+    @Test
+    public void setRide_editedRideHasDifferentIdentity_releasesOldIdentity() {
+        uniqueRideList.add(ACCELERATOR);
+        uniqueRideList.setRide(ACCELERATOR, BOB);
+        assertFalse(uniqueRideList.contains(ACCELERATOR));
+        uniqueRideList.add(ACCELERATOR);
+        assertTrue(uniqueRideList.contains(BOB));
+    }
+
+    @Test
+    public void setRide_targetRideHasSameIdentityButDifferentFields_throwsRideNotFoundException() {
+        uniqueRideList.add(ACCELERATOR);
+        Ride editedAlice = new RideBuilder(ACCELERATOR).withAddress(VALID_ZONE_BOB).build();
+        thrown.expect(RideNotFoundException.class);
+        uniqueRideList.setRide(editedAlice, BOB);
+    }
+
     @Test
     public void remove_nullRide_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -139,6 +165,18 @@ public class UniqueRideListTest {
         assertEquals(expectedUniqueRideList, uniqueRideList);
     }
 
+    @Test
+    public void remove_existingRideInMiddle_keepsLaterRidesAccessible() {
+        uniqueRideList.add(ACCELERATOR);
+        uniqueRideList.add(BOB);
+        uniqueRideList.add(CASTLE);
+        uniqueRideList.remove(BOB);
+        uniqueRideList.remove(CASTLE);
+        UniqueRideList expectedUniqueRideList = new UniqueRideList();
+        expectedUniqueRideList.add(ACCELERATOR);
+        assertEquals(expectedUniqueRideList, uniqueRideList);
+    }
+
     @Test
     public void setRides_nullUniqueRideList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
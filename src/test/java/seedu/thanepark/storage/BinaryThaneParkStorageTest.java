@@ -0,0 +1,156 @@
+package seedu.thanepark.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.thanepark.testutil.TypicalRides.HAUNTED;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalThanePark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.thanepark.commons.exceptions.DataConversionException;
+import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.Zone;
+import seedu.thanepark.model.tag.Tag;
+
+public class BinaryThaneParkStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path binaryFilePath;
+    private Path xmlFilePath;
+
+    @Before
+    public void setUp() {
+        binaryFilePath = testFolder.getRoot().toPath().resolve("thanepark.bin");
+        xmlFilePath = testFolder.getRoot().toPath().resolve("thanepark.xml");
+    }
+
+    @Test
+    public void readThanePark_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryThaneParkStorage(binaryFilePath).readThanePark(null);
+    }
+
+    @Test
+    public void readThanePark_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryThaneParkStorage(binaryFilePath).readThanePark().isPresent());
+    }
+
+    @Test
+    public void readAndSaveThanePark_allInOrder_success() throws Exception {
+        BinaryThaneParkStorage storage = new BinaryThaneParkStorage(binaryFilePath);
+        ThanePark original = getTypicalThanePark();
+        storage.saveThanePark(original);
+        assertEquals(original, new ThanePark(storage.readThanePark().get()));
+
+        original.addRide(HAUNTED);
+        storage.saveThanePark(original);
+        assertEquals(original, new ThanePark(storage.readThanePark().get()));
+
+        storage.saveThanePark(new ThanePark());
+        assertEquals(new ThanePark(), new ThanePark(storage.readThanePark().get()));
+    }
+
+    @Test
+    public void saveThanePark_typicalRides_numbersWrittenAsVarInts() throws Exception {
+        ThanePark thanePark = getTypicalThanePark();
+        new BinaryThaneParkStorage(binaryFilePath).saveThanePark(thanePark);
+
+        Set<Zone> zones = new HashSet<>();
+        Set<Tag> tags = new HashSet<>();
+        // magic number, version, and the counts of zones, tags and rides, all of them small
+        long expectedSize = Integer.BYTES + 4;
+        for (Ride ride : thanePark.getRideList()) {
+            // record length, name, maintenance date in 3 bytes, then waiting time, zone, status and tag count in 1
+            expectedSize += 1 + 2 + ride.getName().fullName.length() + 3 + 4 + ride.getTags().size();
+            if (zones.add(ride.getZone())) {
+                expectedSize += 1 + ride.getZone().value.length();
+            }
+            for (Tag tag : ride.getTags()) {
+                if (tags.add(tag)) {
+                    expectedSize += 1 + tag.tagName.length();
+                }
+            }
+        }
+        expectedSize += Integer.BYTES; // checksum
+        assertEquals(expectedSize, Files.size(binaryFilePath));
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_lossless() throws Exception {
+        ThanePark original = getTypicalThanePark();
+        new XmlThaneParkStorage(xmlFilePath).saveThanePark(original);
+
+        BinaryThaneParkStorage.convertFromXml(xmlFilePath, binaryFilePath);
+        assertTrue(Files.size(binaryFilePath) < Files.size(xmlFilePath));
+        assertEquals(original, new ThanePark(new BinaryThaneParkStorage(binaryFilePath).readThanePark().get()));
+
+        byte[] xmlBytes = Files.readAllBytes(xmlFilePath);
+        Files.delete(xmlFilePath);
+        BinaryThaneParkStorage.convertToXml(binaryFilePath, xmlFilePath);
+        assertEquals(new String(xmlBytes, "UTF-8"), new String(Files.readAllBytes(xmlFilePath), "UTF-8"));
+    }
+
+    @Test
+    public void readThanePark_notBinaryFormat_throwsDataConversionException() throws Exception {
+        new XmlThaneParkStorage(xmlFilePath).saveThanePark(getTypicalThanePark());
+        thrown.expect(DataConversionException.class);
+        new BinaryThaneParkStorage(xmlFilePath).readThanePark();
+    }
+
+    @Test
+    public void readThanePark_corruptedFile_throwsDataConversionException() throws Exception {
+        new BinaryThaneParkStorage(binaryFilePath).saveThanePark(getTypicalThanePark());
+        byte[] bytes = Files.readAllBytes(binaryFilePath);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(binaryFilePath, bytes);
+        thrown.expect(DataConversionException.class);
+        new BinaryThaneParkStorage(binaryFilePath).readThanePark();
+    }
+
+    @Test
+    public void readThanePark_truncatedFile_throwsDataConversionException() throws Exception {
+        new BinaryThaneParkStorage(binaryFilePath).saveThanePark(getTypicalThanePark());
+        byte[] bytes = Files.readAllBytes(binaryFilePath);
+        byte[] truncated = new byte[bytes.length - 3];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Files.write(binaryFilePath, truncated);
+        thrown.expect(DataConversionException.class);
+        new BinaryThaneParkStorage(binaryFilePath).readThanePark();
+    }
+
+    @Test
+    public void saveThanePark_overExistingFile_noTemporaryFileLeft() throws Exception {
+        BinaryThaneParkStorage storage = new BinaryThaneParkStorage(binaryFilePath);
+        storage.saveThanePark(getTypicalThanePark());
+        storage.saveThanePark(new ThanePark());
+        assertEquals(new ThanePark(), new ThanePark(storage.readThanePark().get()));
+        assertEquals(1, testFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        // xml file -> binary file of the same name
+        assertEquals(binaryFilePath, BinaryThaneParkStorage.getBinaryFilePath(xmlFilePath));
+
+        // any other file -> same file
+        assertEquals(binaryFilePath, BinaryThaneParkStorage.getBinaryFilePath(binaryFilePath));
+        Path noExtension = testFolder.getRoot().toPath().resolve("thanepark");
+        assertEquals(noExtension, BinaryThaneParkStorage.getBinaryFilePath(noExtension));
+    }
+}
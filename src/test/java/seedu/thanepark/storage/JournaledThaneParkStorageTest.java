@@ -0,0 +1,175 @@
+package seedu.thanepark.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
+import static seedu.thanepark.testutil.TypicalRides.AMY;
+import static seedu.thanepark.testutil.TypicalRides.BOB;
+import static seedu.thanepark.testutil.TypicalRides.HAUNTED;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalThanePark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.thanepark.commons.exceptions.DataConversionException;
+import seedu.thanepark.model.ThanePark;
+import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.testutil.RideBuilder;
+import seedu.thanepark.testutil.ThaneParkBuilder;
+
+public class JournaledThaneParkStorageTest {
+
+    // Magic number, then the size and checksum of the checkpoint.
+    private static final int JOURNAL_HEADER_LENGTH = Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("thanepark.xml");
+        journalFilePath = JournaledThaneParkStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readThanePark_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledThaneParkStorage(filePath).readThanePark().isPresent());
+    }
+
+    @Test
+    public void saveThanePark_changesAfterCheckpoint_journaledAndReplayed() throws Exception {
+        JournaledThaneParkStorage storage = new JournaledThaneParkStorage(filePath);
+        ThanePark thanePark = getTypicalThanePark();
+        storage.saveThanePark(thanePark);
+        ThanePark checkpoint = new ThanePark(thanePark);
+
+        // add, update and delete
+        thanePark.addRide(HAUNTED);
+        storage.saveThanePark(thanePark);
+        Ride editedAccelerator = new RideBuilder(ACCELERATOR).withWaitTime("42").build();
+        thanePark.updateRide(ACCELERATOR, editedAccelerator);
+        storage.saveThanePark(thanePark);
+        thanePark.removeRide(HAUNTED);
+        storage.saveThanePark(thanePark);
+        thanePark.addRide(0, HAUNTED);
+        storage.saveThanePark(thanePark);
+
+        // checkpoint is left as it was, and the changes are read back from the journal
+        assertEquals(checkpoint, new ThanePark(new XmlThaneParkStorage(filePath).readThanePark().get()));
+        assertEquals(thanePark, new ThanePark(new JournaledThaneParkStorage(filePath).readThanePark().get()));
+
+        // reordering rides is not journaled, and writes a checkpoint instead
+        thanePark.removeRide(editedAccelerator);
+        thanePark.addRide(editedAccelerator);
+        storage.saveThanePark(thanePark);
+        assertEquals(thanePark, new ThanePark(new XmlThaneParkStorage(filePath).readThanePark().get()));
+        assertEquals(thanePark, new ThanePark(new JournaledThaneParkStorage(filePath).readThanePark().get()));
+    }
+
+    @Test
+    public void saveThanePark_clearedAfterRead_journaledAndReplayed() throws Exception {
+        new JournaledThaneParkStorage(filePath).saveThanePark(getTypicalThanePark());
+
+        JournaledThaneParkStorage storage = new JournaledThaneParkStorage(filePath);
+        storage.readThanePark();
+        storage.saveThanePark(new ThanePark());
+        assertEquals(new ThanePark(), new ThanePark(new JournaledThaneParkStorage(filePath).readThanePark().get()));
+    }
+
+    @Test
+    public void saveThanePark_journalFull_checkpointWritten() throws Exception {
+        JournaledThaneParkStorage storage = new JournaledThaneParkStorage(filePath, 2, Long.MAX_VALUE);
+        ThanePark thanePark = new ThanePark();
+        storage.saveThanePark(thanePark);
+        thanePark.addRide(AMY);
+        storage.saveThanePark(thanePark);
+        assertEquals(new ThanePark(), new ThanePark(new XmlThaneParkStorage(filePath).readThanePark().get()));
+
+        thanePark.addRide(BOB);
+        storage.saveThanePark(thanePark);
+        assertEquals(thanePark, new ThanePark(new XmlThaneParkStorage(filePath).readThanePark().get()));
+        assertEquals(thanePark, new ThanePark(new JournaledThaneParkStorage(filePath).readThanePark().get()));
+    }
+
+    @Test
+    public void readThanePark_tornRecordAtEndOfJournal_recordIgnored() throws Exception {
+        JournaledThaneParkStorage storage = new JournaledThaneParkStorage(filePath);
+        ThanePark thanePark = new ThaneParkBuilder().withRide(AMY).build();
+        storage.saveThanePark(thanePark);
+        thanePark.addRide(BOB);
+        storage.saveThanePark(thanePark);
+        Files.write(journalFilePath, new byte[] {0, 0, 1, 0, 7}, StandardOpenOption.APPEND);
+
+        JournaledThaneParkStorage restartedStorage = new JournaledThaneParkStorage(filePath);
+        assertEquals(thanePark, new ThanePark(restartedStorage.readThanePark().get()));
+
+        // later records are appended after the last complete record
+        thanePark.addRide(HAUNTED);
+        restartedStorage.saveThanePark(thanePark);
+        assertEquals(thanePark, new ThanePark(new JournaledThaneParkStorage(filePath).readThanePark().get()));
+    }
+
+    @Test
+    public void readThanePark_tornRecordLongerThanJournal_recordIgnored() throws Exception {
+        JournaledThaneParkStorage storage = new JournaledThaneParkStorage(filePath);
+        ThanePark thanePark = new ThaneParkBuilder().withRide(AMY).build();
+        storage.saveThanePark(thanePark);
+        thanePark.addRide(BOB);
+        storage.saveThanePark(thanePark);
+        Files.write(journalFilePath, new byte[] {0x7f, 0, 0, 0, 1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        assertEquals(thanePark, new ThanePark(new JournaledThaneParkStorage(filePath).readThanePark().get()));
+    }
+
+    @Test
+    public void readThanePark_corruptedRecordBeforeEnd_throwsDataConversionException() throws Exception {
+        JournaledThaneParkStorage storage = new JournaledThaneParkStorage(filePath);
+        ThanePark thanePark = new ThaneParkBuilder().withRide(AMY).build();
+        storage.saveThanePark(thanePark);
+        thanePark.addRide(BOB);
+        storage.saveThanePark(thanePark);
+        thanePark.addRide(HAUNTED);
+        storage.saveThanePark(thanePark);
+
+        // flips a byte in the contents of the first record, which is followed by the second
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        journal[JOURNAL_HEADER_LENGTH + Integer.BYTES + 2] ^= 1;
+        Files.write(journalFilePath, journal);
+
+        try {
+            new JournaledThaneParkStorage(filePath).readThanePark();
+            fail();
+        } catch (DataConversionException e) {
+            assertArrayEquals(journal, Files.readAllBytes(journalFilePath.resolveSibling(
+                    journalFilePath.getFileName() + ".corrupted")));
+            assertTrue(Files.exists(filePath.resolveSibling(filePath.getFileName() + ".corrupted")));
+        }
+    }
+
+    @Test
+    public void readThanePark_journalOfOlderCheckpoint_journalIgnored() throws Exception {
+        JournaledThaneParkStorage storage = new JournaledThaneParkStorage(filePath);
+        ThanePark thanePark = new ThaneParkBuilder().withRide(AMY).build();
+        storage.saveThanePark(thanePark);
+        thanePark.addRide(BOB);
+        storage.saveThanePark(thanePark);
+        assertTrue(Files.size(journalFilePath) > 0);
+
+        // checkpoint replaced without its journal, as after a crash while writing a checkpoint
+        ThanePark newCheckpoint = new ThaneParkBuilder().withRide(HAUNTED).build();
+        new XmlThaneParkStorage(filePath).saveThanePark(newCheckpoint);
+        assertEquals(newCheckpoint, new ThanePark(new JournaledThaneParkStorage(filePath).readThanePark().get()));
+    }
+}
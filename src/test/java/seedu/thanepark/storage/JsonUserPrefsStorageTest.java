@@ -79,6 +79,25 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_filterCacheSizeTooSmall_smallestSizeUsed() throws DataConversionException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setFilterCacheSize(UserPrefs.MIN_FILTER_CACHE_SIZE);
+        UserPrefs actual = readUserPrefs("ZeroFilterCacheSizeUserPref.json").get();
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void readUserPrefs_undoHistoryLimitsTooSmall_smallestLimitsUsed() throws DataConversionException {
+        UserPrefs expected = getTypicalUserPrefs();
+        expected.setUndoHistoryMaxStates(UserPrefs.MIN_UNDO_HISTORY_MAX_STATES);
+        expected.setUndoHistoryMemoryBudget(UserPrefs.MIN_UNDO_HISTORY_MEMORY_BUDGET);
+        UserPrefs actual = readUserPrefs("InvalidUndoHistoryUserPref.json").get();
+
+        assertEquals(expected, actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(1000, 500, 300, 100);
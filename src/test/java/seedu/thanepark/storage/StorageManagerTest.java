@@ -1,8 +1,10 @@
 package seedu.thanepark.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.thanepark.testutil.TypicalRides.AMY;
 import static seedu.thanepark.testutil.TypicalRides.getTypicalThanePark;
 
 import java.io.IOException;
@@ -16,6 +18,7 @@ import org.junit.rules.TemporaryFolder;
 
 import seedu.thanepark.commons.events.model.ThaneParkChangedEvent;
 import seedu.thanepark.commons.events.storage.DataSavingExceptionEvent;
+import seedu.thanepark.commons.events.storage.DataSavingStatusChangedEvent;
 import seedu.thanepark.model.ReadOnlyThanePark;
 import seedu.thanepark.model.ThanePark;
 import seedu.thanepark.model.UserPrefs;
@@ -83,6 +86,61 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleThaneParkChangedEvent_writeBehind_savesLatestDataOnceOnFlush() throws Exception {
+        XmlThaneParkStorageCountingStub thaneParkStorage = new XmlThaneParkStorageCountingStub(getTempFilePath("ab"));
+        // a quiet period long enough that only the flush saves
+        Storage storage = new StorageManager(thaneParkStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                60000, 60000);
+        ThanePark thanePark = getTypicalThanePark();
+        storage.handleThaneParkChangedEvent(new ThaneParkChangedEvent(thanePark));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingStatusChangedEvent);
+
+        // changes made after the event are saved by the next event, not by the pending save
+        thanePark.addRide(AMY);
+        storage.handleThaneParkChangedEvent(new ThaneParkChangedEvent(thanePark));
+        thanePark.removeRide(AMY);
+        assertEquals(0, thaneParkStorage.saveCount);
+
+        storage.flushPendingSaves();
+        assertEquals(1, thaneParkStorage.saveCount);
+        ThanePark expected = getTypicalThanePark();
+        expected.addRide(AMY);
+        assertEquals(expected, new ThanePark(storage.readThanePark().get()));
+        DataSavingStatusChangedEvent lastEvent =
+                (DataSavingStatusChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertFalse(lastEvent.hasPendingSave);
+
+        // nothing left to save
+        storage.flushPendingSaves();
+        assertEquals(1, thaneParkStorage.saveCount);
+    }
+
+    @Test
+    public void handleThaneParkChangedEvent_writeBehindExceptionThrown_eventRaised() {
+        Storage storage = new StorageManager(new XmlThaneParkStorageExceptionThrowingStub(Paths.get("dummy")),
+                                             new JsonUserPrefsStorage(Paths.get("dummy")), 60000, 60000);
+        storage.handleThaneParkChangedEvent(new ThaneParkChangedEvent(new ThanePark()));
+        storage.flushPendingSaves();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    /**
+     * A Stub class to count the number of times the data is saved.
+     */
+    class XmlThaneParkStorageCountingStub extends XmlThaneParkStorage {
+        private int saveCount;
+
+        public XmlThaneParkStorageCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveThanePark(ReadOnlyThanePark thanePark, Path filePath) throws IOException {
+            saveCount++;
+            super.saveThanePark(thanePark, filePath);
+        }
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
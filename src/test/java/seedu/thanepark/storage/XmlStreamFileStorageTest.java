@@ -0,0 +1,76 @@
+package seedu.thanepark.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.thanepark.testutil.TypicalRides.getTypicalThanePark;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.thanepark.commons.exceptions.DataConversionException;
+import seedu.thanepark.commons.exceptions.IllegalValueException;
+import seedu.thanepark.commons.util.FileUtil;
+import seedu.thanepark.commons.util.XmlUtil;
+import seedu.thanepark.model.ThanePark;
+
+public class XmlStreamFileStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableThaneParkTest");
+    private static final Path TYPICAL_RIDES_FILE = TEST_DATA_FOLDER.resolve("typicalRideThanePark.xml");
+    private static final Path INVALID_RIDE_FILE = TEST_DATA_FOLDER.resolve("invalidRideThanePark.xml");
+    private static final Path DUPLICATE_RIDE_FILE = TEST_DATA_FOLDER.resolve("duplicateRideThanePark.xml");
+    private static final Path NOT_XML_FILE = Paths.get("src", "test", "data", "XmlThaneParkStorageTest",
+            "NotXmlFormatThanePark.xml");
+    private static final Path WRONG_ROOT_FILE = Paths.get("src", "test", "data", "XmlUtilTest", "validRide.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void loadDataFromSaveFile_typicalRidesFile_success() throws Exception {
+        assertEquals(getTypicalThanePark(), XmlStreamFileStorage.loadDataFromSaveFile(TYPICAL_RIDES_FILE));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_invalidRideFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(INVALID_RIDE_FILE);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_duplicateRides_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableThanePark.MESSAGE_DUPLICATE_RIDE);
+        XmlStreamFileStorage.loadDataFromSaveFile(DUPLICATE_RIDE_FILE);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(NOT_XML_FILE);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_wrongRootElement_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(WRONG_ROOT_FILE);
+    }
+
+    @Test
+    public void saveDataToFile_typicalThanePark_readableAsXmlSerializableThanePark() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("thanepark.xml");
+        FileUtil.createFile(file);
+        ThanePark original = getTypicalThanePark();
+        XmlStreamFileStorage.saveDataToFile(file, original);
+
+        XmlSerializableThanePark dataFromFile = XmlUtil.getDataFromFile(file, XmlSerializableThanePark.class);
+        assertEquals(new XmlSerializableThanePark(original), dataFromFile);
+        assertEquals(original, XmlStreamFileStorage.loadDataFromSaveFile(file));
+    }
+}
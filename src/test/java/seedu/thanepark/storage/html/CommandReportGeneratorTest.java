@@ -0,0 +1,115 @@
+package seedu.thanepark.storage.html;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.thanepark.commons.util.FilePathToUrl;
+import seedu.thanepark.model.logging.CommandEntry;
+import seedu.thanepark.model.logging.ExecutedCommand;
+
+public class CommandReportGeneratorTest {
+
+    private static final Runnable DO_NOTHING = () -> { };
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path firstPagePath;
+    private FilePathToUrl firstPage;
+
+    @Before
+    public void setUp() throws IOException {
+        firstPagePath = testFolder.getRoot().toPath().resolve("report.html");
+        firstPage = new FilePathToUrl(firstPagePath.toString(), true);
+        // the stylesheet is only packaged as a resource by the full build
+        Files.createFile(firstPagePath.resolveSibling("asciidoctor.css"));
+    }
+
+    @Test
+    public void generatePagedHtml_manyEntries_splitIntoLinkedPages() throws IOException {
+        List<CommandEntry> commandEntries = createCommandEntries(25);
+        boolean[] isFirstPageWritten = {false};
+        CommandReportGenerator.getInstance().generatePagedHtml("Report", commandEntries, 10, firstPage, () -> {
+            assertTrue(Files.exists(firstPagePath));
+            assertFalse(Files.exists(HtmlGenerator.getPageFilePath(firstPagePath, 2)));
+            isFirstPageWritten[0] = true;
+        });
+        assertTrue(isFirstPageWritten[0]);
+
+        String page1 = readPage(1);
+        String page2 = readPage(2);
+        String page3 = readPage(3);
+        assertFalse(Files.exists(HtmlGenerator.getPageFilePath(firstPagePath, 4)));
+
+        assertTrue(hasRow(page1, 1) && hasRow(page1, 10) && !hasRow(page1, 11));
+        assertTrue(hasRow(page2, 11) && hasRow(page2, 20) && !hasRow(page2, 21));
+        assertTrue(hasRow(page3, 21) && hasRow(page3, 25));
+
+        assertFalse(page1.contains("href=\"report.html\""));
+        assertTrue(page1.contains("href=\"report-2.html\""));
+        assertTrue(page2.contains("href=\"report.html\"") && page2.contains("href=\"report-3.html\""));
+        assertTrue(page3.contains("href=\"report-2.html\"") && !page3.contains("href=\"report-4.html\""));
+    }
+
+    @Test
+    public void generatePagedHtml_fewerEntriesThanBefore_leftoverPagesDeleted() throws IOException {
+        CommandReportGenerator generator = CommandReportGenerator.getInstance();
+        generator.generatePagedHtml("Report", createCommandEntries(25), 10, firstPage, DO_NOTHING);
+        generator.generatePagedHtml("Report", createCommandEntries(5), 10, firstPage, DO_NOTHING);
+
+        assertTrue(hasRow(readPage(1), 5));
+        assertFalse(Files.exists(HtmlGenerator.getPageFilePath(firstPagePath, 2)));
+        assertFalse(Files.exists(HtmlGenerator.getPageFilePath(firstPagePath, 3)));
+    }
+
+    @Test
+    public void generatePagedHtml_noEntries_singlePageWithoutTable() throws IOException {
+        CommandReportGenerator.getInstance().generatePagedHtml("Report", new ArrayList<>(), 10, firstPage, DO_NOTHING);
+        assertFalse(readPage(1).contains("<table"));
+        assertFalse(Files.exists(HtmlGenerator.getPageFilePath(firstPagePath, 2)));
+    }
+
+    @Test
+    public void getPageFilePath() {
+        assertEquals(firstPagePath, HtmlGenerator.getPageFilePath(firstPagePath, 1));
+        assertEquals(firstPagePath.resolveSibling("report-12.html"), HtmlGenerator.getPageFilePath(firstPagePath, 12));
+    }
+
+    /**
+     * Returns true if {@code page} has the row of the entry created by {@link #createCommandEntries(int)} for
+     * {@code delete i}.
+     */
+    private boolean hasRow(String page, int i) {
+        return page.contains("<td>" + i + "</td>");
+    }
+
+    private String readPage(int page) throws IOException {
+        return new String(Files.readAllBytes(HtmlGenerator.getPageFilePath(firstPagePath, page)),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns {@code count} entries, for {@code delete 1} to {@code delete count}.
+     */
+    private List<CommandEntry> createCommandEntries(int count) {
+        List<CommandEntry> commandEntries = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            commandEntries.add(new CommandEntry(Instant.now(), new ExecutedCommand("delete " + i)));
+        }
+        return commandEntries;
+    }
+}
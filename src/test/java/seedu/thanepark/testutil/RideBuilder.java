@@ -6,6 +6,7 @@ import java.util.Set;
 import seedu.thanepark.model.ride.Maintenance;
 import seedu.thanepark.model.ride.Name;
 import seedu.thanepark.model.ride.Ride;
+import seedu.thanepark.model.ride.Status;
 import seedu.thanepark.model.ride.WaitTime;
 import seedu.thanepark.model.ride.Zone;
 import seedu.thanepark.model.tag.Tag;
@@ -27,6 +28,7 @@ public class RideBuilder {
     private WaitTime waitingTime;
     private Zone zone;
     private Set<Tag> tags;
+    private Status status = Status.OPEN;
     private Name differentName;
 
     public RideBuilder() {
@@ -89,8 +91,16 @@ public class RideBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Status} of the {@code Ride} that we are building.
+     */
+    public RideBuilder withStatus(Status status) {
+        this.status = status;
+        return this;
+    }
+
     public Ride build() {
-        return new Ride(name, maintenance, waitingTime, zone, tags);
+        return new Ride(name, maintenance, waitingTime, zone, tags, status);
     }
 
     public Ride buildDifferent() {
@@ -2,6 +2,8 @@ package seedu.thanepark.ui;
 
 import static org.junit.Assert.assertEquals;
 import static seedu.thanepark.testutil.EventsUtil.postNow;
+import static seedu.thanepark.ui.StatusBarFooter.COMMAND_QUEUE_STATUS_BUSY;
+import static seedu.thanepark.ui.StatusBarFooter.COMMAND_QUEUE_STATUS_IDLE;
 import static seedu.thanepark.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.thanepark.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
@@ -18,7 +20,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
+import javafx.scene.control.ProgressBar;
 
+import seedu.thanepark.commons.events.logic.CommandQueueChangedEvent;
 import seedu.thanepark.commons.events.model.ThaneParkChangedEvent;
 import seedu.thanepark.model.ThanePark;
 
@@ -65,6 +69,20 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
     }
 
+    @Test
+    public void display_commandQueueChanged_busyIndicatorShown() {
+        assertEquals(COMMAND_QUEUE_STATUS_IDLE, statusBarFooterHandle.getCommandQueueStatus());
+        assertEquals(0, statusBarFooterHandle.getCommandQueueProgress(), 0);
+
+        postNow(new CommandQueueChangedEvent(3));
+        assertEquals(String.format(COMMAND_QUEUE_STATUS_BUSY, 3), statusBarFooterHandle.getCommandQueueStatus());
+        assertEquals(ProgressBar.INDETERMINATE_PROGRESS, statusBarFooterHandle.getCommandQueueProgress(), 0);
+
+        postNow(new CommandQueueChangedEvent(0));
+        assertEquals(COMMAND_QUEUE_STATUS_IDLE, statusBarFooterHandle.getCommandQueueStatus());
+        assertEquals(0, statusBarFooterHandle.getCommandQueueProgress(), 0);
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
@@ -26,6 +26,7 @@ import static seedu.thanepark.logic.commands.CommandTestUtil.WAIT_TIME_DESC_BOB;
 import static seedu.thanepark.logic.commands.CommandTestUtil.ZONE_DESC_AMY;
 import static seedu.thanepark.logic.commands.CommandTestUtil.ZONE_DESC_BOB;
 import static seedu.thanepark.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.thanepark.model.Model.PREDICATE_SHOW_ALL_RIDES;
 import static seedu.thanepark.testutil.TypicalRides.ACCELERATOR;
 import static seedu.thanepark.testutil.TypicalRides.AMY;
 import static seedu.thanepark.testutil.TypicalRides.BOB;
@@ -75,6 +76,7 @@ public class AddCommandSystemTest extends ThaneParkSystemTest {
         /* Case: redo adding Amy to the list -> Amy added again */
         command = RedoCommand.COMMAND_WORD;
         model.addRide(toAdd);
+        model.updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
         expectedResultMessage = RedoCommand.MESSAGE_SUCCESS;
         assertCommandSuccess(command, model, expectedResultMessage);
 
@@ -215,12 +217,17 @@ public class AddCommandSystemTest extends ThaneParkSystemTest {
 
     /**
      * Performs the same verification as {@code assertCommandSuccess(Ride)}. Executes {@code command}
-     * instead.
+     * instead. The ride list panel keeps its filter, so {@code toAdd} is only expected to be displayed if all rides
+     * were displayed, or if it matches the filter.
      * @see AddCommandSystemTest#assertCommandSuccess(Ride)
      */
     private void assertCommandSuccess(String command, Ride toAdd) {
         Model expectedModel = getModel();
+        boolean isShowingAllRides = isShowingAllRides();
         expectedModel.addRide(toAdd);
+        if (isShowingAllRides) {
+            expectedModel.updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
+        }
         String expectedResultMessage = String.format(AddCommand.MESSAGE_SUCCESS, toAdd);
 
         assertCommandSuccess(command, expectedModel, expectedResultMessage);
@@ -146,6 +146,13 @@ public abstract class ThaneParkSystemTest {
         assertEquals(getModel().getThanePark().getRideList().size(), getModel().getFilteredRideList().size());
     }
 
+    /**
+     * Returns true if all rides in the thanepark book are displayed.
+     */
+    protected boolean isShowingAllRides() {
+        return getModel().getThanePark().getRideList().size() == getModel().getFilteredRideList().size();
+    }
+
     /**
      * Displays all rides with any parts of their names matching {@code keyword} (case-insensitive).
      */
@@ -253,8 +253,11 @@ public class UpdateCommandSystemTest extends ThaneParkSystemTest {
     private void assertCommandSuccess(String command, Index toEdit, Ride editedRide,
             Index expectedSelectedCardIndex) throws IOException {
         Model expectedModel = getModel();
+        boolean isShowingAllRides = isShowingAllRides();
         expectedModel.updateRide(expectedModel.getFilteredRideList().get(toEdit.getZeroBased()), editedRide);
-        expectedModel.updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
+        if (isShowingAllRides) {
+            expectedModel.updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
+        }
 
         assertCommandSuccess(command, expectedModel,
                 String.format(UpdateCommand.MESSAGE_UPDATE_RIDE_SUCCESS, editedRide), expectedSelectedCardIndex);
@@ -267,6 +270,8 @@ public class UpdateCommandSystemTest extends ThaneParkSystemTest {
      */
     private void assertCommandSuccess(String command, Model expectedModel, String expectedResultMessage)
         throws IOException {
+        // undo and redo display all rides
+        expectedModel.updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
         assertCommandSuccess(command, expectedModel, expectedResultMessage, null);
     }
 
@@ -286,7 +291,6 @@ public class UpdateCommandSystemTest extends ThaneParkSystemTest {
     private void assertCommandSuccess(String command, Model expectedModel, String expectedResultMessage,
             Index expectedSelectedCardIndex) throws IOException {
         executeCommand(command);
-        expectedModel.updateFilteredRideList(PREDICATE_SHOW_ALL_RIDES);
         assertApplicationDisplaysExpected("", expectedResultMessage, expectedModel);
         assertCommandBoxShowsDefaultStyle();
         if (expectedSelectedCardIndex != null) {